@@ -0,0 +1,26 @@
+package org.wrk.date.holiday;
+
+import java.nio.ByteBuffer;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <h1>BenchmarkBuffer</h1>class provides a byte buffer, per benchmark thread.
+ * <p>Benchmarks writing into the buffer clear it first, so threads never share its position.</p>
+ *
+ * @author Kelly Willard
+ */
+@State(Scope.Thread)
+public class BenchmarkBuffer {
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+	/**
+	 * <p>Get the buffer of the thread, cleared.</p>
+	 * @return ByteBuffer
+	 */
+	public ByteBuffer cleared() {
+		return this.buffer.clear();
+	}
+}
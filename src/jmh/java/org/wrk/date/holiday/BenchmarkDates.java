@@ -0,0 +1,98 @@
+package org.wrk.date.holiday;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <h1>BenchmarkDates</h1>class provides every day of the benchmark year, per benchmark thread.
+ * <p>Each benchmark invocation takes the next day, so lookups cover holidays and business days alike.</p>
+ *
+ * @author Kelly Willard
+ */
+@State(Scope.Thread)
+public class BenchmarkDates {
+
+	public static final int YEAR = 2024;
+
+	private Calendar[] calendars;
+
+	private Date[] dates;
+
+	private LocalDate[] localDates;
+
+	private long[] epochDays;
+
+	private int index = 0;
+
+	/**
+	 * <p>Create the days of the benchmark year.</p>
+	 */
+	@Setup
+	public void setUp() {
+		int days = LocalDate.of(YEAR, 1, 1).lengthOfYear();
+
+		this.calendars = new Calendar[days];
+		this.dates = new Date[days];
+		this.localDates = new LocalDate[days];
+		this.epochDays = new long[days];
+
+		for(int day = 0; day < days; day++) {
+			LocalDate localDate = LocalDate.of(YEAR, 1, 1).plusDays(day);
+
+			Calendar calendar = Calendar.getInstance();
+
+			calendar.clear();
+
+			calendar.set(localDate.getYear(), localDate.getMonthValue() - 1, localDate.getDayOfMonth());
+
+			this.calendars[day] = calendar;
+			this.dates[day] = calendar.getTime();
+			this.localDates[day] = localDate;
+			this.epochDays[day] = localDate.toEpochDay();
+		}
+	}
+
+	/**
+	 * @return int position of the next day.
+	 */
+	private int next() {
+		int day = this.index;
+
+		this.index = day + 1 < this.epochDays.length ? day + 1 : 0;
+
+		return day;
+	}
+
+	/**
+	 * @return Calendar of the next day.
+	 */
+	public Calendar nextCalendar() {
+		return this.calendars[this.next()];
+	}
+
+	/**
+	 * @return Date of the next day.
+	 */
+	public Date nextDate() {
+		return this.dates[this.next()];
+	}
+
+	/**
+	 * @return long epoch day of the next day.
+	 */
+	public long nextEpochDay() {
+		return this.epochDays[this.next()];
+	}
+
+	/**
+	 * @return LocalDate of the next day.
+	 */
+	public LocalDate nextLocalDate() {
+		return this.localDates[this.next()];
+	}
+}
@@ -0,0 +1,98 @@
+package org.wrk.date.holiday;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h1>BulkClassificationBenchmark</h1>class measures classifying an array of epoch days,
+ * one isHoliday call per element against the bulk methods.
+ *
+ * @author Kelly Willard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkClassificationBenchmark {
+
+	@Param({"4096", "4194304"})
+	private int size;
+
+	@Param({"false", "true"})
+	private boolean parallel;
+
+	private ObservedHolidays observedHolidays;
+
+	private long[] epochDays;
+
+	private byte[] ordinals;
+
+	/**
+	 * <p>Create the shared ObservedHolidays and random days of the indexed years.</p>
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		this.observedHolidays = new ObservedHolidays(BenchmarkDates.YEAR);
+
+		this.observedHolidays.setFirstYear(BenchmarkDates.YEAR - 10);
+
+		this.observedHolidays.setLastYear(BenchmarkDates.YEAR + 10);
+
+		this.observedHolidays.holidayUnobserved(HolidayEnum.COLUMBUS_DAY.name());
+
+		this.observedHolidays.init();
+
+		long first = LocalDate.of(BenchmarkDates.YEAR - 10, 1, 1).toEpochDay();
+
+		SplittableRandom random = new SplittableRandom(BenchmarkDates.YEAR);
+
+		this.epochDays = new long[this.size];
+
+		for(int i = 0; i < this.size; i++) {
+			this.epochDays[i] = first + random.nextInt(21 * 365);
+		}
+
+		this.ordinals = new byte[this.size];
+	}
+
+	@Benchmark
+	public BitSet holidays() {
+		return this.observedHolidays.holidays(this.epochDays, this.parallel);
+	}
+
+	@Benchmark
+	public byte[] holidayOrdinals() {
+		this.observedHolidays.holidayOrdinals(this.epochDays, this.ordinals, this.parallel);
+
+		return this.ordinals;
+	}
+
+	@Benchmark
+	public BitSet isHolidayEach() {
+		BitSet holidays = new BitSet(this.size);
+
+		for(int i = 0; i < this.size; i++) {
+			if(this.observedHolidays.isHoliday(this.epochDays[i])) {
+				holidays.set(i);
+			}
+		}
+
+		return holidays;
+	}
+}
@@ -0,0 +1,74 @@
+package org.wrk.date.holiday;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h1>FederalHolidaysBenchmark</h1>class measures the FederalHolidays construction and lookup paths.
+ *
+ * @author Kelly Willard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FederalHolidaysBenchmark {
+
+	private FederalHolidays federalHolidays;
+
+	/**
+	 * <p>Create the shared FederalHolidays.</p>
+	 */
+	@Setup
+	public void setUp() {
+		this.federalHolidays = new FederalHolidays(BenchmarkDates.YEAR);
+
+		this.federalHolidays.init();
+	}
+
+	@Benchmark
+	public FederalHolidays init() {
+		FederalHolidays holidays = new FederalHolidays(BenchmarkDates.YEAR);
+
+		holidays.init();
+
+		return holidays;
+	}
+
+	@Benchmark
+	public boolean isHolidayCalendar(BenchmarkDates dates) throws Exception {
+		return this.federalHolidays.isHoliday(dates.nextCalendar());
+	}
+
+	@Benchmark
+	public boolean isHolidayDate(BenchmarkDates dates) throws Exception {
+		return this.federalHolidays.isHoliday(dates.nextDate());
+	}
+
+	@Benchmark
+	public boolean isHolidayEpochDay(BenchmarkDates dates) {
+		return this.federalHolidays.isHoliday(dates.nextEpochDay());
+	}
+
+	@Benchmark
+	public boolean isHolidayLocalDate(BenchmarkDates dates) throws Exception {
+		return this.federalHolidays.isHoliday(dates.nextLocalDate());
+	}
+
+	@Benchmark
+	public String[] toHolidays() {
+		return this.federalHolidays.toHolidays();
+	}
+}
@@ -0,0 +1,49 @@
+package org.wrk.date.holiday;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <h1>HolidayBenchmarks</h1>class runs the JMH benchmark suite.
+ * <p>Every benchmark runs single-threaded and then with one thread per available processor,<br/>
+ * with allocation profiling (-prof gc) enabled.</p>
+ * <h4>Usage</h4>
+ * <ul>
+ * <li>mvn -P benchmark package
+ * <li>java -jar target/benchmarks.jar [benchmark regex]
+ * <li>java -cp target/benchmarks.jar org.openjdk.jmh.Main [JMH options] for the standard JMH command line.
+ * </ul>
+ * <p>Performance changes to the library are measured against this suite.</p>
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayBenchmarks {
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private HolidayBenchmarks() {
+	}
+
+	/**
+	 * <p>Run the benchmarks.</p>
+	 * @param args optional regular expression selecting the benchmarks, all benchmarks by default.
+	 * @throws RunnerException if a benchmark fails.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : HolidayBenchmarks.class.getPackageName() + ".*Benchmark.*";
+
+		for(int threads : new int[] { 1, Runtime.getRuntime().availableProcessors() }) {
+			Options options = new OptionsBuilder()
+					.include(include)
+					.threads(threads)
+					.addProfiler(GCProfiler.class)
+					.build();
+
+			new Runner(options).run();
+		}
+	}
+}
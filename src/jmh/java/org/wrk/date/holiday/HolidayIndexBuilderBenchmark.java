@@ -0,0 +1,61 @@
+package org.wrk.date.holiday;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h1>HolidayIndexBuilderBenchmark</h1>class measures building the index of a wide year range
+ * sequentially and on fork/join pools of increasing parallelism.
+ * <p>Compare the scores across parallelism on a machine with at least as many cores.</p>
+ *
+ * @author Kelly Willard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayIndexBuilderBenchmark {
+
+	@Param({"1", "2", "4", "8"})
+	private int parallelism;
+
+	@Param({"200", "5000"})
+	private int years;
+
+	private HolidayIndexBuilder builder;
+
+	/**
+	 * <p>Create the builder of the parallelism.</p>
+	 */
+	@Setup
+	public void setUp() {
+		this.builder = new HolidayIndexBuilder(this.parallelism);
+	}
+
+	/**
+	 * <p>Release the pool of the builder.</p>
+	 */
+	@TearDown
+	public void tearDown() {
+		this.builder.close();
+	}
+
+	@Benchmark
+	public HolidayIndex build() {
+		return this.builder.build(1900, 1900 + this.years - 1, true, true);
+	}
+}
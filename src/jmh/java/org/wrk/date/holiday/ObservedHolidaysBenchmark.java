@@ -0,0 +1,82 @@
+package org.wrk.date.holiday;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h1>ObservedHolidaysBenchmark</h1>class measures the ObservedHolidays lookup, clone and listing paths.
+ * <p>Configured as the corporate holidays of the test application context.</p>
+ *
+ * @author Kelly Willard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObservedHolidaysBenchmark {
+
+	private ObservedHolidays observedHolidays;
+
+	/**
+	 * <p>Create the shared ObservedHolidays.</p>
+	 * @throws Exception if a holiday name is invalid.
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		this.observedHolidays = new ObservedHolidays(BenchmarkDates.YEAR);
+
+		for(HolidayEnum day : new HolidayEnum[] { HolidayEnum.COLUMBUS_DAY, HolidayEnum.JUNETEENTH_DAY, HolidayEnum.MARTINLUTHERKINGJR_DAY, HolidayEnum.PRESIDENTS_DAY, HolidayEnum.VETERANS_DAY }) {
+			this.observedHolidays.holidayUnobserved(day.name());
+		}
+
+		this.observedHolidays.init();
+	}
+
+	@Benchmark
+	public ObservedHolidays cloneYear() {
+		return this.observedHolidays.clone(BenchmarkDates.YEAR + 1);
+	}
+
+	@Benchmark
+	public HolidayListing holidayListing() throws Exception {
+		return this.observedHolidays.getHolidayListing();
+	}
+
+	@Benchmark
+	public ByteBuffer writeListing(BenchmarkBuffer buffer) throws Exception {
+		return this.observedHolidays.getHolidayListing().writeTo(buffer.cleared());
+	}
+
+	@Benchmark
+	public String[] toHolidays() {
+		return this.observedHolidays.toHolidays();
+	}
+
+	@Benchmark
+	public Holiday whichHolidayCalendar(BenchmarkDates dates) throws Exception {
+		return this.observedHolidays.whichHoliday(dates.nextCalendar());
+	}
+
+	@Benchmark
+	public Holiday whichHolidayDate(BenchmarkDates dates) throws Exception {
+		return this.observedHolidays.whichHoliday(dates.nextDate());
+	}
+
+	@Benchmark
+	public Holiday whichHolidayLocalDate(BenchmarkDates dates) throws Exception {
+		return this.observedHolidays.whichHoliday(dates.nextLocalDate());
+	}
+}
@@ -0,0 +1,602 @@
+package org.wrk.date.holiday;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h1>BusinessCalendar</h1>class provides business day arithmetic over the year range of a HolidayIndex.
+ * <p>A business day is a day that is neither a weekend nor an observed holiday.</p>
+ * <h4>Functionality</h4>
+ * <ul>
+ * <li>isBusinessDay - will return true if the specified date is a business day else false.
+ * <li>addBusinessDays - will return the date the specified number of business days away.
+ * <li>businessDaysBetween - will return the number of business days from one date up to another.
+ * <li>nextBusinessDay / previousBusinessDay - will return the closest business day after or before the specified date.
+ * <li>nextHoliday / previousHoliday - will return the closest observed holiday after or before the specified date.
+ * <li>businessDays / holidays - will return a stream of the business days or observed holidays from one date up to another.
+ * <li>listing - will return the observed holidays of a year sorted by date, computed on first use and shared.
+ * </ul>
+ * <p>The cumulative business day count and the list of business days are precomputed,<br/>
+ * thus every business day method answers in constant time regardless of the distance between dates.<br/>
+ * Holidays are found by binary search over the sorted observed holiday days, across year boundaries.</p>
+ * <p>Navigation running off either end of the year range, such as the next business day after December 31st of the last year,<br/>
+ * continues into the year following or preceding the range with the HolidayTemplates.  Other methods are bounded by the range.</p>
+ * <p>The business calendar is not modified after construction and may be shared.</p>
+ * @see org.wrk.date.holiday.HolidayIndex
+ * @see org.wrk.date.holiday.HolidayTemplates
+ *
+ * @author Kelly Willard
+ */
+public final class BusinessCalendar {
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	private final HolidayIndex holidayIndex;
+
+	// Bit per HolidayEnum ordinal, set when the holiday is observed.
+	private final int observedMask;
+
+	// Number of business days before each day of the index, plus the total.
+	private final int[] counts;
+
+	// Offset from the first day of the index of every business day, in ascending order.
+	private final int[] businessDays;
+
+	// Offset from the first day of the index of every observed holiday, in ascending order.
+	private final int[] holidayDays;
+
+	// Listing of each year of the index, computed on first use.
+	private final AtomicReferenceArray<HolidayListing> listings;
+
+	/**
+	 * <p>constructor</p>
+	 * @param holidayIndex computed holidays.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 */
+	public BusinessCalendar(HolidayIndex holidayIndex, int observedMask) {
+		this.holidayIndex = holidayIndex;
+		this.observedMask = observedMask;
+
+		int dayCount = (int) (holidayIndex.getLastDay() - holidayIndex.getFirstDay() + 1);
+
+		this.counts = new int[dayCount + 1];
+
+		int[] days = new int[dayCount];
+
+		int[] holidays = new int[dayCount];
+
+		int count = 0;
+
+		int holidayCount = 0;
+
+		for(int offset = 0; offset < dayCount; offset++) {
+			long epochDay = holidayIndex.getFirstDay() + offset;
+
+			this.counts[offset] = count;
+
+			if(this.isOpen(epochDay)) {
+				days[count++] = offset;
+			}
+
+			if(this.isObservedHoliday(epochDay)) {
+				holidays[holidayCount++] = offset;
+			}
+		}
+
+		this.counts[dayCount] = count;
+
+		this.businessDays = Arrays.copyOf(days, count);
+
+		this.holidayDays = Arrays.copyOf(holidays, holidayCount);
+
+		this.listings = new AtomicReferenceArray<>(holidayIndex.getLastYear() - holidayIndex.getFirstYear() + 1);
+	}
+
+	/**
+	 * <p>Is the epoch day an observed holiday?</p>
+	 * @param epochDay value within the index.
+	 * @return boolean
+	 */
+	private boolean isObservedHoliday(long epochDay) {
+		int ordinal = this.holidayIndex.ordinal(epochDay);
+
+		return ordinal >= 0 && (this.observedMask & (1 << ordinal)) != 0;
+	}
+
+	/**
+	 * <p>Is the epoch day neither a weekend nor an observed holiday?</p>
+	 * @param epochDay value within the index.
+	 * @return boolean
+	 */
+	private boolean isOpen(long epochDay) {
+		return !EpochDays.isWeekEnd(epochDay) && !this.isObservedHoliday(epochDay);
+	}
+
+	/**
+	 * <p>Year templates answering the years adjacent to the year range.</p>
+	 * @return HolidayTemplates of the rules and observable flags of the index, shared.
+	 */
+	private HolidayTemplates templates() {
+		return HolidayTemplates.of(this.holidayIndex.getHolidayRules(), this.holidayIndex.isSaturdayObservable(), this.holidayIndex.isSundayObservable());
+	}
+
+	/**
+	 * <p>Is the epoch day an observed holiday of the year templates?</p>
+	 * @param templates answering days outside of the index.
+	 * @param epochDay value within the years answered by the templates.
+	 * @return boolean
+	 */
+	private boolean isObservedHoliday(HolidayTemplates templates, long epochDay) {
+		return templates.ordinal(epochDay, this.observedMask) >= 0;
+	}
+
+	/**
+	 * <p>First epoch day of the year preceding the year range, the first day of the index if there is none.</p>
+	 * @param templates answering days outside of the index.
+	 * @return long
+	 */
+	private long adjacentFirstDay(HolidayTemplates templates) {
+		int year = Math.max(this.holidayIndex.getFirstYear() - 1, templates.getFirstYear());
+
+		return Math.min(EpochDays.of(year, 1, 1), this.holidayIndex.getFirstDay());
+	}
+
+	/**
+	 * <p>Last epoch day of the year following the year range, the last day of the index if there is none.</p>
+	 * @param templates answering days outside of the index.
+	 * @return long
+	 */
+	private long adjacentLastDay(HolidayTemplates templates) {
+		int year = Math.min(this.holidayIndex.getLastYear() + 1, templates.getLastYear());
+
+		return Math.max(EpochDays.of(year, 12, 31), this.holidayIndex.getLastDay());
+	}
+
+	/**
+	 * <p>Count business days beyond either end of the index, within the adjacent year.</p>
+	 * @param epochDay the starting day, for the exception message.
+	 * @param businessDays number of business days added, for the exception message.
+	 * @param position of the resulting business day, before the first or after the last business day of the index.
+	 * @return long epoch day of the resulting business day.
+	 * @throws IllegalArgumentException if the result is beyond the adjacent year.
+	 */
+	private long adjacentBusinessDay(long epochDay, int businessDays, long position) {
+		HolidayTemplates templates = this.templates();
+
+		boolean forward = position >= 0;
+
+		// Business days remaining beyond the end of the index.
+		long remaining = forward ? position - this.businessDays.length + 1 : -position;
+
+		long day = forward ? this.holidayIndex.getLastDay() : this.holidayIndex.getFirstDay();
+
+		long limit = forward ? this.adjacentLastDay(templates) : this.adjacentFirstDay(templates);
+
+		while(day != limit) {
+			day += forward ? 1 : -1;
+
+			if(!EpochDays.isWeekEnd(day) && !this.isObservedHoliday(templates, day) && --remaining == 0) {
+				return day;
+			}
+		}
+
+		throw new IllegalArgumentException(String.format("Adding %d business days to epoch day %d is outside of the year range %d to %d.", businessDays, epochDay, this.holidayIndex.getFirstYear(), this.holidayIndex.getLastYear()));
+	}
+
+	/**
+	 * <p>Find the closest observed holiday beyond either end of the index, within the adjacent year.</p>
+	 * @param forward true for the year following the range, false for the year preceding it.
+	 * @return Holiday or null if none is observed within the adjacent year.
+	 */
+	private Holiday adjacentHoliday(boolean forward) {
+		HolidayTemplates templates = this.templates();
+
+		long day = forward ? this.holidayIndex.getLastDay() : this.holidayIndex.getFirstDay();
+
+		long limit = forward ? this.adjacentLastDay(templates) : this.adjacentFirstDay(templates);
+
+		while(day != limit) {
+			day += forward ? 1 : -1;
+
+			if(this.isObservedHoliday(templates, day)) {
+				return templates.whichHoliday(day);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * <p>Position of the first element of the ascending array not less than the key.</p>
+	 * @param days ascending offsets without duplicates.
+	 * @param key offset to find.
+	 * @return int position, days.length if every element is less than the key.
+	 */
+	private static int lowerBound(int[] days, int key) {
+		int position = Arrays.binarySearch(days, key);
+
+		// Not found returns (-insertion point - 1).
+		return position >= 0 ? position : -position - 1;
+	}
+
+	/**
+	 * <p>Stream the epoch days of the positions from start up to end, empty if end is before start.</p>
+	 * @param days ascending offsets.
+	 * @param start first position streamed.
+	 * @param end position following the last streamed.
+	 * @return LongStream sized, sorted and evenly splittable.
+	 */
+	private LongStream stream(int[] days, int start, int end) {
+		return StreamSupport.longStream(new EpochDaySpliterator(days, this.holidayIndex.getFirstDay(), start, Math.max(start, end)), false);
+	}
+
+	/**
+	 * <p>Offset of the epoch day from the first day of the index.</p>
+	 * @param epochDay value to convert.
+	 * @param limit greatest offset allowed.
+	 * @return int offset.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range.
+	 */
+	private int offset(long epochDay, int limit) {
+		long offset = epochDay - this.holidayIndex.getFirstDay();
+
+		if(offset < 0 || offset > limit) {
+			throw new IllegalArgumentException(String.format("Epoch day %d is outside of the year range %d to %d.", epochDay, this.holidayIndex.getFirstYear(), this.holidayIndex.getLastYear()));
+		}
+
+		return (int) offset;
+	}
+
+	/**
+	 * <p>Add a number of business days to the epoch day.</p>
+	 * <p>A positive number counts forward and a negative number counts backward, skipping weekends and observed holidays.<br/>
+	 * The epoch day itself is not counted, so adding 1 returns the next business day even when the epoch day is not a business day.<br/>
+	 * Adding 0 returns the epoch day unchanged.  The result may fall within the year following or preceding the range.</p>
+	 * @param epochDay the starting day.
+	 * @param businessDays number of business days to add.
+	 * @return long epoch day of the resulting business day.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range or the result is beyond the adjacent year.
+	 */
+	public long addBusinessDays(long epochDay, int businessDays) {
+		int offset = this.offset(epochDay, this.counts.length - 2);
+
+		if(businessDays == 0) {
+			return epochDay;
+		}
+
+		// Position of the resulting business day, counts[offset] business days precede the epoch day.
+		long position = (long) this.counts[offset] + businessDays;
+
+		if(businessDays > 0) {
+			// Not counting the epoch day itself when it is a business day.
+			position += this.counts[offset + 1] - this.counts[offset] - 1;
+		}
+
+		if(position < 0 || position >= this.businessDays.length) {
+			return this.adjacentBusinessDay(epochDay, businessDays, position);
+		}
+
+		return this.holidayIndex.getFirstDay() + this.businessDays[(int) position];
+	}
+
+	/**
+	 * <p>Add a number of business days to the date.</p>
+	 * @param date the starting date.
+	 * @param businessDays number of business days to add.
+	 * @return LocalDate of the resulting business day.
+	 * @throws IllegalArgumentException if the date is outside of the year range or the result is beyond the adjacent year.
+	 * @see #addBusinessDays(long, int)
+	 */
+	public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+		return LocalDate.ofEpochDay(this.addBusinessDays(date.toEpochDay(), businessDays));
+	}
+
+	/**
+	 * <p>Stream the business days from one epoch day up to, but not including, another.</p>
+	 * <p>The stream is sized and splits evenly, thus parallel streams scale across multi-decade ranges.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last day streamed; may be the day after the year range.
+	 * @return IntStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 */
+	public IntStream businessDays(int from, int to) {
+		return this.businessDays((long) from, (long) to).mapToInt(epochDay -> (int) epochDay);
+	}
+
+	/**
+	 * <p>Stream the business days from one epoch day up to, but not including, another.</p>
+	 * <p>The stream is sized and splits evenly, thus parallel streams scale across multi-decade ranges.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last day streamed; may be the day after the year range.
+	 * @return LongStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 */
+	public LongStream businessDays(long from, long to) {
+		int limit = this.counts.length - 1;
+
+		return this.stream(this.businessDays, this.counts[this.offset(from, limit)], this.counts[this.offset(to, limit)]);
+	}
+
+	/**
+	 * <p>Stream the business days from one date up to, but not including, another.</p>
+	 * @param from the first date streamed.
+	 * @param to the date following the last date streamed.
+	 * @return Stream of LocalDate in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either date is outside of the year range.
+	 */
+	public Stream<LocalDate> businessDays(LocalDate from, LocalDate to) {
+		return this.businessDays(from.toEpochDay(), to.toEpochDay()).mapToObj(LocalDate::ofEpochDay);
+	}
+
+	/**
+	 * <p>Count the business days from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day counted.
+	 * @param to the epoch day following the last day counted; may be the day after the year range.
+	 * @return int number of business days, negative if to is before from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 */
+	public int businessDaysBetween(long from, long to) {
+		int limit = this.counts.length - 1;
+
+		return this.counts[this.offset(to, limit)] - this.counts[this.offset(from, limit)];
+	}
+
+	/**
+	 * <p>Count the business days from one date up to, but not including, another.</p>
+	 * @param from the first date counted.
+	 * @param to the date following the last date counted.
+	 * @return int number of business days, negative if to is before from.
+	 * @throws IllegalArgumentException if either date is outside of the year range.
+	 */
+	public int businessDaysBetween(LocalDate from, LocalDate to) {
+		return this.businessDaysBetween(from.toEpochDay(), to.toEpochDay());
+	}
+
+	/**
+	 * <p>Get the holiday index of the business calendar.</p>
+	 * @return HolidayIndex
+	 */
+	public HolidayIndex getHolidayIndex() {
+		return holidayIndex;
+	}
+
+	/**
+	 * <p>Get the observed holidays as a bit per HolidayEnum ordinal.</p>
+	 * @return int
+	 */
+	public int getObservedMask() {
+		return observedMask;
+	}
+
+	/**
+	 * <p>Stream the observed holidays from one epoch day up to, but not including, another.</p>
+	 * <p>The stream is sized and splits evenly, thus parallel streams scale across multi-decade ranges.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last day streamed; may be the day after the year range.
+	 * @return IntStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 */
+	public IntStream holidays(int from, int to) {
+		return this.holidays((long) from, (long) to).mapToInt(epochDay -> (int) epochDay);
+	}
+
+	/**
+	 * <p>Stream the observed holidays from one epoch day up to, but not including, another.</p>
+	 * <p>The stream is sized and splits evenly, thus parallel streams scale across multi-decade ranges.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last day streamed; may be the day after the year range.
+	 * @return LongStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 */
+	public LongStream holidays(long from, long to) {
+		int limit = this.counts.length - 1;
+
+		return this.stream(this.holidayDays, lowerBound(this.holidayDays, this.offset(from, limit)), lowerBound(this.holidayDays, this.offset(to, limit)));
+	}
+
+	/**
+	 * <p>Stream the observed holidays from one date up to, but not including, another.</p>
+	 * @param from the first date streamed.
+	 * @param to the date following the last date streamed.
+	 * @return Stream of LocalDate in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either date is outside of the year range.
+	 */
+	public Stream<LocalDate> holidays(LocalDate from, LocalDate to) {
+		return this.holidays(from.toEpochDay(), to.toEpochDay()).mapToObj(LocalDate::ofEpochDay);
+	}
+
+	/**
+	 * <p>Is the epoch day a business day?</p>
+	 * @param epochDay value to be determined.
+	 * @return boolean true if neither a weekend nor an observed holiday else false.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range.
+	 */
+	public boolean isBusinessDay(long epochDay) {
+		int offset = this.offset(epochDay, this.counts.length - 2);
+
+		return this.counts[offset + 1] != this.counts[offset];
+	}
+
+	/**
+	 * <p>Is the date a business day?</p>
+	 * @param date value to be determined.
+	 * @return boolean true if neither a weekend nor an observed holiday else false.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public boolean isBusinessDay(LocalDate date) {
+		return this.isBusinessDay(date.toEpochDay());
+	}
+
+	/**
+	 * <p>List the observed holidays of a year sorted by date.</p>
+	 * <p>The holidays of a year are those of the year's rules, as loaded by FederalHolidays.init(),<br/>
+	 * thus New Years day observed on December 31st is listed with the following year.<br/>
+	 * The listing is computed on first use and the same listing is returned afterward.</p>
+	 * @param year within the year range.
+	 * @return HolidayListing
+	 * @throws IllegalArgumentException if the year is outside of the year range.
+	 */
+	public HolidayListing listing(int year) {
+		if(year < this.holidayIndex.getFirstYear() || year > this.holidayIndex.getLastYear()) {
+			throw new IllegalArgumentException(String.format("Year %d is outside of the year range %d to %d.", year, this.holidayIndex.getFirstYear(), this.holidayIndex.getLastYear()));
+		}
+
+		int slot = year - this.holidayIndex.getFirstYear();
+
+		HolidayListing listing = this.listings.get(slot);
+
+		if(listing == null) {
+			// Racing threads compute equal listings, the first one stored is kept.
+			this.listings.compareAndSet(slot, null, this.loadListing(year));
+
+			listing = this.listings.get(slot);
+		}
+
+		return listing;
+	}
+
+	/**
+	 * <p>Compute the listing of a year from the holiday rules.</p>
+	 * @param year within the year range.
+	 * @return HolidayListing of the observed holidays, one holiday per date.
+	 */
+	private HolidayListing loadListing(int year) {
+		HolidayRuleSet rules = this.holidayIndex.getHolidayRules();
+
+		long[] observedDays = new long[DAYS.length];
+
+		long[] actualDays = new long[observedDays.length];
+
+		rules.observedDays(year, this.holidayIndex.isSaturdayObservable(), this.holidayIndex.isSundayObservable(), observedDays);
+
+		rules.actualDays(year, actualDays);
+
+		// Epoch day and ordinal packed into a long, thus sorting orders by date and then by HolidayEnum.
+		long[] entries = new long[observedDays.length];
+
+		int count = 0;
+
+		for(HolidayRule rule : rules.getRules()) {
+			int ordinal = rule.getDay().ordinal();
+
+			if(observedDays[ordinal] != HolidayCalculator.NONE && (this.observedMask & (1 << ordinal)) != 0) {
+				entries[count++] = (observedDays[ordinal] << 8) | ordinal;
+			}
+		}
+
+		Arrays.sort(entries, 0, count);
+
+		Holiday[] holidays = new Holiday[count];
+
+		long[] epochDays = new long[count];
+
+		int size = 0;
+
+		for(int index = 0; index < count; index++) {
+			long epochDay = entries[index] >> 8;
+
+			// One holiday per date.
+			if(size == 0 || epochDays[size - 1] != epochDay) {
+				int ordinal = (int) (entries[index] & 0xFF);
+
+				epochDays[size] = epochDay;
+
+				holidays[size++] = new ImmutableHoliday(epochDay, DAYS[ordinal], !rules.isActualDay(DAYS[ordinal]) || epochDay != actualDays[ordinal]);
+			}
+		}
+
+		return new HolidayListing(Arrays.copyOf(holidays, size), Arrays.copyOf(epochDays, size));
+	}
+
+	/**
+	 * <p>Find the closest business day after the epoch day.</p>
+	 * @param epochDay the starting day.
+	 * @return long epoch day of the next business day.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range.
+	 */
+	public long nextBusinessDay(long epochDay) {
+		return this.addBusinessDays(epochDay, 1);
+	}
+
+	/**
+	 * <p>Find the closest business day after the date.</p>
+	 * @param date the starting date.
+	 * @return LocalDate of the next business day.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public LocalDate nextBusinessDay(LocalDate date) {
+		return this.addBusinessDays(date, 1);
+	}
+
+	/**
+	 * <p>Find the closest observed holiday after the epoch day.</p>
+	 * @param epochDay the starting day.
+	 * @return Holiday or null if no observed holiday follows within the year range or the following year.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range.
+	 */
+	public Holiday nextHoliday(long epochDay) {
+		int position = lowerBound(this.holidayDays, this.offset(epochDay, this.counts.length - 2) + 1);
+
+		return position < this.holidayDays.length ? this.holidayIndex.whichHoliday(this.holidayIndex.getFirstDay() + this.holidayDays[position]) : this.adjacentHoliday(true);
+	}
+
+	/**
+	 * <p>Find the closest observed holiday after the date.</p>
+	 * @param date the starting date.
+	 * @return Holiday or null if no observed holiday follows within the year range or the following year.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public Holiday nextHoliday(LocalDate date) {
+		return this.nextHoliday(date.toEpochDay());
+	}
+
+	/**
+	 * <p>Find the closest business day before the epoch day.</p>
+	 * @param epochDay the starting day.
+	 * @return long epoch day of the previous business day.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range.
+	 */
+	public long previousBusinessDay(long epochDay) {
+		return this.addBusinessDays(epochDay, -1);
+	}
+
+	/**
+	 * <p>Find the closest business day before the date.</p>
+	 * @param date the starting date.
+	 * @return LocalDate of the previous business day.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public LocalDate previousBusinessDay(LocalDate date) {
+		return this.addBusinessDays(date, -1);
+	}
+
+	/**
+	 * <p>Find the closest observed holiday before the epoch day.</p>
+	 * @param epochDay the starting day.
+	 * @return Holiday or null if no observed holiday precedes within the year range or the preceding year.
+	 * @throws IllegalArgumentException if the epoch day is outside of the year range.
+	 */
+	public Holiday previousHoliday(long epochDay) {
+		int position = Arrays.binarySearch(this.holidayDays, this.offset(epochDay, this.counts.length - 2) - 1);
+
+		// Not found returns (-insertion point - 1), the holiday before the insertion point is the previous holiday.
+		position = position >= 0 ? position : -position - 2;
+
+		return position >= 0 ? this.holidayIndex.whichHoliday(this.holidayIndex.getFirstDay() + this.holidayDays[position]) : this.adjacentHoliday(false);
+	}
+
+	/**
+	 * <p>Find the closest observed holiday before the date.</p>
+	 * @param date the starting date.
+	 * @return Holiday or null if no observed holiday precedes within the year range or the preceding year.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public Holiday previousHoliday(LocalDate date) {
+		return this.previousHoliday(date.toEpochDay());
+	}
+}
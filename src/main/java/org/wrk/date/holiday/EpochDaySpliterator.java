@@ -0,0 +1,115 @@
+package org.wrk.date.holiday;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * <h1>EpochDaySpliterator</h1>class traverses a range of a sorted array of day offsets as epoch days.
+ * <p>Backs the business day and holiday streams of BusinessCalendar.<br/>
+ * The exact size is known up front and every split halves the remaining range, reporting:</p>
+ * <ul>
+ * <li>SIZED and SUBSIZED, so parallel streams split evenly and collect into presized arrays.
+ * <li>ORDERED, SORTED and DISTINCT, since the offsets are ascending without duplicates.
+ * <li>IMMUTABLE and NONNULL, since the offsets are never modified.
+ * </ul>
+ * @see org.wrk.date.holiday.BusinessCalendar
+ *
+ * @author Kelly Willard
+ */
+final class EpochDaySpliterator implements Spliterator.OfLong {
+
+	private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+	// Ascending day offsets, shared and never modified.
+	private final int[] offsets;
+
+	// Epoch day of offset 0.
+	private final long firstDay;
+
+	// Next position traversed.
+	private int position;
+
+	// Position following the last traversed.
+	private final int end;
+
+	/**
+	 * <p>constructor</p>
+	 * @param offsets ascending day offsets.
+	 * @param firstDay epoch day of offset 0.
+	 * @param position first position traversed.
+	 * @param end position following the last traversed.
+	 */
+	EpochDaySpliterator(int[] offsets, long firstDay, int position, int end) {
+		this.offsets = offsets;
+		this.firstDay = firstDay;
+		this.position = position;
+		this.end = end;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+	@Override
+	public long estimateSize() {
+		return this.end - this.position;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+		int[] days = this.offsets;
+
+		long first = this.firstDay;
+
+		int last = this.end;
+
+		for(int i = this.position; i < last; i++) {
+			action.accept(first + days[i]);
+		}
+
+		this.position = last;
+	}
+
+	/**
+	 * <p>Epoch days are in natural order.</p>
+	 * @return null
+	 */
+	@Override
+	public Comparator<? super Long> getComparator() {
+		return null;
+	}
+
+	@Override
+	public long getExactSizeIfKnown() {
+		return this.end - this.position;
+	}
+
+	@Override
+	public boolean tryAdvance(LongConsumer action) {
+		if(this.position < this.end) {
+			action.accept(this.firstDay + this.offsets[this.position++]);
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public Spliterator.OfLong trySplit() {
+		int middle = (this.position + this.end) >>> 1;
+
+		if(middle <= this.position) {
+			return null;
+		}
+
+		// The prefix is split off, this spliterator keeps the suffix.
+		EpochDaySpliterator prefix = new EpochDaySpliterator(this.offsets, this.firstDay, this.position, middle);
+
+		this.position = middle;
+
+		return prefix;
+	}
+}
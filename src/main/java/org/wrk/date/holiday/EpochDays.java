@@ -0,0 +1,169 @@
+package org.wrk.date.holiday;
+
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+/**
+ * <h1>EpochDays</h1>class converts calendar dates to and from epoch day values.
+ * <p>An epoch day is the number of days since January 1st 1970 in the proleptic Gregorian calendar,<br/>
+ * the same value returned by <i>java.time.LocalDate.toEpochDay()</i>.</p>
+ * <p>All methods but toCalendar are pure integer arithmetic and do not allocate objects for dates from 1583 onward.</p>
+ * <h4>Calendar dates</h4>
+ * <p>A default GregorianCalendar holds Julian dates before October 15th 1582, thus its year, month and day fields<br/>
+ * are not those of the proleptic Gregorian epoch day.  Such dates are converted through their instant and time zone,<br/>
+ * and Calendar values are created purely Gregorian, so holidays of any year from 1 are dated as computed.</p>
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+public final class EpochDays {
+
+	// January 1st 1583 UTC in milliseconds, after the Gregorian change in any time zone; later calendar fields are Gregorian.
+	private static final long GREGORIAN_MILLIS = of(1583, 1, 1) * 86_400_000L;
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private EpochDays() {
+	}
+
+	/**
+	 * <p>Convert a year, month and day of month to an epoch day.</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfMonth value of the date, 1 through 31.
+	 * @return long epoch day.
+	 */
+	public static long of(int year, int month, int dayOfMonth) {
+		// Shift the year to begin in March so the leap day is the last day of the year.
+		long y = month <= 2 ? year - 1L : year;
+
+		long era = (y >= 0 ? y : y - 399) / 400;
+
+		long yearOfEra = y - era * 400;
+
+		long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + dayOfMonth - 1;
+
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+		// 719468 is the number of days from 0000-03-01 to 1970-01-01.
+		return era * 146097 + dayOfEra - 719468;
+	}
+
+	/**
+	 * <p>Convert the year, month and day of month fields of the calendar date to an epoch day.</p>
+	 * <p>The time stamp of the calendar date is ignored and the calendar date is not modified.<br/>
+	 * Dates before 1583 are converted through the instant in the time zone of the calendar date, since their fields may be Julian.</p>
+	 * @param date value to convert.
+	 * @return long epoch day.
+	 */
+	public static long of(Calendar date) {
+		if(date.getTimeInMillis() < GREGORIAN_MILLIS) {
+			return Instant.ofEpochMilli(date.getTimeInMillis()).atZone(date.getTimeZone().toZoneId()).toLocalDate().toEpochDay();
+		}
+
+		return of(date.get(Calendar.YEAR), date.get(Calendar.MONTH) + 1, date.get(Calendar.DAY_OF_MONTH));
+	}
+
+	/**
+	 * <p>Create a purely Gregorian calendar of the default time zone, its fields cleared.</p>
+	 * @return GregorianCalendar without a Julian calendar before 1582.
+	 */
+	static GregorianCalendar gregorianCalendar() {
+		GregorianCalendar calendar = new GregorianCalendar();
+
+		calendar.setGregorianChange(new Date(Long.MIN_VALUE));
+
+		calendar.clear();
+
+		return calendar;
+	}
+
+	/**
+	 * <p>Convert an epoch day to a calendar date of the default time zone.</p>
+	 * <p>The calendar is purely Gregorian, thus its fields are those of the epoch day for any year.</p>
+	 * @param epochDay value to convert, from year 1 onward.
+	 * @return Calendar value with no time stamp, a new instance.
+	 */
+	public static Calendar toCalendar(long epochDay) {
+		long date = toPackedDate(epochDay);
+
+		Calendar calendar = gregorianCalendar();
+
+		calendar.set((int) (date / 10000), (int) (date / 100 % 100) - 1, (int) (date % 100));
+
+		return calendar;
+	}
+
+	/**
+	 * <p>Day of the week of an epoch day.</p>
+	 * @param epochDay value to determine the day of the week.
+	 * @return int 1 (Monday) through 7 (Sunday), matching java.time.DayOfWeek values.
+	 */
+	public static int dayOfWeek(long epochDay) {
+		// January 1st 1970 is a Thursday.
+		return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+	}
+
+	/**
+	 * <p>Does the epoch day occur on a weekend?</p>
+	 * @param epochDay value to be determined.
+	 * @return boolean true if Saturday or Sunday else false.
+	 */
+	public static boolean isWeekEnd(long epochDay) {
+		return dayOfWeek(epochDay) >= 6;
+	}
+
+	/**
+	 * <p>Calendar year of an epoch day.</p>
+	 * @param epochDay value to determine the year.
+	 * @return int year.
+	 */
+	public static int year(long epochDay) {
+		// Shift the epoch to 0000-03-01 so the leap day is the last day of the year.
+		long z = epochDay + 719468;
+
+		long era = (z >= 0 ? z : z - 146096) / 146097;
+
+		long dayOfEra = z - era * 146097;
+
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+
+		// January and February belong to the following year.
+		return (int) (yearOfEra + era * 400 + (dayOfYear >= 306 ? 1 : 0));
+	}
+
+	/**
+	 * <p>Convert an epoch day to a packed yyyymmdd value.</p>
+	 * <p>Example: December 25th 2024 is 20241225.</p>
+	 * @param epochDay value to convert, from year 1 onward.
+	 * @return long year * 10000 + month * 100 + day of month.
+	 */
+	public static long toPackedDate(long epochDay) {
+		// Shift the epoch to 0000-03-01 so the leap day is the last day of the year.
+		long z = epochDay + 719468;
+
+		long era = (z >= 0 ? z : z - 146096) / 146097;
+
+		long dayOfEra = z - era * 146097;
+
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+
+		// Month counted from March.
+		long monthOfYear = (5 * dayOfYear + 2) / 153;
+
+		long dayOfMonth = dayOfYear - (153 * monthOfYear + 2) / 5 + 1;
+
+		long month = monthOfYear < 10 ? monthOfYear + 3 : monthOfYear - 9;
+
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		return year * 10000 + month * 100 + dayOfMonth;
+	}
+}
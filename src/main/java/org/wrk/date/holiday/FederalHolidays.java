@@ -1,22 +1,50 @@
 package org.wrk.date.holiday;
 
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.BitSet;
 import java.util.Calendar;
-import java.util.Comparator;
 import java.util.Date;
-import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
  * <h1>FederalHolidays</h1>class extends USHoliday and provides U.S. federal holiday functionality.
  * <h4>Functionality</h4>
  * <ul>
+ * <li>addBusinessDays - will return the date the specified number of business days away.
+ * <li>businessDaysBetween - will return the number of business days from one date up to another.
+ * <li>holidayOrdinal - will return the HolidayEnum ordinal if the specified epoch day is a holiday else -1.
+ * <li>holidayOrdinals / holidays - will classify an array of dates in one pass, optionally in parallel.
+ * <li>businessDays / holidays - will return a stream of the business days or holidays from one date up to another.
+ * <li>isBusinessDay - will return true if the specified date is neither a weekend nor a holiday else false.
  * <li>isHoliday - will return true if the specified date is a holiday else false.
+ * <li>snapshot - will return an immutable, thread-safe HolidayCalendar of the current configuration.
+ * <li>nextBusinessDay / previousBusinessDay - will return the closest business day after or before the specified date.
+ * <li>nextHoliday / previousHoliday - will return the closest holiday after or before the specified date.
  * <li>toHolidays - provides a String array of holidays observed during the year.
  * <li>whichHoliday - will return the Holiday object if the specified date matches the holiday else null.<br/>
+ * <li>whichActualHoliday, whichObservedHoliday - the holiday actually occurring on the date or observed on the date, see HolidayIndex.
  * </ul>
+ * <h4>Year range</h4>
+ * <p>Lookups are answered by a HolidayIndex computed during init() for the range of years from firstYear through lastYear.<br/>
+ * The range always includes the year of the class.  If firstYear and lastYear are not set, only the year of the class is indexed.<br/>
+ * Business day navigation running off either end of the range continues into the adjacent year, see BusinessCalendar.</p>
+ * <ul>
+ * <li>firstYear is the first year indexed.
+ * <li>lastYear is the last year indexed.
+ * <li>allYears if set true, holidayOrdinal, isHoliday, whichHoliday and the bulk methods answer any year from 1 to MAXIMUM_YEAR,<br/>
+ * years outside of the range are looked up in the HolidayTemplates.  Business day methods and snapshots remain bounded by the range.
+ * <li>holidayIndexBuilder if set, init() builds the index of a wide year range in parallel, see HolidayIndexBuilder.
+ * <li>holidayMasterIndex if set and covering the range and rules, init() shares the index of the master instead of computing one<br/>
+ * and the range becomes the range of the master, see HolidayMasterIndex.
+ * </ul>
+ * <h4>Metrics</h4>
+ * <p>If holidayMetrics is set, lookups, init() and clone(int) are counted and timed, see HolidayMetrics.</p>
+ * <h4>Holiday rules</h4>
+ * <p>The holidays are declared by a HolidayRuleSet, HolidayRuleSet.FEDERAL unless holidayRules is set.<br/>
+ * A rule set may move or remove holidays, such as observing Juneteenth day on the third Monday of June.<br/>
+ * Rules are keyed by HolidayEnum, thus a holiday outside of HolidayEnum cannot be added without relabeling an existing one.</p>
  * <h4>Observable values</h4>
  * <p>There are 5 holidays that may occur during a weekend and are adjusted to be observed either on the prior Friday or
  * the following Monday.<br/></p>
@@ -26,21 +54,46 @@ import java.util.stream.Stream;
  * </ul>
  * <br/><br/>
  * <p>The Observable values <b><i>default to true</i></b>.  If set false, the holiday is not observed.</p><br/><br/>
+ * @see org.wrk.date.holiday.BusinessCalendar
  * @see org.wrk.date.holiday.Holiday
+ * @see org.wrk.date.holiday.HolidayCalendar
  * @see org.wrk.date.holiday.HolidayEnum
+ * @see org.wrk.date.holiday.HolidayIndex
+ * @see org.wrk.date.holiday.HolidayMasterIndex
+ * @see org.wrk.date.holiday.HolidayMetrics
  * @see org.wrk.date.holiday.HolidayRules
+ * @see org.wrk.date.holiday.HolidayRuleSet
+ * @see org.wrk.date.holiday.HolidayTemplates
  * @see org.wrk.date.holiday.Holidays
  * @see org.wrk.date.holiday.USHoliday
  * 
  * @author Kelly Willard
  */
 public class FederalHolidays extends USHoliday implements Holidays, HolidayRules {
-	private SortedSet<Holiday> holidaySet = new TreeSet<>(Comparator.comparing(Holiday::getDay));
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
 	
 	private boolean saturdayObservable = true;
 	
 	private boolean sundayObservable = true;
 	
+	private int firstYear = 0;
+	
+	private int lastYear = 0;
+	
+	private boolean allYears = false;
+	
+	private HolidayRuleSet holidayRules = HolidayRuleSet.FEDERAL;
+	
+	private HolidayMetrics holidayMetrics;
+	
+	private HolidayIndexBuilder holidayIndexBuilder;
+	
+	private HolidayMasterIndex holidayMasterIndex;
+	
+	private HolidayIndex holidayIndex;
+	
+	private BusinessCalendar businessCalendar;
+	
 	/**
 	 * <p>constructor</p>
 	 */
@@ -56,64 +109,544 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 	}
 	
 	/**
-	 * <p>Create a holiday object from the calendar date and the holiday enumeration.</p>
-	 * <p>Because there are 5 actual holidays (meaning they can occur on any day of the week)<br/>
-	 * the observed flag is set to false, indicating actual day.</p>
-	 * <p>Observable holidays indicate whether or not to observe a holiday on another day if it occurs on a weekend.<br/>
-	 * Traditionally, Saturday holidays observe on the prior Friday and Sunday holidays on the following Monday.</p>
-	 * @param date value for the created Holiday.
-	 * @param day HolidayEnum value for the created Holiday.
-	 * @return Holiday if valid parameters exist else null.
-	 */	
-	private Holiday createHoliday(Calendar date, HolidayEnum day) {
-		Holiday holiday = null;
+	 * <p>Classifier of the actual dates of the holidays.</p>
+	 * @return HolidayClassifier
+	 */
+	private HolidayClassifier actualClassifier() {
+		return new HolidayClassifier(this.getHolidayIndex(), this.observedMask(), this.getHolidayTemplates(), true);
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * <p>Saturday July 4th answers Independence day while holidayOrdinal answers it on Friday July 3rd.  The lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return HolidayEnum ordinal if an observed holiday occurs on the epoch day else -1, including when not initialized or outside of the year range.
+	 */
+	public int actualHolidayOrdinal(long epochDay) {
+		HolidayMetrics metrics = this.holidayMetrics;
 		
-		if(date != null && day != null) {
-			holiday = new Holiday();
-
-			if(this.isActualDay(day)) {
-				boolean observable = false;
-				
-				if(this.isWeekEnd(date)) {
-					if(observable = this.isObservableOnSaturday(date)) {
-						// Observe the actual holiday on Friday.
-						date.add(Calendar.DAY_OF_MONTH, -1);
-					}
-					else if(observable = this.isObservableOnSunday(date)) {
-						// Observe the actual holiday on Monday.
-						date.add(Calendar.DAY_OF_MONTH, 1);
-					}
-				}
-				
-				holiday.setObserved(observable);
-			}
+		long start = metrics != null ? metrics.startLookup() : 0L;
+		
+		HolidayTemplates templates = this.getHolidayTemplates();
+		
+		int ordinal;
+		
+		if(templates != null && !this.getHolidayIndex().contains(epochDay)) {
+			ordinal = templates.actualOrdinal(epochDay, this.observedMask());
+		}
+		else {
+			ordinal = this.getHolidayIndex() != null ? this.getHolidayIndex().actualOrdinal(epochDay, this.observedMask()) : -1;
+		}
+		
+		if(metrics != null) {
+			metrics.recordLookup(start, ordinal >= 0);
+		}
+		
+		return ordinal;
+	}
+
+	/**
+	 * <p>Fill the actual holiday ordinal of each epoch day in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param ordinals result, HolidayEnum ordinal if a holiday occurs on the epoch day else -1, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if ordinals is shorter than epochDays.
+	 * @see #actualHolidayOrdinal(long)
+	 */
+	public void actualHolidayOrdinals(int[] epochDays, byte[] ordinals, boolean parallel) {
+		this.actualClassifier().holidayOrdinals(epochDays, ordinals, parallel);
+	}
+
+	/**
+	 * <p>Fill the actual holiday ordinal of each epoch day in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param ordinals result, HolidayEnum ordinal if a holiday occurs on the epoch day else -1, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if ordinals is shorter than epochDays.
+	 * @see #actualHolidayOrdinal(long)
+	 */
+	public void actualHolidayOrdinals(long[] epochDays, byte[] ordinals, boolean parallel) {
+		this.actualClassifier().holidayOrdinals(epochDays, ordinals, parallel);
+	}
+
+	/**
+	 * <p>Fill the actual holiday ordinal of each date in one pass.</p>
+	 * @param dates dates to classify. Null dates are not holidays.
+	 * @param ordinals result, HolidayEnum ordinal if a holiday occurs on the date else -1, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if ordinals is shorter than dates.
+	 * @see #actualHolidayOrdinal(long)
+	 */
+	public void actualHolidayOrdinals(LocalDate[] dates, byte[] ordinals, boolean parallel) {
+		this.actualClassifier().holidayOrdinals(dates, ordinals, parallel);
+	}
+
+	/**
+	 * <p>Add a number of business days to the date, skipping weekends and holidays.</p>
+	 * @param date the starting date.
+	 * @param businessDays number of business days to add, negative to count backward.
+	 * @return LocalDate of the resulting business day.
+	 * @throws Exception if holiday list is empty, date is null or outside of the year range or the result is beyond the adjacent year.
+	 * @see org.wrk.date.holiday.BusinessCalendar#addBusinessDays(long, int)
+	 */
+	public LocalDate addBusinessDays(LocalDate date, int businessDays) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot add business days.");
+		}
+		
+		return this.getBusinessCalendar().addBusinessDays(date, businessDays);
+	}
+
+	/**
+	 * <p>Stream the business days from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return IntStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws Exception if holiday list is empty or either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#businessDays(long, long)
+	 */
+	public IntStream businessDays(int from, int to) throws Exception {
+		return this.getBusinessCalendar().businessDays(from, to);
+	}
+
+	/**
+	 * <p>Stream the business days from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return LongStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws Exception if holiday list is empty or either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#businessDays(long, long)
+	 */
+	public LongStream businessDays(long from, long to) throws Exception {
+		return this.getBusinessCalendar().businessDays(from, to);
+	}
+
+	/**
+	 * <p>Stream the business days from one date up to, but not including, another.</p>
+	 * @param from the first date streamed.
+	 * @param to the date following the last date streamed.
+	 * @return Stream of LocalDate in ascending order, empty if to is not after from.
+	 * @throws Exception if holiday list is empty, either date is null or outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#businessDays(long, long)
+	 */
+	public Stream<LocalDate> businessDays(LocalDate from, LocalDate to) throws Exception {
+		if(from == null || to == null) {
+			throw new Exception("Date is null. Cannot stream business days.");
+		}
+		
+		return this.getBusinessCalendar().businessDays(from, to);
+	}
+
+	/**
+	 * <p>Count the business days from one date up to, but not including, another.</p>
+	 * @param from the first date counted.
+	 * @param to the date following the last date counted.
+	 * @return int number of business days, negative if to is before from.
+	 * @throws Exception if holiday list is empty, either date is null or outside of the year range.
+	 */
+	public int businessDaysBetween(LocalDate from, LocalDate to) throws Exception {
+		if(from == null || to == null) {
+			throw new Exception("Date is null. Cannot count business days.");
+		}
+		
+		return this.getBusinessCalendar().businessDaysBetween(from, to);
+	}
+
+	/**
+	 * <p>Bulk classifier of the holiday index and the observed holidays.</p>
+	 * @return HolidayClassifier
+	 */
+	private HolidayClassifier classifier() {
+		return new HolidayClassifier(this.getHolidayIndex(), this.observedMask(), this.getHolidayTemplates());
+	}
+
+	/**
+	 * <p>Get the business calendar for the year range and the observed holidays.</p>
+	 * <p>The business calendar is computed on first use and recomputed when the observed holidays change.</p>
+	 * @return BusinessCalendar
+	 * @throws Exception if holiday list is empty.
+	 */
+	public BusinessCalendar getBusinessCalendar() throws Exception {
+		if(this.getHolidayIndex() == null) {
+			throw new Exception("Holiday list is empty.  Invoke init() method after instantiating the FederalHolidays class.");
+		}
+		
+		return this.businessCalendar();
+	}
+
+	/**
+	 * <p>Get the business calendar, computing it when missing or stale.</p>
+	 * @return BusinessCalendar
+	 */
+	private BusinessCalendar businessCalendar() {
+		BusinessCalendar calendar = this.businessCalendar;
+		
+		int mask = this.observedMask();
+		
+		// Compute the business calendar when missing or stale, shared with the configurations of the master index.
+		if(calendar == null || calendar.getHolidayIndex() != this.getHolidayIndex() || calendar.getObservedMask() != mask) {
+			HolidayMasterIndex master = this.getHolidayMasterIndex();
 			
-			holiday.setDate(date);
-			holiday.setDay(day);
+			HolidayIndex index = this.getHolidayIndex();
+			
+			calendar = master != null && master.getHolidayIndex(index.isSaturdayObservable(), index.isSundayObservable()) == index
+					? master.getBusinessCalendar(index.isSaturdayObservable(), index.isSundayObservable(), mask)
+					: new BusinessCalendar(index, mask);
+			
+			this.businessCalendar = calendar;
 		}
 		
-		return holiday;
+		return calendar;
+	}
+
+	/**
+	 * <p>Get the first year indexed.</p>
+	 * @return int first year or 0 if not set.
+	 */
+	public int getFirstYear() {
+		return firstYear;
+	}
+
+	/**
+	 * @return holidayIndex as a HolidayIndex or null if not initialized.
+	 */
+	HolidayIndex getHolidayIndex() {
+		return holidayIndex;
+	}
+
+	/**
+	 * <p>Get the rules of the holidays.</p>
+	 * @return HolidayRuleSet, HolidayRuleSet.FEDERAL unless set.
+	 */
+	public HolidayRuleSet getHolidayRules() {
+		return holidayRules;
+	}
+
+	/**
+	 * <p>Get the builder of the HolidayIndex.</p>
+	 * @return HolidayIndexBuilder or null if the index is built sequentially.
+	 */
+	public HolidayIndexBuilder getHolidayIndexBuilder() {
+		return holidayIndexBuilder;
+	}
+
+	/**
+	 * <p>Get the master index shared by many configurations.</p>
+	 * @return HolidayMasterIndex or null if the index is computed by init().
+	 */
+	public HolidayMasterIndex getHolidayMasterIndex() {
+		return holidayMasterIndex;
+	}
+
+	/**
+	 * <p>Get the observed holidays of the year sorted by date.</p>
+	 * <p>The listing is computed once per holiday index and observed holidays and is shared, see getBusinessCalendar().</p>
+	 * @return HolidayListing
+	 * @throws Exception if holiday list is empty.
+	 */
+	public HolidayListing getHolidayListing() throws Exception {
+		return this.getBusinessCalendar().listing(this.getYear());
 	}
 
 	/**
-	 * @return holidaySet as a SortedSet.
+	 * <p>Get the metrics of the lookups, init() and clone(int).</p>
+	 * @return HolidayMetrics or null if not recording.
 	 */
-	private SortedSet<Holiday> getHolidaySet() {
-		return holidaySet;
+	public HolidayMetrics getHolidayMetrics() {
+		return holidayMetrics;
+	}
+
+	/**
+	 * <p>Get the year templates answering years outside of the range.</p>
+	 * @return HolidayTemplates of the holiday index observable flags, or null if allYears is false or not initialized.
+	 */
+	HolidayTemplates getHolidayTemplates() {
+		HolidayIndex index = this.getHolidayIndex();
+		
+		return this.isAllYears() && index != null ? HolidayTemplates.of(index.getHolidayRules(), index.isSaturdayObservable(), index.isSundayObservable()) : null;
 	}
 	
+	/**
+	 * <p>Get the last year indexed.</p>
+	 * @return int last year or 0 if not set.
+	 */
+	public int getLastYear() {
+		return lastYear;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match?</p>
+	 * <p>Intended for tight loops over primitive dates; the lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1, including when not initialized or outside of the year range.
+	 */
+	public int holidayOrdinal(long epochDay) {
+		HolidayMetrics metrics = this.holidayMetrics;
+		
+		long start = metrics != null ? metrics.startLookup() : 0L;
+		
+		HolidayTemplates templates = this.getHolidayTemplates();
+		
+		int ordinal;
+		
+		if(templates != null && !this.getHolidayIndex().contains(epochDay)) {
+			ordinal = templates.ordinal(epochDay);
+		}
+		else {
+			ordinal = this.getHolidayIndex() != null ? this.getHolidayIndex().ordinal(epochDay) : -1;
+		}
+		
+		// Is the holiday observed?
+		if(ordinal >= 0 && (this.observedMask() & (1 << ordinal)) == 0) {
+			ordinal = -1;
+		}
+		
+		if(metrics != null) {
+			metrics.recordLookup(start, ordinal >= 0);
+		}
+		
+		return ordinal;
+	}
+
+	/**
+	 * <p>Fill the holiday ordinal of each epoch day in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param ordinals result, HolidayEnum ordinal if the epoch day is a holiday else -1, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if ordinals is shorter than epochDays.
+	 */
+	public void holidayOrdinals(int[] epochDays, byte[] ordinals, boolean parallel) {
+		this.classifier().holidayOrdinals(epochDays, ordinals, parallel);
+	}
+
+	/**
+	 * <p>Fill the holiday ordinal of each epoch day in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param ordinals result, HolidayEnum ordinal if the epoch day is a holiday else -1, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if ordinals is shorter than epochDays.
+	 */
+	public void holidayOrdinals(long[] epochDays, byte[] ordinals, boolean parallel) {
+		this.classifier().holidayOrdinals(epochDays, ordinals, parallel);
+	}
+
+	/**
+	 * <p>Fill the holiday ordinal of each date in one pass.</p>
+	 * @param dates dates to classify. Null dates are not holidays.
+	 * @param ordinals result, HolidayEnum ordinal if the date is a holiday else -1, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if ordinals is shorter than dates.
+	 */
+	public void holidayOrdinals(LocalDate[] dates, byte[] ordinals, boolean parallel) {
+		this.classifier().holidayOrdinals(dates, ordinals, parallel);
+	}
+
+	/**
+	 * <p>Stream the holidays from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return IntStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws Exception if holiday list is empty or either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#holidays(long, long)
+	 */
+	public IntStream holidays(int from, int to) throws Exception {
+		return this.getBusinessCalendar().holidays(from, to);
+	}
+
+	/**
+	 * <p>Stream the holidays from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return LongStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws Exception if holiday list is empty or either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#holidays(long, long)
+	 */
+	public LongStream holidays(long from, long to) throws Exception {
+		return this.getBusinessCalendar().holidays(from, to);
+	}
+
+	/**
+	 * <p>Stream the holidays from one date up to, but not including, another.</p>
+	 * @param from the first date streamed.
+	 * @param to the date following the last date streamed.
+	 * @return Stream of LocalDate in ascending order, empty if to is not after from.
+	 * @throws Exception if holiday list is empty, either date is null or outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#holidays(long, long)
+	 */
+	public Stream<LocalDate> holidays(LocalDate from, LocalDate to) throws Exception {
+		if(from == null || to == null) {
+			throw new Exception("Date is null. Cannot stream holidays.");
+		}
+		
+		return this.getBusinessCalendar().holidays(from, to);
+	}
+
+	/**
+	 * <p>Classify each epoch day in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @return BitSet with bit i set if epochDays[i] is a holiday.
+	 */
+	public BitSet holidays(int[] epochDays, boolean parallel) {
+		return this.classifier().holidays(epochDays, parallel);
+	}
+
+	/**
+	 * <p>Classify each epoch day in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @return BitSet with bit i set if epochDays[i] is a holiday.
+	 */
+	public BitSet holidays(long[] epochDays, boolean parallel) {
+		return this.classifier().holidays(epochDays, parallel);
+	}
+
+	/**
+	 * <p>Classify each date in one pass.</p>
+	 * @param dates dates to classify. Null dates are not holidays.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @return BitSet with bit i set if dates[i] is a holiday.
+	 */
+	public BitSet holidays(LocalDate[] dates, boolean parallel) {
+		return this.classifier().holidays(dates, parallel);
+	}
+
+	/**
+	 * <p>Which holiday actually occurs on the date, from the index or the year templates when allYears is set?</p>
+	 * @param epochDay value of the date.
+	 * @return Holiday if an observed holiday occurs on the date else null.
+	 */
+	private Holiday indexedActualHoliday(long epochDay) {
+		HolidayMetrics metrics = this.holidayMetrics;
+		
+		long start = metrics != null ? metrics.startLookup() : 0L;
+		
+		HolidayTemplates templates = this.getHolidayTemplates();
+		
+		Holiday holiday;
+		
+		if(templates != null && !this.getHolidayIndex().contains(epochDay)) {
+			holiday = templates.whichActualHoliday(epochDay);
+		}
+		else {
+			holiday = this.getHolidayIndex().whichActualHoliday(epochDay);
+		}
+		
+		// Is the holiday observed?
+		if(holiday != null && (this.observedMask() & (1 << holiday.getDay().ordinal())) == 0) {
+			holiday = null;
+		}
+		
+		if(metrics != null) {
+			metrics.recordLookup(start, holiday != null);
+		}
+		
+		return holiday;
+	}
+
+	/**
+	 * <p>Which holiday does the epoch day match, from the index or the year templates when allYears is set?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return Holiday if the epoch day matches a holiday else null.
+	 */
+	private Holiday indexedHoliday(long epochDay) {
+		HolidayMetrics metrics = this.holidayMetrics;
+		
+		long start = metrics != null ? metrics.startLookup() : 0L;
+		
+		HolidayTemplates templates = this.getHolidayTemplates();
+		
+		Holiday holiday;
+		
+		if(templates != null && !this.getHolidayIndex().contains(epochDay)) {
+			holiday = templates.whichHoliday(epochDay);
+		}
+		else {
+			holiday = this.getHolidayIndex().whichHoliday(epochDay);
+		}
+		
+		// Is the holiday observed?
+		if(holiday != null && (this.observedMask() & (1 << holiday.getDay().ordinal())) == 0) {
+			holiday = null;
+		}
+		
+		if(metrics != null) {
+			metrics.recordLookup(start, holiday != null);
+		}
+		
+		return holiday;
+	}
+
 	/**
 	 * <p>Initialize the FederalHolidays class.</p>
 	 * <ul>
-	 * <li>Calls the loadHolidays method.
+	 * <li>Shares the HolidayIndex of holidayMasterIndex if set and covering the year range and rules.
+	 * <li>Else builds the HolidayIndex for the year range, in parallel if holidayIndexBuilder is set.
 	 * <li>Call this method after instantiating this class.
 	 * <li>Call this method within an init-method setting for dependency injection.
 	 * </ul>
 	 */
 	public void init() {
-		this.loadHolidays();
+		HolidayMetrics metrics = this.holidayMetrics;
+		
+		long start = metrics != null ? System.nanoTime() : 0L;
+		
+		// The year range always includes the year of the class.
+		int first = 0 < this.getFirstYear() ? Math.min(this.getFirstYear(), this.getYear()) : this.getYear();
+		
+		int last = 0 < this.getLastYear() ? Math.max(this.getLastYear(), this.getYear()) : this.getYear();
+		
+		HolidayMasterIndex master = this.getHolidayMasterIndex();
+		
+		HolidayIndexBuilder builder = this.getHolidayIndexBuilder();
+		
+		if(master != null && master.covers(first, last, this.getHolidayRules())) {
+			this.holidayIndex = master.getHolidayIndex(this.isSaturdayObservable(), this.isSundayObservable());
+		}
+		else if(builder != null) {
+			this.holidayIndex = builder.build(first, last, this.isSaturdayObservable(), this.isSundayObservable(), this.getHolidayRules());
+		}
+		else {
+			this.holidayIndex = new HolidayIndex(first, last, this.isSaturdayObservable(), this.isSundayObservable(), this.getHolidayRules());
+		}
+		
+		if(metrics != null) {
+			metrics.recordInit(start);
+		}
 	}
 	
+	/**
+	 * <p>Is the day an actual holiday of the rule set?<br/>An actual holiday can occur any day of the week.</p>
+	 * @param day HolidayEnum value.
+	 * @return boolean true if day is defined by a fixed day rule else false.
+	 */
+	@Override
+	public boolean isActualDay(HolidayEnum day) {
+		return this.getHolidayRules().isActualDay(day);
+	}
+
+	/**
+	 * <p>Are years outside of the range answered from the year templates?</p>
+	 * @return boolean
+	 */
+	public boolean isAllYears() {
+		return allYears;
+	}
+
+	/**
+	 * <p>Is the date a business day?</p>
+	 * @param date value to be determined.
+	 * @return true if neither a weekend nor a holiday else false.
+	 * @throws Exception if holiday list is empty, date is null or outside of the year range.
+	 */
+	public boolean isBusinessDay(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine business day.");
+		}
+		
+		return this.getBusinessCalendar().isBusinessDay(date);
+	}
+
 	/**
 	 * <p>Does the calendar date match a holiday?</p>
 	 * @param date to determine if holiday.
@@ -134,6 +667,60 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 		return this.whichHoliday(date) != null;
 	}
 
+	/**
+	 * <p>Does the local date match a holiday?</p>
+	 * <p>The lookup does not allocate objects.</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if holiday list is empty or date is null.
+	 */
+	public boolean isHoliday(LocalDate date) throws Exception {
+		return this.whichHoliday(date) != null;
+	}
+
+	/**
+	 * <p>Does the epoch day match a holiday?</p>
+	 * <p>Intended for tight loops over primitive dates; the lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return true if holiday else false, including when not initialized or outside of the year range.
+	 */
+	public boolean isHoliday(long epochDay) {
+		return this.holidayOrdinal(epochDay) >= 0;
+	}
+
+	/**
+	 * <p>Fill whether each epoch day is a holiday in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param holidays result, true if the epoch day is a holiday else false, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if holidays is shorter than epochDays.
+	 */
+	public void isHoliday(int[] epochDays, boolean[] holidays, boolean parallel) {
+		this.classifier().isHoliday(epochDays, holidays, parallel);
+	}
+
+	/**
+	 * <p>Fill whether each epoch day is a holiday in one pass.</p>
+	 * @param epochDays dates to classify.
+	 * @param holidays result, true if the epoch day is a holiday else false, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if holidays is shorter than epochDays.
+	 */
+	public void isHoliday(long[] epochDays, boolean[] holidays, boolean parallel) {
+		this.classifier().isHoliday(epochDays, holidays, parallel);
+	}
+
+	/**
+	 * <p>Fill whether each date is a holiday in one pass.</p>
+	 * @param dates dates to classify. Null dates are not holidays.
+	 * @param holidays result, true if the date is a holiday else false, including when not initialized or outside of the year range.
+	 * @param parallel if true, large arrays are classified in parallel blocks.
+	 * @throws IllegalArgumentException if holidays is shorter than dates.
+	 */
+	public void isHoliday(LocalDate[] dates, boolean[] holidays, boolean parallel) {
+		this.classifier().isHoliday(dates, holidays, parallel);
+	}
+
 	/**
 	 * <p>Are holidays occurring on a Saturday observable?</p>
 	 */
@@ -149,83 +736,116 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 	public boolean isSundayObservable() {
 		return sundayObservable;
 	}
-
 	/**
-	 * <p>Calculate all federal holidays for the year and load them into the holiday set.</p>
-	 */
-	private void loadHolidays() {
-		Stream.of(HolidayEnum.values()).forEach(it -> {
-			Holiday holiday = null;
-			switch (it) {
-			case CHRISTMAS_DAY:
-				holiday = this.createHoliday(this.getChristmasDay(), HolidayEnum.CHRISTMAS_DAY);
-				break;
-			case COLUMBUS_DAY:
-				holiday = this.createHoliday(this.getColumbusDay(), HolidayEnum.COLUMBUS_DAY);
-				break;
-			case INDEPENDENCE_DAY:
-				holiday = this.createHoliday(this.getIndependenceDay(), HolidayEnum.INDEPENDENCE_DAY);
-				break;
-			case JUNETEENTH_DAY:
-				holiday = this.createHoliday(this.getJuneteenthDay(), HolidayEnum.JUNETEENTH_DAY);
-				break;
-			case LABOR_DAY:
-				holiday = this.createHoliday(this.getLaborDay(), HolidayEnum.LABOR_DAY);
-				break;
-			case MARTINLUTHERKINGJR_DAY:
-				holiday = this.createHoliday(this.getMartinLutherKingJrDay(), HolidayEnum.MARTINLUTHERKINGJR_DAY);
-				break;
-			case MEMORIAL_DAY:
-				holiday = this.createHoliday(this.getMemorialDay(), HolidayEnum.MEMORIAL_DAY);
-				break;
-			case NEWYEARS_DAY:
-				holiday = this.createHoliday(this.getNewYearsDay(), HolidayEnum.NEWYEARS_DAY);
-				break;
-			case NEWYEARS_EVE:
-				holiday = this.newYearsEveHoliday();
-				break;
-			case PRESIDENTS_DAY:
-				holiday = this.createHoliday(this.getPresidentsDay(), HolidayEnum.PRESIDENTS_DAY);
-				break;
-			case THANKSGIVING_DAY:
-				holiday = this.createHoliday(this.getThanksgivingDay(), HolidayEnum.THANKSGIVING_DAY);
-				break;
-			case VETERANS_DAY:
-				holiday = this.createHoliday(this.getVeteransDay(), HolidayEnum.VETERANS_DAY);
-				break;
-			default:
-				break;
-			}
-			
-			// If the holiday isn't null, add it to the holiday set.
-			if(holiday != null) {
-				this.getHolidaySet().add(holiday);
-			}
-		});
+	 * <p>Find the closest business day after the date.</p>
+	 * @param date the starting date.
+	 * @return LocalDate of the next business day, within the year range or the following year.
+	 * @throws Exception if holiday list is empty, date is null or outside of the year range.
+	 */
+	public LocalDate nextBusinessDay(LocalDate date) throws Exception {
+		return this.addBusinessDays(date, 1);
 	}
-	
+
 	/**
-	 * <p>Anticipate the possibility that New Years Eve may be a holiday in the coming year.</p>
-	 * @return Holiday if New Years Eve is observed as a holiday date else null.
+	 * <p>Find the closest holiday after the date.</p>
+	 * @param date the starting date.
+	 * @return Holiday or null if no holiday follows within the year range or the following year.
+	 * @throws Exception if holiday list is empty, date is null or outside of the year range.
 	 */
-	private Holiday newYearsEveHoliday() {
-		// Create the next year value.
-		int nextYear = this.getYear() + 1;
-		
-		// Instantiate the USHoliday object with next year value.
-		USHoliday usHoliday = new USHoliday(nextYear);
-		
-		// Create the next new years day holiday.
-		Holiday newYearsEve = this.createHoliday(usHoliday.getNewYearsDay(), HolidayEnum.NEWYEARS_DAY);
+	public Holiday nextHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
 		
-		// Was the holiday created?
-		if(newYearsEve != null) {
-			// Switch day to New Years Eve.
-			newYearsEve.setDay(HolidayEnum.NEWYEARS_EVE);
+		return this.getBusinessCalendar().nextHoliday(date);
+	}
+
+	/**
+	 * <p>The observed holidays as a bit per HolidayEnum ordinal (1 &lt;&lt; ordinal).</p>
+	 * @return int with every federal holiday observed.
+	 */
+	protected int observedMask() {
+		return (1 << DAYS.length) - 1;
+	}
+
+	/**
+	 * <p>Find the closest business day before the date.</p>
+	 * @param date the starting date.
+	 * @return LocalDate of the previous business day, within the year range or the preceding year.
+	 * @throws Exception if holiday list is empty, date is null or outside of the year range.
+	 */
+	public LocalDate previousBusinessDay(LocalDate date) throws Exception {
+		return this.addBusinessDays(date, -1);
+	}
+
+	/**
+	 * <p>Find the closest holiday before the date.</p>
+	 * @param date the starting date.
+	 * @return Holiday or null if no holiday precedes within the year range or the preceding year.
+	 * @throws Exception if holiday list is empty, date is null or outside of the year range.
+	 */
+	public Holiday previousHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
 		}
 		
-		// If New Years Eve, return holiday else null.
-		return this.isNewYearsEve(newYearsEve.getDate()) ? newYearsEve : null;
+		return this.getBusinessCalendar().previousHoliday(date);
+	}
+
+	/**
+	 * <p>Set the all years flag.  Takes effect immediately.</p>
+	 * @param allYears if true, years outside of the range are answered from the year templates.
+	 */
+	public void setAllYears(boolean allYears) {
+		this.allYears = allYears;
+	}
+
+	/**
+	 * <p>Set the builder of the HolidayIndex, building wide year ranges in parallel.  Takes effect when init() is called.</p>
+	 * @param holidayIndexBuilder builder, null to build the index sequentially.
+	 */
+	public void setHolidayIndexBuilder(HolidayIndexBuilder holidayIndexBuilder) {
+		this.holidayIndexBuilder = holidayIndexBuilder;
+	}
+
+	/**
+	 * <p>Set the master index shared by many configurations.  Takes effect when init() is called.</p>
+	 * @param holidayMasterIndex master index, null to compute the index in init().
+	 */
+	public void setHolidayMasterIndex(HolidayMasterIndex holidayMasterIndex) {
+		this.holidayMasterIndex = holidayMasterIndex;
+	}
+
+	/**
+	 * <p>Set the metrics recording the lookups, init() and clone(int).  Set before sharing the class across threads.</p>
+	 * @param holidayMetrics metrics to record into, null to stop recording.
+	 */
+	public void setHolidayMetrics(HolidayMetrics holidayMetrics) {
+		this.holidayMetrics = holidayMetrics;
+	}
+
+	/**
+	 * <p>Set the rules of the holidays.  Takes effect when init() is called.</p>
+	 * @param holidayRules compiled rules, if null the federal holidays are used.
+	 */
+	public void setHolidayRules(HolidayRuleSet holidayRules) {
+		this.holidayRules = holidayRules != null ? holidayRules : HolidayRuleSet.FEDERAL;
+	}
+
+	/**
+	 * <p>Set the first year indexed.  Takes effect when init() is called.</p>
+	 * @param firstYear specified as an int value greater than 0 and less than MAXIMUM_YEAR.
+	 */
+	public void setFirstYear(int firstYear) {
+		this.firstYear = 0 < firstYear && firstYear < MAXIMUM_YEAR ? firstYear : 0;
+	}
+
+	/**
+	 * <p>Set the last year indexed.  Takes effect when init() is called.</p>
+	 * @param lastYear specified as an int value greater than 0 and less than MAXIMUM_YEAR.
+	 */
+	public void setLastYear(int lastYear) {
+		this.lastYear = 0 < lastYear && lastYear < MAXIMUM_YEAR ? lastYear : 0;
 	}
 
 	/**
@@ -247,28 +867,28 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 	}
 
 	/**
-	 * <p>Provide a string array all holidays sorted by date in ascending order.</p>
+	 * <p>Create an immutable snapshot of the holidays for sharing across threads.</p>
+	 * <p>The snapshot captures the year range, the observable flags applied at init() and the observed holidays.<br/>
+	 * Later changes to this object do not affect the snapshot.</p>
+	 * @return HolidayCalendar
+	 * @throws Exception if holiday list is empty.
+	 */
+	public HolidayCalendar snapshot() throws Exception {
+		return new HolidayCalendar(this.getBusinessCalendar());
+	}
+
+	/**
+	 * <p>Provide a string array all observed holidays sorted by date in ascending order.</p>
 	 * @return String[] - format | Date: format "EEEEE MM-dd-yyyy" | Holiday Enum | Holiday Name | Observable flag
+	 * @see org.wrk.date.holiday.HolidayListing
 	 */
 	public String[] toHolidays() {
-		// Create a holiday set that will be sorted by date, not by day.
-		SortedSet<Holiday> treeSet = new TreeSet<>(Comparator.comparing(Holiday::getDate));
-		
-		// Add the holidays to the new tree set.
-		this.getHolidaySet().forEach(it -> treeSet.add(it));
-		
-		String[] result = new String[treeSet.size()];
-		
-		SimpleDateFormat sdf = new SimpleDateFormat("EEEEE MM-dd-yyyy");
-
-		// Iteration counter.
-		int index = 0;
-		
-		for(Holiday holiday : treeSet) {
-			result[index++] = String.format("%s,%s,%s%s",sdf.format(holiday.getDate().getTime()), holiday.getDay().name(), holiday.getDay().getHolidayName(), (holiday.isObserved() ? ",observed" : ""));
+		// Not initialized, no holidays.
+		if(this.getHolidayIndex() == null) {
+			return new String[0];
 		}
 		
-		return result;
+		return this.businessCalendar().listing(this.getYear()).toLines();
 	}
 
 	/**
@@ -278,17 +898,14 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 	 * @throws Exception if holiday list is empty or date is null.
 	 */
 	public Holiday whichHoliday(Calendar date) throws Exception {
-		Optional<Holiday> holiday = Optional.empty();
+		Holiday holiday = null;
 		
-		if(date != null && !this.getHolidaySet().isEmpty()) {
-			// Remove the time stamp from the calendar date.
-			Calendar now = this.deleteTimestamp(date);
-			
-			// Does the date match a holiday?
-			holiday = this.getHolidaySet().stream().filter(h -> h.getDate().compareTo(now) == 0).findFirst();
+		if(date != null && this.getHolidayIndex() != null) {
+			// Does the date match a holiday?  The time stamp of the date is ignored.
+			holiday = this.indexedHoliday(EpochDays.of(date));
 		}
 		else {			
-			if(this.getHolidaySet().isEmpty()) {
+			if(this.getHolidayIndex() == null) {
 				throw new Exception("Holiday list is empty.  Invoke init() method after instantiating the FederalHolidays class.");
 			}
 			else if(date == null) {
@@ -296,7 +913,7 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 			}
 		}
 		
-		return holiday.isPresent() ? holiday.get() : null;
+		return holiday;
 	}
 	
 	/**
@@ -320,4 +937,54 @@ public class FederalHolidays extends USHoliday implements Holidays, HolidayRules
 		// Determine which holiday.
 		return this.whichHoliday(now);
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * <p>Which holiday does the local date match?</p>
+	 * <p>The lookup does not allocate objects.</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches the holiday date else null.
+	 * @throws Exception if holiday list is empty or date is null.
+	 */
+	public Holiday whichHoliday(LocalDate date) throws Exception {
+		if(this.getHolidayIndex() == null) {
+			throw new Exception("Holiday list is empty.  Invoke init() method after instantiating the FederalHolidays class.");
+		}
+		else if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+		
+		// Does the date match a holiday?
+		return this.indexedHoliday(date.toEpochDay());
+	}
+
+	/**
+	 * <p>Which holiday actually occurs on the local date, before any weekend observance shift?</p>
+	 * <p>Saturday July 4th answers Independence day, not observed, while whichObservedHoliday answers it on Friday July 3rd.<br/>
+	 * New Years eve is only observed, thus never answered.  The lookup does not allocate objects.</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if an observed holiday occurs on the date else null.
+	 * @throws Exception if holiday list is empty or date is null.
+	 */
+	public Holiday whichActualHoliday(LocalDate date) throws Exception {
+		if(this.getHolidayIndex() == null) {
+			throw new Exception("Holiday list is empty.  Invoke init() method after instantiating the FederalHolidays class.");
+		}
+		else if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+		
+		return this.indexedActualHoliday(date.toEpochDay());
+	}
+	
+	/**
+	 * <p>Which holiday is observed on the local date, the day off?</p>
+	 * <p>Same as whichHoliday(LocalDate).</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches the observed date of a holiday else null.
+	 * @throws Exception if holiday list is empty or date is null.
+	 * @see #whichActualHoliday(LocalDate)
+	 */
+	public Holiday whichObservedHoliday(LocalDate date) throws Exception {
+		return this.whichHoliday(date);
+	}
+}
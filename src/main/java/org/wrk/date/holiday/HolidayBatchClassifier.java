@@ -0,0 +1,646 @@
+package org.wrk.date.holiday;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * <h1>HolidayBatchClassifier</h1>class classifies large inputs of (id, date) records against several holiday calendars at once.
+ * <p>The records are read by the calling thread into batches of batchSize records.  Each batch is a task classifying<br/>
+ * its records against every calendar with the branch-free HolidayIndex lookup, then delivered to a Sink.</p>
+ * <h4>Threads</h4>
+ * <ul>
+ * <li>virtualThreads if true and the JDK provides them, each batch runs on its own virtual thread.
+ * <li>Otherwise the batches run on a pool of platform threads, no more than the processors, created and shut down per classify call.
+ * </ul>
+ * <h4>Back-pressure</h4>
+ * <p>No more than concurrency batches are in flight, from being read until delivered.  The reading thread blocks until<br/>
+ * a batch is delivered, thus memory is bounded by concurrency * batchSize records regardless of the input size.</p>
+ * <h4>Delivery</h4>
+ * <ul>
+ * <li>ordered if true, the batches are delivered in input order, else as they complete.
+ * <li>The Sink is called by one thread at a time, thus needs not be thread-safe.  A batch is valid only during the call.
+ * <li>The first exception or error thrown by the Sink, a record accessor or a batch task stops reading and is thrown by classify.<br/>
+ * Every batch in flight is still delivered or dropped, so classify returns once its permits are released.
+ * </ul>
+ * <p>The calendars are immutable snapshots, see FederalHolidays.snapshot().  The classifier may be reused, not concurrently reconfigured.</p>
+ * @see org.wrk.date.holiday.HolidayCalendar
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayBatchClassifier {
+
+	private final HolidayCalendar[] calendars;
+
+	private int concurrency = Runtime.getRuntime().availableProcessors() * 2;
+
+	private int batchSize = 4096;
+
+	private boolean ordered = true;
+
+	private boolean virtualThreads = true;
+
+	/**
+	 * <p>Receives the classified batches.</p>
+	 */
+	@FunctionalInterface
+	public interface Sink {
+
+		/**
+		 * <p>Accept a classified batch.</p>
+		 * @param batch valid only during the call.
+		 * @throws Exception to stop the classification.
+		 */
+		void accept(Batch batch) throws Exception;
+	}
+
+	/**
+	 * <h1>Batch</h1>is a number of records and their holiday ordinal against each calendar.
+	 */
+	public static final class Batch {
+
+		private final long sequence;
+
+		private final long[] ids;
+
+		private final long[] epochDays;
+
+		// Holiday ordinal by calendar then record, -1 if not an observed holiday.
+		private final byte[][] ordinals;
+
+		private int size;
+
+		// System.nanoTime() when the batch was read.
+		private long startNanos;
+
+		Batch(long sequence, int batchSize, int calendarCount) {
+			this.sequence = sequence;
+			this.ids = new long[batchSize];
+			this.epochDays = new long[batchSize];
+			this.ordinals = new byte[calendarCount][batchSize];
+		}
+
+		/**
+		 * <p>Get the epoch day of a record.</p>
+		 * @param record position in the batch.
+		 * @return long
+		 */
+		public long getEpochDay(int record) {
+			return this.epochDays[record];
+		}
+
+		/**
+		 * <p>Get the id of a record.</p>
+		 * @param record position in the batch.
+		 * @return long
+		 */
+		public long getId(int record) {
+			return this.ids[record];
+		}
+
+		/**
+		 * <p>Get the holiday ordinal of a record against a calendar.</p>
+		 * @param calendar position of the calendar in the classifier.
+		 * @param record position in the batch.
+		 * @return HolidayEnum ordinal if the date is an observed holiday of the calendar else -1, including when outside of its year range.
+		 */
+		public int getOrdinal(int calendar, int record) {
+			return this.ordinals[calendar][record];
+		}
+
+		/**
+		 * <p>Get the position of the batch in the input.</p>
+		 * @return long 0 for the first batch.
+		 */
+		public long getSequence() {
+			return sequence;
+		}
+
+		/**
+		 * <p>Is the record date an observed holiday of a calendar?</p>
+		 * @param calendar position of the calendar in the classifier.
+		 * @param record position in the batch.
+		 * @return boolean
+		 */
+		public boolean isHoliday(int calendar, int record) {
+			return this.ordinals[calendar][record] >= 0;
+		}
+
+		/**
+		 * <p>Get the number of records of the batch.</p>
+		 * @return int
+		 */
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * <h1>Report</h1>is the throughput and latency of a classify call.
+	 */
+	public static final class Report {
+
+		private final long recordCount;
+
+		private final long batchCount;
+
+		private final long elapsedNanos;
+
+		private final long blockedNanos;
+
+		private final LatencyHistogram latency;
+
+		private final boolean virtualThreads;
+
+		Report(long recordCount, long batchCount, long elapsedNanos, long blockedNanos, LatencyHistogram latency, boolean virtualThreads) {
+			this.recordCount = recordCount;
+			this.batchCount = batchCount;
+			this.elapsedNanos = elapsedNanos;
+			this.blockedNanos = blockedNanos;
+			this.latency = latency;
+			this.virtualThreads = virtualThreads;
+		}
+
+		/**
+		 * <p>Get the number of batches delivered.</p>
+		 * @return long
+		 */
+		public long getBatchCount() {
+			return batchCount;
+		}
+
+		/**
+		 * <p>Get the time the reading thread waited for an in-flight batch to be delivered.</p>
+		 * @return long nanoseconds.
+		 */
+		public long getBlockedNanos() {
+			return blockedNanos;
+		}
+
+		/**
+		 * <p>Get the time of the classify call.</p>
+		 * @return long nanoseconds.
+		 */
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		/**
+		 * <p>Get the latency of the batches, from being read until delivered.</p>
+		 * @return LatencyHistogram
+		 */
+		public LatencyHistogram getLatency() {
+			return latency;
+		}
+
+		/**
+		 * <p>Get the number of records delivered.</p>
+		 * @return long
+		 */
+		public long getRecordCount() {
+			return recordCount;
+		}
+
+		/**
+		 * <p>Get the throughput.</p>
+		 * @return double records delivered per second.
+		 */
+		public double getRecordsPerSecond() {
+			return this.elapsedNanos > 0 ? this.recordCount * 1e9 / this.elapsedNanos : 0.0;
+		}
+
+		/**
+		 * <p>Did the batches run on virtual threads?</p>
+		 * @return boolean false if on platform threads.
+		 */
+		public boolean isVirtualThreads() {
+			return virtualThreads;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d records in %d batches, %.0f records/s, latency p50 %d ns p99 %d ns, blocked %d ns%s.", this.recordCount, this.batchCount, this.getRecordsPerSecond(),
+					this.latency.getValueAtPercentile(50.0), this.latency.getValueAtPercentile(99.0), this.blockedNanos, this.virtualThreads ? ", virtual threads" : "");
+		}
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param calendars classified against, in the order of Batch.getOrdinal.
+	 * @throws IllegalArgumentException if there is no calendar or a calendar is null.
+	 */
+	public HolidayBatchClassifier(HolidayCalendar... calendars) {
+		this(calendars != null ? Arrays.asList(calendars) : null);
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param calendars classified against, in the order of Batch.getOrdinal.
+	 * @throws IllegalArgumentException if there is no calendar or a calendar is null.
+	 */
+	public HolidayBatchClassifier(List<HolidayCalendar> calendars) {
+		if(calendars == null || calendars.isEmpty()) {
+			throw new IllegalArgumentException("No calendar.");
+		}
+
+		this.calendars = calendars.toArray(new HolidayCalendar[0]);
+
+		for(HolidayCalendar calendar : this.calendars) {
+			if(calendar == null) {
+				throw new IllegalArgumentException("Calendar is null.");
+			}
+		}
+	}
+
+	/**
+	 * <p>Create an executor running each task on a new virtual thread.</p>
+	 * @return ExecutorService or null if the JDK does not provide virtual threads.
+	 */
+	private static ExecutorService virtualExecutor() {
+		try {
+			// Java 21 and later, looked up so the library still runs on Java 17.
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch(ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <p>Create a pool of platform threads, no more than the processors since the classification is bound by the processor.</p>
+	 * @return ExecutorService
+	 */
+	private ExecutorService platformExecutor() {
+		return Executors.newFixedThreadPool(Math.min(this.concurrency, Runtime.getRuntime().availableProcessors()), task -> {
+			Thread thread = new Thread(task, "holiday-batch");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	/**
+	 * <p>Fills a batch with the next records of the input.</p>
+	 */
+	private interface Reader {
+
+		/**
+		 * @param batch empty batch.
+		 * @throws Exception if reading a record fails.
+		 */
+		void read(Batch batch) throws Exception;
+	}
+
+	/**
+	 * <p>Classify the records of the arrays.</p>
+	 * @param ids of the records.
+	 * @param epochDays dates of the records.
+	 * @param sink receives the classified batches.
+	 * @return Report
+	 * @throws Exception if the arrays differ in length, the sink throws or the classification is interrupted.
+	 */
+	public Report classify(long[] ids, long[] epochDays, Sink sink) throws Exception {
+		if(ids.length != epochDays.length) {
+			throw new IllegalArgumentException(String.format("Id length %d differs from the %d dates.", ids.length, epochDays.length));
+		}
+
+		long[] position = new long[1];
+
+		return this.classify(() -> position[0] < ids.length, batch -> {
+			int from = (int) position[0];
+
+			batch.size = Math.min(this.batchSize, ids.length - from);
+
+			System.arraycopy(ids, from, batch.ids, 0, batch.size);
+
+			System.arraycopy(epochDays, from, batch.epochDays, 0, batch.size);
+
+			position[0] += batch.size;
+		}, sink);
+	}
+
+	/**
+	 * <p>Classify the records read from an iterator.</p>
+	 * <p>The iterator and accessors are called by the calling thread only.</p>
+	 * @param <T> type of the records.
+	 * @param records read once.
+	 * @param id accessor of the id of a record.
+	 * @param epochDay accessor of the date of a record, as returned by LocalDate.toEpochDay().
+	 * @param sink receives the classified batches.
+	 * @return Report
+	 * @throws Exception if an accessor or the sink throws or the classification is interrupted.
+	 */
+	public <T> Report classify(Iterator<T> records, ToLongFunction<? super T> id, ToLongFunction<? super T> epochDay, Sink sink) throws Exception {
+		return this.classify(records::hasNext, batch -> {
+			while(batch.size < this.batchSize && records.hasNext()) {
+				T record = records.next();
+
+				batch.ids[batch.size] = id.applyAsLong(record);
+				batch.epochDays[batch.size++] = epochDay.applyAsLong(record);
+			}
+		}, sink);
+	}
+
+	/**
+	 * <p>Read, classify and deliver the batches.</p>
+	 * @param more answers whether records remain.
+	 * @param reader fills a batch.
+	 * @param sink receives the classified batches.
+	 * @return Report
+	 * @throws Exception if reading or the sink throws or the classification is interrupted.
+	 */
+	private Report classify(BooleanSupplier more, Reader reader, Sink sink) throws Exception {
+		long start = System.nanoTime();
+
+		int permits = this.concurrency;
+
+		Semaphore inFlight = new Semaphore(permits);
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		LatencyHistogram latency = new LatencyHistogram();
+
+		Delivery delivery = new Delivery(sink, inFlight, failure, latency, this.ordered);
+
+		ExecutorService executor = this.virtualThreads ? virtualExecutor() : null;
+
+		boolean virtual = executor != null;
+
+		if(!virtual) {
+			executor = this.platformExecutor();
+		}
+
+		long blockedNanos = 0L;
+
+		long sequence = 0L;
+
+		try {
+			while(more.getAsBoolean() && failure.get() == null) {
+				Batch batch = new Batch(sequence++, this.batchSize, this.calendars.length);
+
+				batch.startNanos = System.nanoTime();
+
+				reader.read(batch);
+
+				long blocked = System.nanoTime();
+
+				inFlight.acquire();
+
+				blockedNanos += System.nanoTime() - blocked;
+
+				try {
+					executor.execute(() -> {
+						try {
+							this.classify(batch);
+						}
+						catch(Throwable e) {
+							failure.compareAndSet(null, e);
+						}
+						finally {
+							// Delivered even after a failure, releasing the permit and the batches following it.
+							delivery.deliver(batch);
+						}
+					});
+				}
+				catch(RuntimeException e) {
+					inFlight.release();
+
+					throw e;
+				}
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+			failure.compareAndSet(null, e);
+		}
+		catch(Exception e) {
+			failure.compareAndSet(null, e);
+		}
+		finally {
+			// Every batch in flight is delivered, or dropped after a failure.
+			inFlight.acquireUninterruptibly(permits);
+
+			executor.shutdown();
+		}
+
+		Throwable thrown = failure.get();
+
+		if(thrown instanceof Error) {
+			throw (Error) thrown;
+		}
+
+		if(thrown != null) {
+			throw (Exception) thrown;
+		}
+
+		return new Report(delivery.recordCount, delivery.batchCount, System.nanoTime() - start, blockedNanos, latency, virtual);
+	}
+
+	/**
+	 * <p>Classify the records of a batch against every calendar.</p>
+	 * @param batch read.
+	 */
+	private void classify(Batch batch) {
+		for(int calendar = 0; calendar < this.calendars.length; calendar++) {
+			HolidayIndex index = this.calendars[calendar].getHolidayIndex();
+
+			int observedMask = this.calendars[calendar].getObservedMask();
+
+			byte[] ordinals = batch.ordinals[calendar];
+
+			for(int record = 0; record < batch.size; record++) {
+				ordinals[record] = (byte) index.ordinal(batch.epochDays[record], observedMask);
+			}
+		}
+	}
+
+	/**
+	 * <h1>Delivery</h1>serializes the calls of the sink, in input order if ordered, and releases the in-flight permits.
+	 */
+	private static final class Delivery {
+
+		private final Sink sink;
+
+		private final Semaphore inFlight;
+
+		private final AtomicReference<Throwable> failure;
+
+		private final LatencyHistogram latency;
+
+		private final boolean ordered;
+
+		// A lock rather than synchronized, which would pin a virtual thread waiting for it.
+		private final ReentrantLock lock = new ReentrantLock();
+
+		// Batches completed ahead of the next batch in input order.
+		private final Map<Long, Batch> pending = new HashMap<>();
+
+		private long nextSequence;
+
+		long recordCount;
+
+		long batchCount;
+
+		Delivery(Sink sink, Semaphore inFlight, AtomicReference<Throwable> failure, LatencyHistogram latency, boolean ordered) {
+			this.sink = sink;
+			this.inFlight = inFlight;
+			this.failure = failure;
+			this.latency = latency;
+			this.ordered = ordered;
+		}
+
+		/**
+		 * <p>Deliver a classified batch, and any pending batch following it when ordered.</p>
+		 * @param batch classified.
+		 */
+		void deliver(Batch batch) {
+			this.lock.lock();
+
+			try {
+				if(!this.ordered) {
+					this.accept(batch);
+
+					return;
+				}
+
+				this.pending.put(batch.getSequence(), batch);
+
+				for(Batch next = this.pending.remove(this.nextSequence); next != null; next = this.pending.remove(this.nextSequence)) {
+					this.nextSequence++;
+
+					this.accept(next);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * <p>Call the sink unless failed, and release the permit of the batch.</p>
+		 * @param batch classified.
+		 */
+		private void accept(Batch batch) {
+			try {
+				if(this.failure.get() == null) {
+					this.sink.accept(batch);
+
+					this.recordCount += batch.size;
+
+					this.batchCount++;
+
+					this.latency.record(System.nanoTime() - batch.startNanos);
+				}
+			}
+			catch(Throwable e) {
+				// Caught, so the batches pending after it are still released.
+				this.failure.compareAndSet(null, e);
+			}
+			finally {
+				this.inFlight.release();
+			}
+		}
+	}
+
+	/**
+	 * <p>Get the number of calendars classified against.</p>
+	 * @return int
+	 */
+	public int getCalendarCount() {
+		return this.calendars.length;
+	}
+
+	/**
+	 * <p>Get the calendars classified against.</p>
+	 * @return List of HolidayCalendar, unmodifiable.
+	 */
+	public List<HolidayCalendar> getCalendars() {
+		return List.of(this.calendars);
+	}
+
+	/**
+	 * <p>Get the number of records per batch.</p>
+	 * @return int
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * <p>Get the most batches in flight.</p>
+	 * @return int
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * <p>Are the batches delivered in input order?</p>
+	 * @return boolean
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	/**
+	 * <p>Are the batches run on virtual threads when the JDK provides them?</p>
+	 * @return boolean
+	 */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+	 * <p>Set the number of records per batch, 4096 unless set.</p>
+	 * @param batchSize greater than 0.
+	 * @throws IllegalArgumentException if batchSize is not greater than 0.
+	 */
+	public void setBatchSize(int batchSize) {
+		if(batchSize <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid batch size %d.", batchSize));
+		}
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * <p>Set the most batches in flight, twice the processors unless set.</p>
+	 * @param concurrency greater than 0.
+	 * @throws IllegalArgumentException if concurrency is not greater than 0.
+	 */
+	public void setConcurrency(int concurrency) {
+		if(concurrency <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid concurrency %d.", concurrency));
+		}
+
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * <p>Set the delivery in input order, true unless set.</p>
+	 * @param ordered false to deliver the batches as they complete.
+	 */
+	public void setOrdered(boolean ordered) {
+		this.ordered = ordered;
+	}
+
+	/**
+	 * <p>Set running the batches on virtual threads when the JDK provides them, true unless set.</p>
+	 * @param virtualThreads false to run on platform threads.
+	 */
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+}
@@ -0,0 +1,209 @@
+package org.wrk.date.holiday;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h1>HolidayCache</h1>class is a thread-safe, size-bounded cache of computed holiday years.
+ * <p>Replaces calling ObservedHolidays.clone(int) for every lookup of another year.<br/>
+ * Each entry is an immutable HolidayCalendar snapshot of the year, keyed by the year and the rule configuration:</p>
+ * <ul>
+ * <li>holiday rules.
+ * <li>saturdayObservable flag.
+ * <li>sundayObservable flag.
+ * <li>unobserved holidays.
+ * </ul>
+ * <h4>Behavior</h4>
+ * <ul>
+ * <li>The least recently used entry is evicted when the cache exceeds its maximum size.
+ * <li>Concurrent requests for a missing entry compute the year only once; the other threads wait for the result.
+ * <li>Hit and miss counters are kept for monitoring.
+ * </ul>
+ * <p>Cached snapshots are shared between callers; they cannot be modified, so no caller changes the answers of another.</p>
+ * <br/>
+ * @see org.wrk.date.holiday.HolidayCalendar
+ * @see org.wrk.date.holiday.ObservedHolidays
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayCache {
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	private final int maximumSize;
+
+	private final Map<Key, FutureTask<HolidayCalendar>> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * <p>constructor</p>
+	 * @param maximumSize the maximum number of years held, greater than 0.
+	 * @throws IllegalArgumentException if maximumSize is not greater than 0.
+	 */
+	public HolidayCache(int maximumSize) {
+		if(maximumSize <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid maximum size %d.", maximumSize));
+		}
+
+		this.maximumSize = maximumSize;
+
+		// Access ordered, so the eldest entry is the least recently used.
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, FutureTask<HolidayCalendar>> eldest) {
+				return this.size() > HolidayCache.this.getMaximumSize();
+			}
+		};
+	}
+
+	/**
+	 * <p>Cache key, the holiday rules and the year and the rest of the rule configuration packed into a long.</p>
+	 */
+	private record Key(HolidayRuleSet holidayRules, long configuration) {
+	}
+
+	/**
+	 * <p>Compute the holidays of the year for the rule configuration.</p>
+	 * @param holidayRules rules of the holidays.
+	 * @param year specified as an int value greater than 0 and less than MAXIMUM_YEAR.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @param observedMask bit per HolidayEnum ordinal, set when the holiday is observed.
+	 * @return HolidayCalendar snapshot of the year.
+	 */
+	private static HolidayCalendar load(HolidayRuleSet holidayRules, int year, boolean saturdayObservable, boolean sundayObservable, int observedMask) throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(year);
+
+		holidays.setHolidayRules(holidayRules);
+
+		holidays.setSaturdayObservable(saturdayObservable);
+
+		holidays.setSundayObservable(sundayObservable);
+
+		for(HolidayEnum day : DAYS) {
+			if((observedMask & (1 << day.ordinal())) == 0) {
+				holidays.dayUnobserved(day);
+			}
+		}
+
+		holidays.init();
+
+		return holidays.snapshot();
+	}
+
+	/**
+	 * <p>Remove every entry from the cache.  The counters are not reset.</p>
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * <p>Get the holidays of the year for the rule configuration, computing them on a miss.</p>
+	 * @param configuration FederalHolidays or ObservedHolidays providing the observable flags and the unobserved holidays.
+	 * @param year specified as an int value greater than 0 and less than MAXIMUM_YEAR.<br/>
+	 * If invalid, the year of the configuration is used, as with ObservedHolidays.clone(int).
+	 * @return HolidayCalendar immutable snapshot of the year, shared.
+	 * @throws Exception if configuration is null or the holidays could not be computed.
+	 */
+	public HolidayCalendar get(FederalHolidays configuration, int year) throws Exception {
+		if(configuration == null) {
+			throw new Exception("Configuration is null. Cannot determine holidays.");
+		}
+
+		// Validate year value.  If invalid year, default to the configuration year.
+		int cachedYear = 0 < year && year < USHoliday.MAXIMUM_YEAR ? year : configuration.getYear();
+
+		boolean saturdayObservable = configuration.isSaturdayObservable();
+
+		boolean sundayObservable = configuration.isSundayObservable();
+
+		int observedMask = configuration.observedMask();
+
+		HolidayRuleSet holidayRules = configuration.getHolidayRules();
+
+		// Pack the year and the rest of the rule configuration into one long.
+		Key key = new Key(holidayRules, ((long) cachedYear << 32) | (observedMask << 2) | (saturdayObservable ? 2 : 0) | (sundayObservable ? 1 : 0));
+
+		FutureTask<HolidayCalendar> task;
+
+		boolean hit = true;
+
+		synchronized (this.entries) {
+			task = this.entries.get(key);
+
+			if(task == null) {
+				task = new FutureTask<>(() -> load(holidayRules, cachedYear, saturdayObservable, sundayObservable, observedMask));
+
+				this.entries.put(key, task);
+
+				hit = false;
+			}
+		}
+
+		if(hit) {
+			this.hitCount.increment();
+		}
+		else {
+			this.missCount.increment();
+
+			// Compute outside of the lock, concurrent requests wait on the task.
+			task.run();
+		}
+
+		try {
+			return task.get();
+		} catch (ExecutionException e) {
+			synchronized (this.entries) {
+				// Do not cache the failure.
+				this.entries.remove(key, task);
+			}
+
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
+	/**
+	 * <p>Get the number of requests answered from the cache.</p>
+	 * @return long
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * <p>Get the maximum number of years held.</p>
+	 * @return int
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * <p>Get the number of requests that computed a year.</p>
+	 * @return long
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * <p>Get the number of years held.</p>
+	 * @return int
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package org.wrk.date.holiday;
+
+/**
+ * <h1>HolidayCalculator</h1>class calculates U.S. federal holiday dates as epoch days using integer arithmetic.
+ * <p>No Calendar, time zone or locale is involved and no objects are allocated.<br/>
+ * The federal holidays are declared in HolidayRuleSet.FEDERAL; actualDay, isActualDay and observedDay evaluate that rule set.</p>
+ * <h4>Calculations</h4>
+ * <ul>
+ * <li>fixedDay - a fixed month and day, such as July 4th.
+ * <li>nthWeekday - the nth day of the week in a month, such as the 4th Thursday in November.
+ * <li>lastWeekday - the last day of the week in a month, such as the last Monday in May.
+ * <li>observedDay - the day a holiday is observed when it occurs on a weekend.
+ * </ul>
+ * <p>Days of the week are 1 (Monday) through 7 (Sunday), matching java.time.DayOfWeek values.</p>
+ * @see org.wrk.date.holiday.EpochDays
+ * @see org.wrk.date.holiday.HolidayRuleSet
+ * @see org.wrk.date.holiday.USHoliday
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayCalculator {
+
+	public static final int MONDAY = 1;
+
+	public static final int THURSDAY = 4;
+
+	public static final int SATURDAY = 6;
+
+	public static final int SUNDAY = 7;
+
+	/**
+	 * <p>Returned by observedDay when the holiday is not observed during the year.</p>
+	 */
+	public static final long NONE = Long.MIN_VALUE;
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private HolidayCalculator() {
+	}
+
+	/**
+	 * <p>Calculate the actual date of the holiday for the year.</p>
+	 * <p>New Years eve is December 31st of the year.</p>
+	 * @param day HolidayEnum value.
+	 * @param year value of the holiday.
+	 * @return long epoch day.
+	 * @throws IllegalArgumentException if day is null.
+	 * @see org.wrk.date.holiday.HolidayRuleSet#FEDERAL
+	 */
+	public static long actualDay(HolidayEnum day, int year) {
+		return HolidayRuleSet.FEDERAL.actualDay(day, year);
+	}
+
+	/**
+	 * <p>Calculate a fixed month and day of the year.</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfMonth value of the date, 1 through 31.
+	 * @return long epoch day.
+	 */
+	public static long fixedDay(int year, int month, int dayOfMonth) {
+		return EpochDays.of(year, month, dayOfMonth);
+	}
+
+	/**
+	 * <p>Is the day an actual holiday?<br/>An actual holiday can occur any day of the week.</p>
+	 * @param day HolidayEnum value.
+	 * @return boolean true if day is an actual holiday else false.
+	 */
+	public static boolean isActualDay(HolidayEnum day) {
+		return HolidayRuleSet.FEDERAL.isActualDay(day);
+	}
+
+	/**
+	 * <p>Calculate the last day of the week in a month.</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfWeek 1 (Monday) through 7 (Sunday).
+	 * @return long epoch day.
+	 */
+	public static long lastWeekday(int year, int month, int dayOfWeek) {
+		// The last day of the month is the day before the first day of the following month.
+		long lastDay = month == 12 ? EpochDays.of(year, 12, 31) : EpochDays.of(year, month + 1, 1) - 1;
+
+		// Find the previous day of the week from the last day, 0 to 6 days back.
+		return lastDay - Math.floorMod(EpochDays.dayOfWeek(lastDay) - dayOfWeek, 7);
+	}
+
+	/**
+	 * <p>Calculate the nth day of the week in a month.</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfWeek 1 (Monday) through 7 (Sunday).
+	 * @param nth occurrence of the day of the week, 1 through 5.
+	 * @return long epoch day.
+	 */
+	public static long nthWeekday(int year, int month, int dayOfWeek, int nth) {
+		long firstDay = EpochDays.of(year, month, 1);
+
+		// Find the next day of the week from the first day, 0 to 6 days ahead.
+		return firstDay + Math.floorMod(dayOfWeek - EpochDays.dayOfWeek(firstDay), 7) + 7L * (nth - 1);
+	}
+
+	/**
+	 * <p>Calculate the day the holiday is observed during the year.</p>
+	 * <p>Actual holidays occurring on a Saturday are observed on the prior Friday when saturdayObservable is true.<br/>
+	 * Actual holidays occurring on a Sunday are observed on the following Monday when sundayObservable is true.<br/>
+	 * New Years eve is observed only when New Years day of the following year is a Saturday observed on the prior Friday.</p>
+	 * @param day HolidayEnum value.
+	 * @param year value of the holiday.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return long epoch day or NONE if the holiday is not observed during the year.
+	 */
+	public static long observedDay(HolidayEnum day, int year, boolean saturdayObservable, boolean sundayObservable) {
+		return HolidayRuleSet.FEDERAL.observedDay(day, year, saturdayObservable, sundayObservable);
+	}
+
+	/**
+	 * <p>Shift an actual holiday occurring on a weekend to the day it is observed.</p>
+	 * @param epochDay actual date of the holiday.
+	 * @param actualDay true if the holiday can occur any day of the week.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return long epoch day of the observed holiday.
+	 */
+	public static long observedDay(long epochDay, boolean actualDay, boolean saturdayObservable, boolean sundayObservable) {
+		if(actualDay) {
+			int dayOfWeek = EpochDays.dayOfWeek(epochDay);
+
+			if(dayOfWeek == SATURDAY && saturdayObservable) {
+				// Observe the actual holiday on Friday.
+				return epochDay - 1;
+			}
+			else if(dayOfWeek == SUNDAY && sundayObservable) {
+				// Observe the actual holiday on Monday.
+				return epochDay + 1;
+			}
+		}
+
+		return epochDay;
+	}
+}
@@ -0,0 +1,423 @@
+package org.wrk.date.holiday;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * <h1>HolidayCalendar</h1>class is an immutable snapshot of a FederalHolidays or ObservedHolidays configuration.
+ * <p>Created by FederalHolidays.snapshot() after init().  The snapshot captures:</p>
+ * <ul>
+ * <li>the year range and the observable flags of the holiday index.
+ * <li>the observed holidays, excluding any unobserved holiday.
+ * </ul>
+ * <p>Every field is final and nothing is modified after construction, thus a snapshot is safely published<br/>
+ * and may be shared across threads without locking.  Later changes to the configuration do not affect the snapshot.</p>
+ * <p>Lookups never modify the specified dates and the returned holidays are read-only.</p>
+ * <br/>
+ * @see org.wrk.date.holiday.BusinessCalendar
+ * @see org.wrk.date.holiday.FederalHolidays
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayCalendar implements Holidays {
+
+	private final HolidayIndex holidayIndex;
+
+	private final BusinessCalendar businessCalendar;
+
+	private final int observedMask;
+
+	/**
+	 * <p>constructor</p>
+	 * @param businessCalendar holiday index and observed holidays of the snapshot.
+	 */
+	HolidayCalendar(BusinessCalendar businessCalendar) {
+		this.holidayIndex = businessCalendar.getHolidayIndex();
+		this.businessCalendar = businessCalendar;
+		this.observedMask = businessCalendar.getObservedMask();
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * <p>The lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return HolidayEnum ordinal if an observed holiday occurs on the epoch day else -1, including when outside of the year range.
+	 */
+	public int actualHolidayOrdinal(long epochDay) {
+		return this.getHolidayIndex().actualOrdinal(epochDay, this.observedMask);
+	}
+
+	/**
+	 * <p>Add a number of business days to the date, skipping weekends and observed holidays.</p>
+	 * @param date the starting date.
+	 * @param businessDays number of business days to add, negative to count backward.
+	 * @return LocalDate of the resulting business day.
+	 * @throws IllegalArgumentException if the date is outside of the year range or the result is beyond the adjacent year.
+	 * @see org.wrk.date.holiday.BusinessCalendar#addBusinessDays(long, int)
+	 */
+	public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+		return this.getBusinessCalendar().addBusinessDays(date, businessDays);
+	}
+
+	/**
+	 * <p>Stream the business days from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return IntStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#businessDays(long, long)
+	 */
+	public IntStream businessDays(int from, int to) {
+		return this.getBusinessCalendar().businessDays(from, to);
+	}
+
+	/**
+	 * <p>Stream the business days from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return LongStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#businessDays(long, long)
+	 */
+	public LongStream businessDays(long from, long to) {
+		return this.getBusinessCalendar().businessDays(from, to);
+	}
+
+	/**
+	 * <p>Stream the business days from one date up to, but not including, another.</p>
+	 * @param from the first date streamed.
+	 * @param to the date following the last date streamed.
+	 * @return Stream of LocalDate in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either date is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#businessDays(long, long)
+	 */
+	public Stream<LocalDate> businessDays(LocalDate from, LocalDate to) {
+		return this.getBusinessCalendar().businessDays(from, to);
+	}
+
+	/**
+	 * <p>Count the business days from one date up to, but not including, another.</p>
+	 * @param from the first date counted.
+	 * @param to the date following the last date counted.
+	 * @return int number of business days, negative if to is before from.
+	 * @throws IllegalArgumentException if either date is outside of the year range.
+	 */
+	public int businessDaysBetween(LocalDate from, LocalDate to) {
+		return this.getBusinessCalendar().businessDaysBetween(from, to);
+	}
+
+	/**
+	 * <p>Get the business calendar of the snapshot.</p>
+	 * @return BusinessCalendar
+	 */
+	public BusinessCalendar getBusinessCalendar() {
+		return businessCalendar;
+	}
+
+	/**
+	 * <p>Get the first year of the snapshot.</p>
+	 * @return int
+	 */
+	public int getFirstYear() {
+		return this.getHolidayIndex().getFirstYear();
+	}
+
+	/**
+	 * <p>Get the holiday index of the snapshot.</p>
+	 * @return HolidayIndex
+	 */
+	public HolidayIndex getHolidayIndex() {
+		return holidayIndex;
+	}
+
+	/**
+	 * <p>Get the last year of the snapshot.</p>
+	 * @return int
+	 */
+	public int getLastYear() {
+		return this.getHolidayIndex().getLastYear();
+	}
+
+	/**
+	 * <p>Get the observed holidays as a bit per HolidayEnum ordinal.</p>
+	 * @return int
+	 */
+	public int getObservedMask() {
+		return observedMask;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match?</p>
+	 * <p>Intended for tight loops over primitive dates; the lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1, including when outside of the year range.
+	 */
+	public int holidayOrdinal(long epochDay) {
+		int ordinal = this.getHolidayIndex().ordinal(epochDay);
+
+		return ordinal >= 0 && (this.observedMask & (1 << ordinal)) != 0 ? ordinal : -1;
+	}
+
+	/**
+	 * <p>Stream the observed holidays from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return IntStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#holidays(long, long)
+	 */
+	public IntStream holidays(int from, int to) {
+		return this.getBusinessCalendar().holidays(from, to);
+	}
+
+	/**
+	 * <p>Stream the observed holidays from one epoch day up to, but not including, another.</p>
+	 * @param from the first epoch day streamed.
+	 * @param to the epoch day following the last epoch day streamed.
+	 * @return LongStream of epoch days in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either epoch day is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#holidays(long, long)
+	 */
+	public LongStream holidays(long from, long to) {
+		return this.getBusinessCalendar().holidays(from, to);
+	}
+
+	/**
+	 * <p>Stream the observed holidays from one date up to, but not including, another.</p>
+	 * @param from the first date streamed.
+	 * @param to the date following the last date streamed.
+	 * @return Stream of LocalDate in ascending order, empty if to is not after from.
+	 * @throws IllegalArgumentException if either date is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#holidays(long, long)
+	 */
+	public Stream<LocalDate> holidays(LocalDate from, LocalDate to) {
+		return this.getBusinessCalendar().holidays(from, to);
+	}
+
+	/**
+	 * <p>Is the date a business day?</p>
+	 * @param date value to be determined.
+	 * @return true if neither a weekend nor an observed holiday else false.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public boolean isBusinessDay(LocalDate date) {
+		return this.getBusinessCalendar().isBusinessDay(date);
+	}
+
+	/**
+	 * <p>Does the calendar date match a holiday?  The date is not modified.</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public boolean isHoliday(Calendar date) throws Exception {
+		return this.whichHoliday(date) != null;
+	}
+
+	/**
+	 * <p>Does the date match a holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public boolean isHoliday(Date date) throws Exception {
+		return this.whichHoliday(date) != null;
+	}
+
+	/**
+	 * <p>Does the local date match a holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public boolean isHoliday(LocalDate date) throws Exception {
+		return this.whichHoliday(date) != null;
+	}
+
+	/**
+	 * <p>Does the epoch day match an observed holiday?</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return true if holiday else false, including when outside of the year range.
+	 */
+	public boolean isHoliday(long epochDay) {
+		return this.holidayOrdinal(epochDay) >= 0;
+	}
+
+	/**
+	 * <p>Is the holiday observed by the snapshot?</p>
+	 * @param day HolidayEnum value.
+	 * @return true if observed else false.
+	 */
+	public boolean isObserved(HolidayEnum day) {
+		return day != null && (this.observedMask & (1 << day.ordinal())) != 0;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Saturday observed on the prior Friday?</p>
+	 * @return boolean
+	 */
+	public boolean isSaturdayObservable() {
+		return this.getHolidayIndex().isSaturdayObservable();
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Sunday observed on the following Monday?</p>
+	 * @return boolean
+	 */
+	public boolean isSundayObservable() {
+		return this.getHolidayIndex().isSundayObservable();
+	}
+
+	/**
+	 * <p>List the observed holidays of a year sorted by date, shared by the snapshots of the same configuration.</p>
+	 * @param year within the year range.
+	 * @return HolidayListing
+	 * @throws IllegalArgumentException if the year is outside of the year range.
+	 * @see org.wrk.date.holiday.BusinessCalendar#listing(int)
+	 */
+	public HolidayListing listing(int year) {
+		return this.getBusinessCalendar().listing(year);
+	}
+
+	/**
+	 * <p>Find the closest business day after the date.</p>
+	 * @param date the starting date.
+	 * @return LocalDate of the next business day, within the year range or the following year.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public LocalDate nextBusinessDay(LocalDate date) {
+		return this.getBusinessCalendar().nextBusinessDay(date);
+	}
+
+	/**
+	 * <p>Find the closest observed holiday after the date.</p>
+	 * @param date the starting date.
+	 * @return Holiday or null if no observed holiday follows within the year range or the following year.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public Holiday nextHoliday(LocalDate date) {
+		return this.getBusinessCalendar().nextHoliday(date);
+	}
+
+	/**
+	 * <p>Find the closest business day before the date.</p>
+	 * @param date the starting date.
+	 * @return LocalDate of the previous business day, within the year range or the preceding year.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public LocalDate previousBusinessDay(LocalDate date) {
+		return this.getBusinessCalendar().previousBusinessDay(date);
+	}
+
+	/**
+	 * <p>Find the closest observed holiday before the date.</p>
+	 * @param date the starting date.
+	 * @return Holiday or null if no observed holiday precedes within the year range or the preceding year.
+	 * @throws IllegalArgumentException if the date is outside of the year range.
+	 */
+	public Holiday previousHoliday(LocalDate date) {
+		return this.getBusinessCalendar().previousHoliday(date);
+	}
+
+	/**
+	 * <p>Which observed holiday does the date match?</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfMonth value of the date, 1 through 31.
+	 * @return Holiday if the date is an observed holiday else null.
+	 */
+	private Holiday whichHoliday(int year, int month, int dayOfMonth) {
+		Holiday holiday = this.getHolidayIndex().whichHoliday(year, month, dayOfMonth);
+
+		return holiday != null && this.isObserved(holiday.getDay()) ? holiday : null;
+	}
+
+	/**
+	 * <p>Which holiday does the calendar date match?  The date is not modified.</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public Holiday whichHoliday(Calendar date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		Holiday holiday = this.getHolidayIndex().whichHoliday(EpochDays.of(date));
+
+		return holiday != null && this.isObserved(holiday.getDay()) ? holiday : null;
+	}
+
+	/**
+	 * <p>Which holiday does the date match?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public Holiday whichHoliday(Date date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		// A Calendar local to the call, so concurrent lookups do not share state.
+		Calendar now = Calendar.getInstance();
+
+		now.setTime(date);
+
+		return this.whichHoliday(now);
+	}
+
+	/**
+	 * <p>Which holiday does the local date match?</p>
+	 * <p>The lookup does not allocate objects.</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public Holiday whichHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.whichHoliday(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+	}
+
+	/**
+	 * <p>Which holiday actually occurs on the local date, before any weekend observance shift?</p>
+	 * <p>The lookup does not allocate objects.</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if an observed holiday occurs on the date else null.
+	 * @throws Exception if date is null.
+	 * @see org.wrk.date.holiday.FederalHolidays#whichActualHoliday(LocalDate)
+	 */
+	public Holiday whichActualHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		Holiday holiday = this.getHolidayIndex().whichActualHoliday(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+
+		return holiday != null && this.isObserved(holiday.getDay()) ? holiday : null;
+	}
+
+	/**
+	 * <p>Which holiday is observed on the local date, the day off?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches the observed date of a holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	public Holiday whichObservedHoliday(LocalDate date) throws Exception {
+		return this.whichHoliday(date);
+	}
+}
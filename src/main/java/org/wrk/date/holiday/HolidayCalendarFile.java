@@ -0,0 +1,234 @@
+package org.wrk.date.holiday;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <h1>HolidayCalendarFile</h1>class writes and memory-maps precompiled holiday calendar files.
+ * <p>A calendar file holds the observed holidays of a HolidayCalendar snapshot, so a process starts with a single mmap
+ * instead of calling init(), and every process mapping the file shares the pages.</p>
+ * <h4>Format</h4>
+ * <p>Little-endian, HEADER_SIZE bytes of header followed by the day tables:</p>
+ * <ul>
+ * <li>0 - int MAGIC.
+ * <li>4 - int VERSION of the format.
+ * <li>8 - int flags, 2 if saturdayObservable plus 1 if sundayObservable.
+ * <li>12 - int observed mask, bit per HolidayEnum ordinal.
+ * <li>16 - long fingerprint of the holiday rules and the configuration.
+ * <li>24 - int first year.
+ * <li>28 - int last year.
+ * <li>32 - long epoch day of the first day, December 31st of the year prior to the first year.
+ * <li>40 - int number of days.
+ * <li>44 - int reserved, 0.
+ * <li>48 - long[(days + 63) / 64] bitset, bit set when the day is an observed holiday.
+ * <li>then - byte[days] observed holiday ordinal + 1, 0 when the day is not an observed holiday.
+ * </ul>
+ * <p>The fingerprint is verified when mapping or reading, thus a file written with different holiday rules is rejected.<br/>
+ * Files of a custom HolidayRuleSet are mapped or read with the same rule set.<br/>
+ * Calendar files may also be generated at build time and read from the classpath, see PrecompiledHolidays.</p>
+ * @see org.wrk.date.holiday.HolidayCalendar
+ * @see org.wrk.date.holiday.MappedHolidayCalendar
+ * @see org.wrk.date.holiday.PrecompiledHolidays
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayCalendarFile {
+
+	/**
+	 * <p>"USHD", the first int of every calendar file.</p>
+	 */
+	public static final int MAGIC = 0x55534844;
+
+	/**
+	 * <p>Version of the format.</p>
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * <p>Number of bytes before the bitset.</p>
+	 */
+	public static final int HEADER_SIZE = 48;
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private HolidayCalendarFile() {
+	}
+
+	/**
+	 * <p>Number of bytes of a calendar file.</p>
+	 * @param dayCount number of days.
+	 * @return long file size.
+	 */
+	static long fileSize(int dayCount) {
+		return ordinalPosition(dayCount) + (long) dayCount;
+	}
+
+	/**
+	 * <p>Position of the ordinal table.</p>
+	 * @param dayCount number of days.
+	 * @return long
+	 */
+	static long ordinalPosition(int dayCount) {
+		return HEADER_SIZE + ((dayCount + 63L) >>> 6) * Long.BYTES;
+	}
+
+	/**
+	 * <p>Memory-map a calendar file read-only.</p>
+	 * <p>The file is not read; lookups read from the mapped pages.  The mapping remains valid after the file is replaced.</p>
+	 * @param path of the calendar file.
+	 * @return MappedHolidayCalendar
+	 * @throws IOException if the file cannot be mapped, is not a calendar file, or was written with different holiday rules.
+	 */
+	public static MappedHolidayCalendar map(Path path) throws IOException {
+		return map(path, HolidayRuleSet.FEDERAL);
+	}
+
+	/**
+	 * <p>Memory-map a calendar file of a rule set read-only.</p>
+	 * @param path of the calendar file.
+	 * @param holidayRules rules the calendar file was written with.
+	 * @return MappedHolidayCalendar
+	 * @throws IOException if the file cannot be mapped, is not a calendar file, or was written with different holiday rules.
+	 */
+	public static MappedHolidayCalendar map(Path path, HolidayRuleSet holidayRules) throws IOException {
+		MappedByteBuffer buffer;
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		return open(buffer, path.toString(), holidayRules);
+	}
+
+	/**
+	 * <p>Verify the calendar file in the buffer.</p>
+	 * @param buffer holding the whole calendar file.
+	 * @param source name of the calendar file, for messages.
+	 * @param holidayRules rules the calendar file was written with.
+	 * @return MappedHolidayCalendar reading from the buffer.
+	 * @throws IOException if the buffer is not a calendar file, or was written with different holiday rules.
+	 */
+	private static MappedHolidayCalendar open(ByteBuffer buffer, String source, HolidayRuleSet holidayRules) throws IOException {
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException(String.format("%s is not a holiday calendar file.", source));
+		}
+
+		if(buffer.getInt(4) != VERSION) {
+			throw new IOException(String.format("%s is version %d, expected version %d.", source, buffer.getInt(4), VERSION));
+		}
+
+		int flags = buffer.getInt(8);
+
+		int dayCount = buffer.getInt(40);
+
+		if(dayCount < 0 || buffer.capacity() != fileSize(dayCount)) {
+			throw new IOException(String.format("%s is truncated or corrupt.", source));
+		}
+
+		long fingerprint = HolidayTemplates.of(holidayRules, (flags & 2) != 0, (flags & 1) != 0).fingerprint(buffer.getInt(12));
+
+		if(buffer.getLong(16) != fingerprint) {
+			throw new IOException(String.format("%s was written with different holiday rules.", source));
+		}
+
+		return new MappedHolidayCalendar(buffer, holidayRules);
+	}
+
+	/**
+	 * <p>Read a calendar file from a stream into memory, such as a classpath resource.</p>
+	 * @param input calendar file, read to the end but not closed.
+	 * @param source name of the calendar file, for messages.
+	 * @return MappedHolidayCalendar reading from a heap buffer.
+	 * @throws IOException if the stream cannot be read, is not a calendar file, or was written with different holiday rules.
+	 */
+	public static MappedHolidayCalendar read(InputStream input, String source) throws IOException {
+		return read(input, source, HolidayRuleSet.FEDERAL);
+	}
+
+	/**
+	 * <p>Read a calendar file of a rule set from a stream into memory.</p>
+	 * @param input calendar file, read to the end but not closed.
+	 * @param source name of the calendar file, for messages.
+	 * @param holidayRules rules the calendar file was written with.
+	 * @return MappedHolidayCalendar reading from a heap buffer.
+	 * @throws IOException if the stream cannot be read, is not a calendar file, or was written with different holiday rules.
+	 */
+	public static MappedHolidayCalendar read(InputStream input, String source, HolidayRuleSet holidayRules) throws IOException {
+		return open(ByteBuffer.wrap(input.readAllBytes()), source, holidayRules);
+	}
+
+	/**
+	 * <p>Write the observed holidays of the snapshot to a calendar file.</p>
+	 * <p>The file is written to a temporary file in the same directory and moved into place,
+	 * thus processes mapping the path never see a partially written file.</p>
+	 * @param calendar snapshot to write.
+	 * @param path of the calendar file, replaced if it exists.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public static void write(HolidayCalendar calendar, Path path) throws IOException {
+		HolidayIndex index = calendar.getHolidayIndex();
+
+		int mask = calendar.getObservedMask();
+
+		int dayCount = (int) (index.getLastDay() - index.getFirstDay() + 1);
+
+		if(fileSize(dayCount) > Integer.MAX_VALUE) {
+			throw new IOException(String.format("Year range %d to %d is too large to write.", index.getFirstYear(), index.getLastYear()));
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate((int) fileSize(dayCount)).order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putInt(8, (index.isSaturdayObservable() ? 2 : 0) | (index.isSundayObservable() ? 1 : 0));
+		buffer.putInt(12, mask);
+		buffer.putLong(16, HolidayTemplates.of(index.getHolidayRules(), index.isSaturdayObservable(), index.isSundayObservable()).fingerprint(mask));
+		buffer.putInt(24, index.getFirstYear());
+		buffer.putInt(28, index.getLastYear());
+		buffer.putLong(32, index.getFirstDay());
+		buffer.putInt(40, dayCount);
+
+		int ordinalPosition = (int) ordinalPosition(dayCount);
+
+		for(int offset = 0; offset < dayCount; offset++) {
+			int ordinal = index.ordinal(index.getFirstDay() + offset, mask);
+
+			if(ordinal >= 0) {
+				int word = HEADER_SIZE + (offset >>> 6) * Long.BYTES;
+
+				buffer.putLong(word, buffer.getLong(word) | 1L << offset);
+
+				buffer.put(ordinalPosition + offset, (byte) (ordinal + 1));
+			}
+		}
+
+		Path directory = path.toAbsolutePath().getParent();
+
+		Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+		try {
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				while(buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+
+				channel.force(true);
+			}
+
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package org.wrk.date.holiday;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * <h1>HolidayClassifier</h1>class classifies arrays of dates against a HolidayIndex in one pass.
+ * <p>Backs the bulk holidayOrdinals, isHoliday and holidays methods of FederalHolidays.<br/>
+ * The inner loops call HolidayIndex.ordinal(long, int), which clamps the offset and applies the observed mask
+ * without branching, thus each element costs one table read regardless of the result.</p>
+ * <h4>Parallel mode</h4>
+ * <p>Large inputs are split into blocks of BLOCK_SIZE elements classified on the common fork join pool.<br/>
+ * BLOCK_SIZE is a multiple of 64, so every block writes its own words of a BitSet and no element is shared between threads.</p>
+ * <p>A null index classifies every date as not a holiday.  Days outside of the index are answered by the year templates when set.</p>
+ * <p>An actual classifier answers the holiday actually occurring on each day, before any weekend observance shift, see HolidayIndex.actualOrdinal(long, int).</p>
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+final class HolidayClassifier {
+
+	// Elements classified per block, a multiple of 64.
+	static final int BLOCK_SIZE = 1 << 14;
+
+	// Inputs shorter than this are classified by the calling thread even in parallel mode.
+	static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	private final HolidayIndex holidayIndex;
+
+	// Bit per HolidayEnum ordinal, set when the holiday is observed.
+	private final int observedMask;
+
+	// Answers days outside of the index, may be null.
+	private final HolidayTemplates holidayTemplates;
+
+	// Classify the actual rather than the observed dates.
+	private final boolean actual;
+
+	/**
+	 * <p>constructor of the observed dates.</p>
+	 * @param holidayIndex computed holidays, may be null.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @param holidayTemplates answers days outside of the index, or null if those days are not holidays.
+	 */
+	HolidayClassifier(HolidayIndex holidayIndex, int observedMask, HolidayTemplates holidayTemplates) {
+		this(holidayIndex, observedMask, holidayTemplates, false);
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param holidayIndex computed holidays, may be null.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @param holidayTemplates answers days outside of the index, or null if those days are not holidays.
+	 * @param actual true to classify the actual dates of the holidays else the observed dates.
+	 */
+	HolidayClassifier(HolidayIndex holidayIndex, int observedMask, HolidayTemplates holidayTemplates, boolean actual) {
+		this.holidayIndex = holidayIndex;
+		this.observedMask = observedMask;
+		this.holidayTemplates = holidayTemplates;
+		this.actual = actual;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match, on its observed or actual date?</p>
+	 * <p>Without templates the lookup is branch-free.  With templates, only days outside of the index take the slower lookup.</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1.
+	 */
+	private int ordinal(long epochDay) {
+		if(this.holidayTemplates != null && !this.holidayIndex.contains(epochDay)) {
+			return this.actual ? this.holidayTemplates.actualOrdinal(epochDay, this.observedMask) : this.holidayTemplates.ordinal(epochDay, this.observedMask);
+		}
+
+		// Constant per classifier, thus predicted.
+		return this.actual ? this.holidayIndex.actualOrdinal(epochDay, this.observedMask) : this.holidayIndex.ordinal(epochDay, this.observedMask);
+	}
+
+	/**
+	 * <p>Classify the range of elements from (inclusive) to (exclusive).</p>
+	 */
+	private interface Block {
+		void classify(int from, int to);
+	}
+
+	/**
+	 * <p>Run the block over every element, in parallel blocks when requested and the input is large.</p>
+	 * @param length number of elements.
+	 * @param parallel the parallel mode flag.
+	 * @param block classification of a range of elements.
+	 */
+	private static void run(int length, boolean parallel, Block block) {
+		if(parallel && length >= PARALLEL_THRESHOLD) {
+			IntStream.range(0, (length + BLOCK_SIZE - 1) / BLOCK_SIZE).parallel().forEach(i -> block.classify(i * BLOCK_SIZE, Math.min(length, (i + 1) * BLOCK_SIZE)));
+		}
+		else {
+			block.classify(0, length);
+		}
+	}
+
+	/**
+	 * <p>Verify the result array holds an element for every date.</p>
+	 * @param length number of dates.
+	 * @param resultLength number of results.
+	 * @throws IllegalArgumentException if the result array is shorter than the dates.
+	 */
+	private static void checkLength(int length, int resultLength) {
+		if(resultLength < length) {
+			throw new IllegalArgumentException(String.format("Result length %d is less than the %d dates.", resultLength, length));
+		}
+	}
+
+	/**
+	 * <p>Fill the HolidayEnum ordinal of each epoch day, -1 if not an observed holiday.</p>
+	 * @param epochDays dates to classify.
+	 * @param ordinals result, at least as long as epochDays.
+	 * @param parallel the parallel mode flag.
+	 */
+	void holidayOrdinals(long[] epochDays, byte[] ordinals, boolean parallel) {
+		checkLength(epochDays.length, ordinals.length);
+
+		if(this.holidayIndex == null) {
+			Arrays.fill(ordinals, 0, epochDays.length, (byte) -1);
+
+			return;
+		}
+
+		run(epochDays.length, parallel, (from, to) -> {
+			for(int i = from; i < to; i++) {
+				ordinals[i] = (byte) this.ordinal(epochDays[i]);
+			}
+		});
+	}
+
+	/**
+	 * <p>Fill the HolidayEnum ordinal of each epoch day, -1 if not an observed holiday.</p>
+	 * @param epochDays dates to classify.
+	 * @param ordinals result, at least as long as epochDays.
+	 * @param parallel the parallel mode flag.
+	 */
+	void holidayOrdinals(int[] epochDays, byte[] ordinals, boolean parallel) {
+		checkLength(epochDays.length, ordinals.length);
+
+		if(this.holidayIndex == null) {
+			Arrays.fill(ordinals, 0, epochDays.length, (byte) -1);
+
+			return;
+		}
+
+		run(epochDays.length, parallel, (from, to) -> {
+			for(int i = from; i < to; i++) {
+				ordinals[i] = (byte) this.ordinal(epochDays[i]);
+			}
+		});
+	}
+
+	/**
+	 * <p>Fill the HolidayEnum ordinal of each date, -1 if null or not an observed holiday.</p>
+	 * @param dates dates to classify.
+	 * @param ordinals result, at least as long as dates.
+	 * @param parallel the parallel mode flag.
+	 */
+	void holidayOrdinals(LocalDate[] dates, byte[] ordinals, boolean parallel) {
+		checkLength(dates.length, ordinals.length);
+
+		if(this.holidayIndex == null) {
+			Arrays.fill(ordinals, 0, dates.length, (byte) -1);
+
+			return;
+		}
+
+		run(dates.length, parallel, (from, to) -> {
+			for(int i = from; i < to; i++) {
+				ordinals[i] = (byte) (dates[i] != null ? this.ordinal(dates[i].toEpochDay()) : -1);
+			}
+		});
+	}
+
+	/**
+	 * <p>Fill true for each epoch day that is an observed holiday else false.</p>
+	 * @param epochDays dates to classify.
+	 * @param holidays result, at least as long as epochDays.
+	 * @param parallel the parallel mode flag.
+	 */
+	void isHoliday(long[] epochDays, boolean[] holidays, boolean parallel) {
+		checkLength(epochDays.length, holidays.length);
+
+		if(this.holidayIndex == null) {
+			Arrays.fill(holidays, 0, epochDays.length, false);
+
+			return;
+		}
+
+		run(epochDays.length, parallel, (from, to) -> {
+			for(int i = from; i < to; i++) {
+				holidays[i] = this.ordinal(epochDays[i]) >= 0;
+			}
+		});
+	}
+
+	/**
+	 * <p>Fill true for each epoch day that is an observed holiday else false.</p>
+	 * @param epochDays dates to classify.
+	 * @param holidays result, at least as long as epochDays.
+	 * @param parallel the parallel mode flag.
+	 */
+	void isHoliday(int[] epochDays, boolean[] holidays, boolean parallel) {
+		checkLength(epochDays.length, holidays.length);
+
+		if(this.holidayIndex == null) {
+			Arrays.fill(holidays, 0, epochDays.length, false);
+
+			return;
+		}
+
+		run(epochDays.length, parallel, (from, to) -> {
+			for(int i = from; i < to; i++) {
+				holidays[i] = this.ordinal(epochDays[i]) >= 0;
+			}
+		});
+	}
+
+	/**
+	 * <p>Fill true for each date that is an observed holiday else false, including null dates.</p>
+	 * @param dates dates to classify.
+	 * @param holidays result, at least as long as dates.
+	 * @param parallel the parallel mode flag.
+	 */
+	void isHoliday(LocalDate[] dates, boolean[] holidays, boolean parallel) {
+		checkLength(dates.length, holidays.length);
+
+		if(this.holidayIndex == null) {
+			Arrays.fill(holidays, 0, dates.length, false);
+
+			return;
+		}
+
+		run(dates.length, parallel, (from, to) -> {
+			for(int i = from; i < to; i++) {
+				holidays[i] = dates[i] != null && this.ordinal(dates[i].toEpochDay()) >= 0;
+			}
+		});
+	}
+
+	/**
+	 * <p>Set the bit of each epoch day that is an observed holiday.</p>
+	 * @param epochDays dates to classify.
+	 * @param parallel the parallel mode flag.
+	 * @return BitSet with bit i set if epochDays[i] is an observed holiday.
+	 */
+	BitSet holidays(long[] epochDays, boolean parallel) {
+		long[] words = new long[(epochDays.length + 63) >>> 6];
+
+		if(this.holidayIndex != null) {
+			run(epochDays.length, parallel, (from, to) -> {
+				for(int i = from; i < to; i++) {
+					// The sign bit of the ordinal is clear for a holiday, the shift distance is taken modulo 64.
+					words[i >>> 6] |= (long) (~this.ordinal(epochDays[i]) >>> 31) << i;
+				}
+			});
+		}
+
+		return BitSet.valueOf(words);
+	}
+
+	/**
+	 * <p>Set the bit of each epoch day that is an observed holiday.</p>
+	 * @param epochDays dates to classify.
+	 * @param parallel the parallel mode flag.
+	 * @return BitSet with bit i set if epochDays[i] is an observed holiday.
+	 */
+	BitSet holidays(int[] epochDays, boolean parallel) {
+		long[] words = new long[(epochDays.length + 63) >>> 6];
+
+		if(this.holidayIndex != null) {
+			run(epochDays.length, parallel, (from, to) -> {
+				for(int i = from; i < to; i++) {
+					words[i >>> 6] |= (long) (~this.ordinal(epochDays[i]) >>> 31) << i;
+				}
+			});
+		}
+
+		return BitSet.valueOf(words);
+	}
+
+	/**
+	 * <p>Set the bit of each date that is an observed holiday.</p>
+	 * @param dates dates to classify, null dates are not holidays.
+	 * @param parallel the parallel mode flag.
+	 * @return BitSet with bit i set if dates[i] is an observed holiday.
+	 */
+	BitSet holidays(LocalDate[] dates, boolean parallel) {
+		long[] words = new long[(dates.length + 63) >>> 6];
+
+		if(this.holidayIndex != null) {
+			run(dates.length, parallel, (from, to) -> {
+				for(int i = from; i < to; i++) {
+					int ordinal = dates[i] != null ? this.ordinal(dates[i].toEpochDay()) : -1;
+
+					words[i >>> 6] |= (long) (~ordinal >>> 31) << i;
+				}
+			});
+		}
+
+		return BitSet.valueOf(words);
+	}
+}
@@ -0,0 +1,367 @@
+package org.wrk.date.holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.PrimitiveIterator;
+
+/**
+ * <h1>HolidayExporter</h1>class streams the observed holidays of a HolidayCalendar as CSV or iCalendar (RFC 5545).
+ * <h4>Functionality</h4>
+ * <ul>
+ * <li>writeCsv - writes a header line and one line per holiday: date,holiday,name,observed
+ * <li>writeIcs - writes a VCALENDAR with one all day VEVENT per holiday.  The UID is the date and the holiday<br/>
+ * and DTSTAMP is fixed, thus exporting the same holidays twice writes the same bytes.
+ * </ul>
+ * <p>Every holiday of the year range, or of the specified years, is written in ascending date order<br/>
+ * to an OutputStream or a WritableByteChannel.  Holidays are read from the snapshot's index and encoded<br/>
+ * into one reused buffer, thus an export runs in constant memory and allocates nothing per holiday.</p>
+ * <p>The exporter reuses its buffer and is not thread-safe; use one exporter per thread.<br/>
+ * The stream or channel is neither flushed nor closed.</p>
+ * @see org.wrk.date.holiday.HolidayCalendar
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayExporter {
+
+	/**
+	 * <p>Default size of the encoding buffer in bytes.</p>
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	// Largest record written, an ICS event with a long holiday name.
+	private static final int MAXIMUM_RECORD = 512;
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	private static final byte[][] DAY_NAMES = new byte[DAYS.length][];
+
+	private static final byte[][] HOLIDAY_NAMES = new byte[DAYS.length][];
+
+	private static final byte[] CSV_HEADER = ascii("date,holiday,name,observed\n");
+
+	private static final byte[] ICS_HEADER = ascii("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//org.wrk//USHoliday//EN\r\nCALSCALE:GREGORIAN\r\n");
+
+	private static final byte[] ICS_FOOTER = ascii("END:VCALENDAR\r\n");
+
+	private static final byte[] EVENT_UID = ascii("BEGIN:VEVENT\r\nUID:");
+
+	private static final byte[] EVENT_START = ascii("@org.wrk.date.holiday\r\nDTSTAMP:19700101T000000Z\r\nDTSTART;VALUE=DATE:");
+
+	private static final byte[] EVENT_END = ascii("\r\nDTEND;VALUE=DATE:");
+
+	private static final byte[] EVENT_SUMMARY = ascii("\r\nSUMMARY:");
+
+	private static final byte[] EVENT_OBSERVED = ascii(" (observed)");
+
+	private static final byte[] EVENT_FOOTER = ascii("\r\nTRANSP:TRANSPARENT\r\nEND:VEVENT\r\n");
+
+	private static final byte[] LINE_OBSERVED = ascii(",true\n");
+
+	private static final byte[] LINE_ACTUAL = ascii(",false\n");
+
+	static {
+		for(HolidayEnum day : DAYS) {
+			DAY_NAMES[day.ordinal()] = ascii(day.name());
+			HOLIDAY_NAMES[day.ordinal()] = ascii(day.getHolidayName());
+		}
+	}
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * <p>Destination of the encoded bytes.</p>
+	 */
+	@FunctionalInterface
+	private interface Sink {
+
+		/**
+		 * <p>Write the bytes of the buffer, from 0 up to its position.</p>
+		 * @param buffer heap buffer.
+		 * @throws IOException if the write fails.
+		 */
+		void write(ByteBuffer buffer) throws IOException;
+	}
+
+	/**
+	 * <p>constructor</p>
+	 */
+	public HolidayExporter() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * <p>constructor w/param</p>
+	 * @param bufferSize size of the encoding buffer in bytes, at least 1024.
+	 * @throws IllegalArgumentException if the buffer size is less than 1024.
+	 */
+	public HolidayExporter(int bufferSize) {
+		if(bufferSize < 1024) {
+			throw new IllegalArgumentException(String.format("Invalid buffer size %d, expected at least 1024.", bufferSize));
+		}
+
+		this.buffer = ByteBuffer.allocate(bufferSize);
+	}
+
+	/**
+	 * <p>Encode a string of ASCII characters.</p>
+	 * @param value to encode.
+	 * @return byte[]
+	 */
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * <p>Sink writing to a channel.</p>
+	 * @param channel to write.
+	 * @return Sink
+	 */
+	private static Sink sink(WritableByteChannel channel) {
+		return buffer -> {
+			buffer.flip();
+
+			while(buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+
+			buffer.clear();
+		};
+	}
+
+	/**
+	 * <p>Sink writing to a stream.</p>
+	 * @param out stream to write.
+	 * @return Sink
+	 */
+	private static Sink sink(OutputStream out) {
+		return buffer -> {
+			out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+
+			buffer.clear();
+		};
+	}
+
+	/**
+	 * <p>Stream the holidays of the years to the sink.</p>
+	 * @param calendar holidays to export.
+	 * @param firstYear first year exported.
+	 * @param lastYear last year exported.
+	 * @param ics true for iCalendar else CSV.
+	 * @param sink destination.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 */
+	private long export(HolidayCalendar calendar, int firstYear, int lastYear, boolean ics, Sink sink) throws IOException {
+		if(firstYear < calendar.getFirstYear() || lastYear > calendar.getLastYear() || lastYear < firstYear) {
+			throw new IllegalArgumentException(String.format("Years %d to %d are outside of the year range %d to %d.", firstYear, lastYear, calendar.getFirstYear(), calendar.getLastYear()));
+		}
+
+		HolidayIndex index = calendar.getHolidayIndex();
+
+		ByteBuffer buffer = this.buffer;
+
+		buffer.clear();
+
+		buffer.put(ics ? ICS_HEADER : CSV_HEADER);
+
+		long count = 0;
+
+		PrimitiveIterator.OfLong epochDays = calendar.getBusinessCalendar().holidays(EpochDays.of(firstYear, 1, 1), EpochDays.of(lastYear + 1, 1, 1)).iterator();
+
+		while(epochDays.hasNext()) {
+			long epochDay = epochDays.nextLong();
+
+			int ordinal = index.ordinal(epochDay);
+
+			if(buffer.remaining() < MAXIMUM_RECORD) {
+				sink.write(buffer);
+			}
+
+			if(ics) {
+				putEvent(buffer, epochDay, ordinal, index.whichHoliday(epochDay).isObserved());
+			}
+			else {
+				putLine(buffer, epochDay, ordinal, index.whichHoliday(epochDay).isObserved());
+			}
+
+			count++;
+		}
+
+		if(ics) {
+			buffer.put(ICS_FOOTER);
+		}
+
+		sink.write(buffer);
+
+		return count;
+	}
+
+	/**
+	 * <p>Put a date as yyyymmdd, or yyyy-mm-dd if separated.</p>
+	 * @param buffer destination.
+	 * @param epochDay date to put.
+	 * @param separated true to separate the year, month and day with '-'.
+	 */
+	private static void putDate(ByteBuffer buffer, long epochDay, boolean separated) {
+		long date = EpochDays.toPackedDate(epochDay);
+
+		putNumber(buffer, date / 10000, 4);
+
+		if(separated) {
+			buffer.put((byte) '-');
+		}
+
+		putNumber(buffer, date / 100 % 100, 2);
+
+		if(separated) {
+			buffer.put((byte) '-');
+		}
+
+		putNumber(buffer, date % 100, 2);
+	}
+
+	/**
+	 * <p>Put an iCalendar event.</p>
+	 * @param buffer destination.
+	 * @param epochDay date of the holiday.
+	 * @param ordinal HolidayEnum ordinal of the holiday.
+	 * @param observed true if observed else false if actual day.
+	 */
+	private static void putEvent(ByteBuffer buffer, long epochDay, int ordinal, boolean observed) {
+		buffer.put(EVENT_UID);
+		putDate(buffer, epochDay, false);
+		buffer.put((byte) '-').put(DAY_NAMES[ordinal]).put(EVENT_START);
+		putDate(buffer, epochDay, false);
+		buffer.put(EVENT_END);
+		putDate(buffer, epochDay + 1, false);
+		buffer.put(EVENT_SUMMARY).put(HOLIDAY_NAMES[ordinal]);
+
+		if(observed) {
+			buffer.put(EVENT_OBSERVED);
+		}
+
+		buffer.put(EVENT_FOOTER);
+	}
+
+	/**
+	 * <p>Put a CSV line.</p>
+	 * @param buffer destination.
+	 * @param epochDay date of the holiday.
+	 * @param ordinal HolidayEnum ordinal of the holiday.
+	 * @param observed true if observed else false if actual day.
+	 */
+	private static void putLine(ByteBuffer buffer, long epochDay, int ordinal, boolean observed) {
+		putDate(buffer, epochDay, true);
+		buffer.put((byte) ',').put(DAY_NAMES[ordinal]).put((byte) ',').put(HOLIDAY_NAMES[ordinal]);
+		buffer.put(observed ? LINE_OBSERVED : LINE_ACTUAL);
+	}
+
+	/**
+	 * <p>Put a positive number in decimal, padded with leading zeros.</p>
+	 * @param buffer destination.
+	 * @param value number to put.
+	 * @param digits minimum number of digits.
+	 */
+	private static void putNumber(ByteBuffer buffer, long value, int digits) {
+		int length = 1;
+
+		for(long rest = value / 10; rest > 0; rest /= 10) {
+			length++;
+		}
+
+		length = Math.max(length, digits);
+
+		int position = buffer.position() + length;
+
+		for(int offset = 1; offset <= length; offset++) {
+			buffer.put(position - offset, (byte) ('0' + value % 10));
+
+			value /= 10;
+		}
+
+		buffer.position(position);
+	}
+
+	/**
+	 * <p>Get the size of the encoding buffer.</p>
+	 * @return int bytes.
+	 */
+	public int getBufferSize() {
+		return this.buffer.capacity();
+	}
+
+	/**
+	 * <p>Write the holidays of the year range as CSV.</p>
+	 * @param calendar holidays to export.
+	 * @param out stream receiving the CSV.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 */
+	public long writeCsv(HolidayCalendar calendar, OutputStream out) throws IOException {
+		return this.export(calendar, calendar.getFirstYear(), calendar.getLastYear(), false, sink(out));
+	}
+
+	/**
+	 * <p>Write the holidays of the year range as CSV.</p>
+	 * @param calendar holidays to export.
+	 * @param channel channel receiving the CSV.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 */
+	public long writeCsv(HolidayCalendar calendar, WritableByteChannel channel) throws IOException {
+		return this.export(calendar, calendar.getFirstYear(), calendar.getLastYear(), false, sink(channel));
+	}
+
+	/**
+	 * <p>Write the holidays of the years as CSV.</p>
+	 * @param calendar holidays to export.
+	 * @param firstYear first year exported.
+	 * @param lastYear last year exported.
+	 * @param channel channel receiving the CSV.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 * @throws IllegalArgumentException if the years are outside of the year range.
+	 */
+	public long writeCsv(HolidayCalendar calendar, int firstYear, int lastYear, WritableByteChannel channel) throws IOException {
+		return this.export(calendar, firstYear, lastYear, false, sink(channel));
+	}
+
+	/**
+	 * <p>Write the holidays of the year range as iCalendar.</p>
+	 * @param calendar holidays to export.
+	 * @param out stream receiving the iCalendar.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 */
+	public long writeIcs(HolidayCalendar calendar, OutputStream out) throws IOException {
+		return this.export(calendar, calendar.getFirstYear(), calendar.getLastYear(), true, sink(out));
+	}
+
+	/**
+	 * <p>Write the holidays of the year range as iCalendar.</p>
+	 * @param calendar holidays to export.
+	 * @param channel channel receiving the iCalendar.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 */
+	public long writeIcs(HolidayCalendar calendar, WritableByteChannel channel) throws IOException {
+		return this.export(calendar, calendar.getFirstYear(), calendar.getLastYear(), true, sink(channel));
+	}
+
+	/**
+	 * <p>Write the holidays of the years as iCalendar.</p>
+	 * @param calendar holidays to export.
+	 * @param firstYear first year exported.
+	 * @param lastYear last year exported.
+	 * @param channel channel receiving the iCalendar.
+	 * @return long number of holidays written.
+	 * @throws IOException if the write fails.
+	 * @throws IllegalArgumentException if the years are outside of the year range.
+	 */
+	public long writeIcs(HolidayCalendar calendar, int firstYear, int lastYear, WritableByteChannel channel) throws IOException {
+		return this.export(calendar, firstYear, lastYear, true, sink(channel));
+	}
+}
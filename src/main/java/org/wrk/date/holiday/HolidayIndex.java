@@ -0,0 +1,477 @@
+package org.wrk.date.holiday;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <h1>HolidayIndex</h1>class is a precomputed holiday index over a range of years keyed by epoch day.
+ * <p>Each day of the range holds one byte, the ordinal of the holiday observed on that day or none.<br/>
+ * Answering whether a date is a holiday is a single array read, regardless of the year.</p>
+ * <h4>Actual and observed dates</h4>
+ * <p>A second byte per day holds the ordinal of the holiday actually occurring on that day, before any weekend observance shift.<br/>
+ * Saturday July 4th is thus the actual Independence day while Friday July 3rd is the observed day off, both answered by one array read.</p>
+ * <ul>
+ * <li>ordinal, whichHoliday - the holiday observed on the day.
+ * <li>actualOrdinal, whichActualHoliday - the holiday actually occurring on the day.  New Years eve never occurs, it is only observed.
+ * </ul>
+ * <h4>Range</h4>
+ * <ul>
+ * <li>firstYear - the first calendar year computed.
+ * <li>lastYear - the last calendar year computed.
+ * </ul>
+ * <p>The index also covers December 31st of the year prior to the first year,<br/>
+ * since New Years day of the first year may be observed on that day.</p>
+ * <p>The years are copied from the HolidayTemplates, sequentially or in parallel by a HolidayIndexBuilder.<br/>
+ * The index is not modified after construction and may be shared.<br/>
+ * Holidays returned by the index are read-only.</p>
+ * @see org.wrk.date.holiday.EpochDays
+ * @see org.wrk.date.holiday.FederalHolidays
+ * @see org.wrk.date.holiday.HolidayIndexBuilder
+ * @see org.wrk.date.holiday.HolidayRuleSet
+ * @see org.wrk.date.holiday.HolidayTemplates
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayIndex {
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	// Fewest years copied by one fork/join task.
+	private static final int MINIMUM_TASK_YEARS = 64;
+
+	private final int firstYear;
+
+	private final int lastYear;
+
+	// Epoch day of December 31st of the year prior to the first year.
+	private final long firstDay;
+
+	// Number of days in the index.
+	private final int dayCount;
+
+	// Holiday ordinal + 1 per day at offset + 1, 0 when the day is not a holiday.
+	// The first and last elements are always 0 so out of range days clamp to no holiday without branching.
+	private final byte[] ordinals;
+
+	// Actual holiday ordinal + 1 per day at offset + 1, laid out as the ordinals.
+	private final byte[] actualOrdinals;
+
+	// Holidays by (calendar year of the date - (firstYear - 1)) * DAYS.length + ordinal.
+	private final Holiday[] holidays;
+
+	// Holidays on their actual date, laid out as the holidays.  Shares the observed holiday when it is the actual date.
+	private final Holiday[] actualHolidays;
+
+	private final HolidayRuleSet holidayRules;
+
+	private final boolean saturdayObservable;
+
+	private final boolean sundayObservable;
+
+	/**
+	 * <p>constructor of the federal holidays.</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index.
+	 */
+	public HolidayIndex(int firstYear, int lastYear, boolean saturdayObservable, boolean sundayObservable) {
+		this(firstYear, lastYear, saturdayObservable, sundayObservable, HolidayRuleSet.FEDERAL);
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @param holidayRules rules of the holidays.
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index, or holidayRules is null.
+	 */
+	public HolidayIndex(int firstYear, int lastYear, boolean saturdayObservable, boolean sundayObservable, HolidayRuleSet holidayRules) {
+		this(firstYear, lastYear, saturdayObservable, sundayObservable, holidayRules, null);
+	}
+
+	/**
+	 * <p>constructor copying the years in parallel.</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @param holidayRules rules of the holidays.
+	 * @param pool copying disjoint spans of years, null to copy sequentially.
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index, or holidayRules is null.
+	 */
+	HolidayIndex(int firstYear, int lastYear, boolean saturdayObservable, boolean sundayObservable, HolidayRuleSet holidayRules, ForkJoinPool pool) {
+		if(holidayRules == null) {
+			throw new IllegalArgumentException("Holiday rules are null.");
+		}
+
+		if(firstYear <= 0 || lastYear < firstYear) {
+			throw new IllegalArgumentException(String.format("Invalid year range %d to %d.", firstYear, lastYear));
+		}
+
+		this.firstYear = firstYear;
+		this.lastYear = lastYear;
+		this.holidayRules = holidayRules;
+		this.saturdayObservable = saturdayObservable;
+		this.sundayObservable = sundayObservable;
+		this.firstDay = EpochDays.of(firstYear - 1, 12, 31);
+
+		long dayCount = EpochDays.of(lastYear, 12, 31) - this.firstDay + 1;
+
+		if(dayCount > Integer.MAX_VALUE - 10) {
+			throw new IllegalArgumentException(String.format("Year range %d to %d is too large to index.", firstYear, lastYear));
+		}
+
+		this.dayCount = (int) dayCount;
+		this.ordinals = new byte[this.dayCount + 2];
+		this.actualOrdinals = new byte[this.dayCount + 2];
+		this.holidays = new Holiday[(lastYear - firstYear + 2) * DAYS.length];
+		this.actualHolidays = new Holiday[this.holidays.length];
+
+		this.loadYears(pool);
+	}
+
+	/**
+	 * <h1>YearLoader</h1>task copies a span of years, splitting it in halves down to the span size.
+	 * <p>Every year writes its own days of the ordinals and its own slots of the holidays, thus the spans do not overlap.</p>
+	 */
+	private final class YearLoader extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient HolidayTemplates templates;
+
+		private final int fromYear;
+
+		private final int toYear;
+
+		private final int spanYears;
+
+		/**
+		 * <p>constructor</p>
+		 * @param templates of the holiday rules and observable flags.
+		 * @param fromYear first year copied.
+		 * @param toYear last year copied.
+		 * @param spanYears most years copied without splitting.
+		 */
+		YearLoader(HolidayTemplates templates, int fromYear, int toYear, int spanYears) {
+			this.templates = templates;
+			this.fromYear = fromYear;
+			this.toYear = toYear;
+			this.spanYears = spanYears;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.toYear - this.fromYear < this.spanYears) {
+				HolidayIndex.this.loadYears(this.templates, this.fromYear, this.toYear);
+			}
+			else {
+				int middle = this.fromYear + (this.toYear - this.fromYear) / 2;
+
+				invokeAll(new YearLoader(this.templates, this.fromYear, middle, this.spanYears), new YearLoader(this.templates, middle + 1, this.toYear, this.spanYears));
+			}
+		}
+	}
+
+	/**
+	 * <p>Copy the holidays of every year in the range from the year templates into the index.</p>
+	 * <p>No holiday is calculated per year.  A year template holds only the holidays observed during the year,<br/>
+	 * New Years eve rather than New Years day of the following year, thus the years do not overlap and are copied in any order.<br/>
+	 * December 31st of the year prior to the first year is loaded once from the holidays of the first year observed on it, such as New Years day.</p>
+	 * @param pool copying disjoint spans of years, null to copy sequentially.
+	 * @see org.wrk.date.holiday.HolidayTemplates
+	 */
+	private void loadYears(ForkJoinPool pool) {
+		HolidayTemplates templates = HolidayTemplates.of(this.getHolidayRules(), this.isSaturdayObservable(), this.isSundayObservable());
+
+		long[] observedDays = new long[DAYS.length];
+
+		this.getHolidayRules().observedDays(this.getFirstYear(), this.isSaturdayObservable(), this.isSundayObservable(), observedDays);
+
+		for(HolidayEnum day : DAYS) {
+			if(observedDays[day.ordinal()] == this.firstDay) {
+				this.load(this.firstDay, day, true);
+			}
+		}
+
+		// A holiday of the prior year actually occurring on December 31st.
+		long[] actualDays = new long[DAYS.length];
+
+		this.getHolidayRules().actualDays(this.getFirstYear() - 1, actualDays);
+
+		for(HolidayRule rule : this.getHolidayRules().getRules()) {
+			int ordinal = rule.getDay().ordinal();
+
+			if(rule.getKind() != HolidayRule.Kind.SPILLOVER && actualDays[ordinal] == this.firstDay && this.actualOrdinals[1] == 0) {
+				this.actualOrdinals[1] = (byte) (ordinal + 1);
+
+				this.actualHolidays[this.slot(this.getFirstYear() - 1, ordinal)] = new ImmutableHoliday(this.firstDay, rule.getDay(), false);
+			}
+		}
+
+		int years = this.getLastYear() - this.getFirstYear() + 1;
+
+		if(pool == null || years <= MINIMUM_TASK_YEARS) {
+			this.loadYears(templates, this.getFirstYear(), this.getLastYear());
+		}
+		else {
+			// A few spans per thread balance the load without splitting below the task size.
+			int spanYears = Math.max(MINIMUM_TASK_YEARS, years / (pool.getParallelism() * 4));
+
+			pool.invoke(new YearLoader(templates, this.getFirstYear(), this.getLastYear(), spanYears));
+		}
+	}
+
+	/**
+	 * <p>Copy the holidays of a span of years from the year templates into the index.</p>
+	 * @param templates of the holiday rules and observable flags.
+	 * @param fromYear first year copied.
+	 * @param toYear last year copied.
+	 */
+	private void loadYears(HolidayTemplates templates, int fromYear, int toYear) {
+		for(int year = fromYear; year <= toYear; year++) {
+			long firstDayOfYear = EpochDays.of(year, 1, 1);
+
+			// Offset + 1 of January 1st.
+			int position = (int) (firstDayOfYear - this.firstDay) + 1;
+
+			templates.copyYear(year, this.ordinals, position);
+
+			templates.copyActualYear(year, this.actualOrdinals, position);
+
+			for(int entry : templates.holidays(year)) {
+				long epochDay = firstDayOfYear + (entry >>> 8);
+
+				this.holidays[this.slot(year, entry & 0x0F)] = new ImmutableHoliday(epochDay, DAYS[entry & 0x0F], (entry & (1 << 4)) != 0);
+			}
+
+			int length = (int) (EpochDays.of(year, 12, 31) - firstDayOfYear) + 1;
+
+			for(int dayOfYear = 0; dayOfYear < length; dayOfYear++) {
+				int ordinal = this.actualOrdinals[position + dayOfYear] - 1;
+
+				if(ordinal >= 0) {
+					Holiday observed = this.holidays[this.slot(year, ordinal)];
+
+					// A holiday not flagged observed is on its actual date, see HolidayTemplates.
+					this.actualHolidays[this.slot(year, ordinal)] = observed != null && !observed.isObserved()
+							? observed
+							: new ImmutableHoliday(firstDayOfYear + dayOfYear, DAYS[ordinal], false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>Load a holiday into the index.</p>
+	 * <p>Holidays outside of the range or colliding with a loaded holiday are ignored.</p>
+	 * @param epochDay observed date of the holiday.
+	 * @param day HolidayEnum value of the holiday.
+	 * @param observed flag true if observed else false if actual day.
+	 */
+	private void load(long epochDay, HolidayEnum day, boolean observed) {
+		long offset = epochDay - this.firstDay;
+
+		if(0 <= offset && offset < this.dayCount && this.ordinals[(int) offset + 1] == 0) {
+			this.ordinals[(int) offset + 1] = (byte) (day.ordinal() + 1);
+
+			this.holidays[this.slot(EpochDays.year(epochDay), day.ordinal())] = new ImmutableHoliday(epochDay, day, observed);
+		}
+	}
+
+	/**
+	 * <p>Position of a holiday in the holidays array.</p>
+	 * @param year calendar year of the holiday date.
+	 * @param ordinal HolidayEnum ordinal of the holiday.
+	 * @return int array position.
+	 */
+	private int slot(int year, int ordinal) {
+		return (year - this.getFirstYear() + 1) * DAYS.length + ordinal;
+	}
+
+	/**
+	 * <p>Which holiday ordinal actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return HolidayEnum ordinal if a holiday occurs on the epoch day else -1, including when the epoch day is outside of the index.
+	 */
+	public int actualOrdinal(long epochDay) {
+		long offset = epochDay - this.firstDay;
+
+		return 0 <= offset && offset < this.dayCount ? this.actualOrdinals[(int) offset + 1] - 1 : -1;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * <p>Branch-free as ordinal(long, int).</p>
+	 * @param epochDay value to determine which holiday.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return HolidayEnum ordinal if an observed holiday occurs on the epoch day else -1, including when the epoch day is outside of the index.
+	 */
+	public int actualOrdinal(long epochDay, int observedMask) {
+		int position = (int) Math.min(Math.max(epochDay - this.firstDay, -1L), this.dayCount) + 1;
+
+		int value = this.actualOrdinals[position];
+
+		int observed = ((observedMask << 1) >>> value) & 1;
+
+		return (value & -observed) - 1;
+	}
+
+	/**
+	 * <p>Does the epoch day fall within the index?</p>
+	 * @param epochDay value to check.
+	 * @return true if the epoch day is indexed else false.
+	 */
+	public boolean contains(long epochDay) {
+		long offset = epochDay - this.firstDay;
+
+		return 0 <= offset && offset < this.dayCount;
+	}
+
+	/**
+	 * <p>Get the first epoch day of the index, December 31st of the year prior to the first year.</p>
+	 * @return long
+	 */
+	public long getFirstDay() {
+		return firstDay;
+	}
+
+	/**
+	 * <p>Get the rules of the holidays.</p>
+	 * @return HolidayRuleSet
+	 */
+	public HolidayRuleSet getHolidayRules() {
+		return holidayRules;
+	}
+
+	/**
+	 * <p>Get the first calendar year of the index.</p>
+	 * @return int
+	 */
+	public int getFirstYear() {
+		return firstYear;
+	}
+
+	/**
+	 * <p>Get the last epoch day of the index, December 31st of the last year.</p>
+	 * @return long
+	 */
+	public long getLastDay() {
+		return this.firstDay + this.dayCount - 1;
+	}
+
+	/**
+	 * <p>Get the last calendar year of the index.</p>
+	 * @return int
+	 */
+	public int getLastYear() {
+		return lastYear;
+	}
+
+	/**
+	 * <p>Is the epoch day a holiday?</p>
+	 * @param epochDay value to determine if holiday.
+	 * @return true if holiday else false, including when the epoch day is outside of the index.
+	 */
+	public boolean isHoliday(long epochDay) {
+		return this.ordinal(epochDay) >= 0;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Saturday observed on the prior Friday?</p>
+	 * @return boolean
+	 */
+	public boolean isSaturdayObservable() {
+		return saturdayObservable;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Sunday observed on the following Monday?</p>
+	 * @return boolean
+	 */
+	public boolean isSundayObservable() {
+		return sundayObservable;
+	}
+
+	/**
+	 * <p>Which holiday ordinal does the epoch day match?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return HolidayEnum ordinal if the epoch day is a holiday else -1, including when the epoch day is outside of the index.
+	 */
+	public int ordinal(long epochDay) {
+		long offset = epochDay - this.firstDay;
+
+		return 0 <= offset && offset < this.dayCount ? this.ordinals[(int) offset + 1] - 1 : -1;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match?</p>
+	 * <p>Branch-free, for bulk loops: the offset is clamped onto the empty first or last element and the observed mask is applied by shifting.</p>
+	 * @param epochDay value to determine which holiday.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1, including when the epoch day is outside of the index.
+	 */
+	public int ordinal(long epochDay, int observedMask) {
+		// -1 and dayCount clamp onto the empty first and last elements.
+		int position = (int) Math.min(Math.max(epochDay - this.firstDay, -1L), this.dayCount) + 1;
+
+		int value = this.ordinals[position];
+
+		// Bit (value) of the shifted mask is set when the holiday (value - 1) is observed, bit 0 is never set.
+		int observed = ((observedMask << 1) >>> value) & 1;
+
+		return (value & -observed) - 1;
+	}
+
+	/**
+	 * <p>Which holiday actually occurs on the date, before any weekend observance shift?</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfMonth value of the date, 1 through 31.
+	 * @return Holiday flagged not observed if a holiday occurs on the date else null, including when the date is outside of the index.
+	 */
+	public Holiday whichActualHoliday(int year, int month, int dayOfMonth) {
+		int ordinal = this.actualOrdinal(EpochDays.of(year, month, dayOfMonth));
+
+		return ordinal >= 0 ? this.actualHolidays[this.slot(year, ordinal)] : null;
+	}
+
+	/**
+	 * <p>Which holiday actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return Holiday flagged not observed if a holiday occurs on the epoch day else null, including when the epoch day is outside of the index.
+	 */
+	public Holiday whichActualHoliday(long epochDay) {
+		int ordinal = this.actualOrdinal(epochDay);
+
+		return ordinal >= 0 ? this.actualHolidays[this.slot(EpochDays.year(epochDay), ordinal)] : null;
+	}
+
+	/**
+	 * <p>Which holiday does the date match?</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfMonth value of the date, 1 through 31.
+	 * @return Holiday if the date is a holiday else null, including when the date is outside of the index.
+	 */
+	public Holiday whichHoliday(int year, int month, int dayOfMonth) {
+		int ordinal = this.ordinal(EpochDays.of(year, month, dayOfMonth));
+
+		return ordinal >= 0 ? this.holidays[this.slot(year, ordinal)] : null;
+	}
+
+	/**
+	 * <p>Which holiday does the epoch day match?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return Holiday if the epoch day is a holiday else null, including when the epoch day is outside of the index.
+	 */
+	public Holiday whichHoliday(long epochDay) {
+		int ordinal = this.ordinal(epochDay);
+
+		return ordinal >= 0 ? this.holidays[this.slot(EpochDays.year(epochDay), ordinal)] : null;
+	}
+}
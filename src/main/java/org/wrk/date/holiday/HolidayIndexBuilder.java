@@ -0,0 +1,93 @@
+package org.wrk.date.holiday;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <h1>HolidayIndexBuilder</h1>class builds a HolidayIndex over a wide year range in parallel on a ForkJoinPool.
+ * <p>The range is split into spans of years copied from the HolidayTemplates by fork/join tasks into one merged index.<br/>
+ * The years do not overlap; New Years day observed on December 31st is held by the template of the earlier year,<br/>
+ * thus no year depends on the next and the day before the first year is computed once.</p>
+ * <h4>Parallelism</h4>
+ * <ul>
+ * <li>HolidayIndexBuilder() - the common ForkJoinPool.
+ * <li>HolidayIndexBuilder(int) - a pool of its own with the specified parallelism, 1 to build sequentially.  Close the builder to release the pool.
+ * </ul>
+ * <p>Ranges of 64 years or less are always built sequentially.  The builder may be shared across threads.<br/>
+ * Set on a FederalHolidays or ObservedHolidays with setHolidayIndexBuilder to build the index of init() in parallel.</p>
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayIndexBuilder implements AutoCloseable {
+
+	private final ForkJoinPool pool;
+
+	private final boolean ownPool;
+
+	/**
+	 * <p>constructor building on the common ForkJoinPool.</p>
+	 */
+	public HolidayIndexBuilder() {
+		this.pool = ForkJoinPool.commonPool();
+		this.ownPool = false;
+	}
+
+	/**
+	 * <p>constructor w/param</p>
+	 * @param parallelism number of threads building an index, 1 to build sequentially.
+	 * @throws IllegalArgumentException if parallelism is less than 1.
+	 */
+	public HolidayIndexBuilder(int parallelism) {
+		if(parallelism < 1) {
+			throw new IllegalArgumentException(String.format("Invalid parallelism %d, expected at least 1.", parallelism));
+		}
+
+		this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		this.ownPool = this.pool != null;
+	}
+
+	/**
+	 * <p>Build the index of the federal holidays.</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @return HolidayIndex
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index.
+	 */
+	public HolidayIndex build(int firstYear, int lastYear, boolean saturdayObservable, boolean sundayObservable) {
+		return this.build(firstYear, lastYear, saturdayObservable, sundayObservable, HolidayRuleSet.FEDERAL);
+	}
+
+	/**
+	 * <p>Build the index.</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @param holidayRules rules of the holidays.
+	 * @return HolidayIndex
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index, or holidayRules is null.
+	 */
+	public HolidayIndex build(int firstYear, int lastYear, boolean saturdayObservable, boolean sundayObservable, HolidayRuleSet holidayRules) {
+		return new HolidayIndex(firstYear, lastYear, saturdayObservable, sundayObservable, holidayRules, this.pool);
+	}
+
+	/**
+	 * <p>Shut down the pool of the builder, if it has its own.  Indexes being built are completed.</p>
+	 */
+	@Override
+	public void close() {
+		if(this.ownPool) {
+			this.pool.shutdown();
+		}
+	}
+
+	/**
+	 * <p>Get the number of threads building an index.</p>
+	 * @return int 1 if sequential.
+	 */
+	public int getParallelism() {
+		return this.pool != null ? this.pool.getParallelism() : 1;
+	}
+}
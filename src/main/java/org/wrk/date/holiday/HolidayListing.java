@@ -0,0 +1,145 @@
+package org.wrk.date.holiday;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h1>HolidayListing</h1>class is an immutable list of the observed holidays of a year, sorted by date in ascending order.
+ * <p>Created once per year by BusinessCalendar.listing(int) and shared by every FederalHolidays.toHolidays() call<br/>
+ * and every snapshot of the same configuration.  The lines are formatted when the listing is created:</p>
+ * <ul>
+ * <li>format | Date: format "EEEEE MM-dd-yyyy" | Holiday Enum | Holiday Name | Observable flag
+ * <li>each line is followed by a line feed.
+ * </ul>
+ * <p>appendTo and writeTo copy the formatted text without formatting or allocating per call,<br/>
+ * asByteBuffer exposes the UTF-8 bytes without copying.</p>
+ * <p>The listing is not modified after construction and may be shared across threads.  The holidays are read-only.</p>
+ * @see org.wrk.date.holiday.BusinessCalendar
+ * @see org.wrk.date.holiday.FederalHolidays#toHolidays()
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayListing {
+
+	private final List<Holiday> holidays;
+
+	private final long[] epochDays;
+
+	private final String[] lines;
+
+	private final String text;
+
+	private final byte[] bytes;
+
+	/**
+	 * <p>constructor</p>
+	 * @param holidays observed holidays sorted by date.
+	 * @param epochDays epoch day of each holiday.
+	 */
+	HolidayListing(Holiday[] holidays, long[] epochDays) {
+		this.holidays = Collections.unmodifiableList(Arrays.asList(holidays));
+		this.epochDays = epochDays;
+		this.lines = new String[holidays.length];
+
+		SimpleDateFormat sdf = new SimpleDateFormat("EEEEE MM-dd-yyyy");
+
+		// Formatted as dated, Gregorian before 1582 as well.
+		sdf.setCalendar(EpochDays.gregorianCalendar());
+
+		StringBuilder text = new StringBuilder(holidays.length * 64);
+
+		for(int index = 0; index < holidays.length; index++) {
+			Holiday holiday = holidays[index];
+
+			this.lines[index] = String.format("%s,%s,%s%s", sdf.format(holiday.getDate().getTime()), holiday.getDay().name(), holiday.getDay().getHolidayName(), (holiday.isObserved() ? ",observed" : ""));
+
+			text.append(this.lines[index]).append('\n');
+		}
+
+		this.text = text.toString();
+		this.bytes = this.text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * <p>Append the formatted lines.</p>
+	 * @param appendable receiving every line followed by a line feed.
+	 * @return Appendable the appendable.
+	 * @throws IOException if the appendable fails.
+	 */
+	public Appendable appendTo(Appendable appendable) throws IOException {
+		return appendable.append(this.text);
+	}
+
+	/**
+	 * <p>Get the formatted lines as UTF-8 bytes without copying.</p>
+	 * @return ByteBuffer read-only, positioned at 0 with getByteCount() bytes remaining.
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap(this.bytes).asReadOnlyBuffer();
+	}
+
+	/**
+	 * <p>Get the number of UTF-8 bytes of the formatted lines.</p>
+	 * @return int
+	 */
+	public int getByteCount() {
+		return this.bytes.length;
+	}
+
+	/**
+	 * <p>Get the epoch day of a holiday.</p>
+	 * @param index position of the holiday, 0 through size() - 1.
+	 * @return long days since January 1st 1970.
+	 */
+	public long getEpochDay(int index) {
+		return this.epochDays[index];
+	}
+
+	/**
+	 * <p>Get the holidays sorted by date.</p>
+	 * @return List unmodifiable.
+	 */
+	public List<Holiday> getHolidays() {
+		return holidays;
+	}
+
+	/**
+	 * <p>Get the number of holidays.</p>
+	 * @return int
+	 */
+	public int size() {
+		return this.epochDays.length;
+	}
+
+	/**
+	 * <p>Get the formatted lines.</p>
+	 * @return String[] copy, one line per holiday without the line feed.
+	 */
+	public String[] toLines() {
+		return this.lines.clone();
+	}
+
+	/**
+	 * <p>Get the formatted lines.</p>
+	 * @return String every line followed by a line feed.
+	 */
+	@Override
+	public String toString() {
+		return text;
+	}
+
+	/**
+	 * <p>Write the formatted lines as UTF-8 bytes.</p>
+	 * @param buffer receiving getByteCount() bytes at its position.
+	 * @return ByteBuffer the buffer.
+	 * @throws java.nio.BufferOverflowException if fewer than getByteCount() bytes remain in the buffer.
+	 */
+	public ByteBuffer writeTo(ByteBuffer buffer) {
+		return buffer.put(this.bytes);
+	}
+}
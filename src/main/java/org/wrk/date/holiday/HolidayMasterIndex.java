@@ -0,0 +1,152 @@
+package org.wrk.date.holiday;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <h1>HolidayMasterIndex</h1>class is one holiday table shared by every configuration of a rule set over a year range.
+ * <p>A configuration is the Saturday and Sunday observable flags and the observed holidays, a bit per HolidayEnum.<br/>
+ * The master index holds a HolidayIndex per observance mode, the four combinations of the observable flags,<br/>
+ * thus each day stores the holiday falling on it under every mode.  Any configuration answers a lookup<br/>
+ * by selecting the mode and masking the observed holidays, see HolidayIndex.ordinal(long, int).</p>
+ * <h4>Tenants</h4>
+ * <p>Set on many FederalHolidays or ObservedHolidays with setHolidayMasterIndex.  init() then shares the index of the mode<br/>
+ * instead of computing one, and the business calendar of each distinct configuration is computed once and shared,<br/>
+ * thus the memory per configuration is constant regardless of the number of configurations.<br/>
+ * A configuration with other holiday rules or years outside of the master range computes its own index.</p>
+ * <p>The master index is not modified after construction, except for the business calendars cached on first use, and may be shared.</p>
+ * @see org.wrk.date.holiday.BusinessCalendar
+ * @see org.wrk.date.holiday.FederalHolidays
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayMasterIndex {
+
+	private final int firstYear;
+
+	private final int lastYear;
+
+	private final HolidayRuleSet holidayRules;
+
+	// Index per mode, (saturdayObservable ? 2 : 0) | (sundayObservable ? 1 : 0).
+	private final HolidayIndex[] holidayIndexes = new HolidayIndex[4];
+
+	// Business calendar per mode and observed mask.
+	private final ConcurrentMap<Long, BusinessCalendar> businessCalendars = new ConcurrentHashMap<>();
+
+	/**
+	 * <p>constructor of the federal holidays.</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index.
+	 */
+	public HolidayMasterIndex(int firstYear, int lastYear) {
+		this(firstYear, lastYear, HolidayRuleSet.FEDERAL, null);
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param firstYear the first calendar year to compute, greater than 0.
+	 * @param lastYear the last calendar year to compute, not less than firstYear and less than MAXIMUM_YEAR.
+	 * @param holidayRules rules of the holidays.
+	 * @param holidayIndexBuilder builds the index of each mode, null to build sequentially.
+	 * @throws IllegalArgumentException if the year range is invalid or too large to index, or holidayRules is null.
+	 */
+	public HolidayMasterIndex(int firstYear, int lastYear, HolidayRuleSet holidayRules, HolidayIndexBuilder holidayIndexBuilder) {
+		this.firstYear = firstYear;
+		this.lastYear = lastYear;
+		this.holidayRules = holidayRules;
+
+		for(int mode = 0; mode < this.holidayIndexes.length; mode++) {
+			boolean saturdayObservable = (mode & 2) != 0;
+
+			boolean sundayObservable = (mode & 1) != 0;
+
+			this.holidayIndexes[mode] = holidayIndexBuilder != null
+					? holidayIndexBuilder.build(firstYear, lastYear, saturdayObservable, sundayObservable, holidayRules)
+					: new HolidayIndex(firstYear, lastYear, saturdayObservable, sundayObservable, holidayRules);
+		}
+	}
+
+	/**
+	 * <p>Observance mode of the flags.</p>
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return int 0 through 3.
+	 */
+	private static int mode(boolean saturdayObservable, boolean sundayObservable) {
+		return (saturdayObservable ? 2 : 0) | (sundayObservable ? 1 : 0);
+	}
+
+	/**
+	 * <p>Does the master index answer the years of the rules?</p>
+	 * @param firstYear first year of the configuration.
+	 * @param lastYear last year of the configuration.
+	 * @param holidayRules rules of the configuration.
+	 * @return true if the rules equal the rules of the master index and the years are within its range else false.
+	 */
+	public boolean covers(int firstYear, int lastYear, HolidayRuleSet holidayRules) {
+		return this.firstYear <= firstYear && lastYear <= this.lastYear && this.holidayRules.equals(holidayRules);
+	}
+
+	/**
+	 * <p>Get the business calendar of a configuration, computed on first use and shared by every equal configuration.</p>
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return BusinessCalendar over the master range.
+	 */
+	public BusinessCalendar getBusinessCalendar(boolean saturdayObservable, boolean sundayObservable, int observedMask) {
+		int mode = mode(saturdayObservable, sundayObservable);
+
+		return this.businessCalendars.computeIfAbsent(((long) mode << 32) | (observedMask & 0xFFFFFFFFL), key -> new BusinessCalendar(this.holidayIndexes[mode], observedMask));
+	}
+
+	/**
+	 * <p>Get the first year of the master index.</p>
+	 * @return int
+	 */
+	public int getFirstYear() {
+		return firstYear;
+	}
+
+	/**
+	 * <p>Get the index of an observance mode.</p>
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return HolidayIndex over the master range.
+	 */
+	public HolidayIndex getHolidayIndex(boolean saturdayObservable, boolean sundayObservable) {
+		return this.holidayIndexes[mode(saturdayObservable, sundayObservable)];
+	}
+
+	/**
+	 * <p>Get the rules of the holidays.</p>
+	 * @return HolidayRuleSet
+	 */
+	public HolidayRuleSet getHolidayRules() {
+		return holidayRules;
+	}
+
+	/**
+	 * <p>Get the last year of the master index.</p>
+	 * @return int
+	 */
+	public int getLastYear() {
+		return lastYear;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match under a configuration?</p>
+	 * <p>The lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1, including when outside of the master range.
+	 */
+	public int ordinal(long epochDay, boolean saturdayObservable, boolean sundayObservable, int observedMask) {
+		return this.holidayIndexes[mode(saturdayObservable, sundayObservable)].ordinal(epochDay, observedMask);
+	}
+}
@@ -0,0 +1,260 @@
+package org.wrk.date.holiday;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h1>HolidayMetrics</h1>class counts and times holiday lookups, init() and clone(int).
+ * <p>Set on a FederalHolidays or ObservedHolidays with setHolidayMetrics.  Metrics are off by default,<br/>
+ * thus the hot paths only test a field for null.  One HolidayMetrics may be shared by many instances.<br/>
+ * ObservedHolidays.clone(int) records into the metrics of the original and passes them on to the clone.</p>
+ * <h4>Counters</h4>
+ * <ul>
+ * <li>LOOKUPS - whichHoliday, isHoliday and holidayOrdinal calls.
+ * <li>HOLIDAYS - lookups answering an observed holiday.
+ * <li>NON_HOLIDAYS - lookups answering no holiday.
+ * <li>INITS - init() calls, each computing the holidays and the HolidayIndex.
+ * <li>CLONES - ObservedHolidays.clone(int) calls.
+ * </ul>
+ * <h4>Latency histograms</h4>
+ * <ul>
+ * <li>LOOKUP_LATENCY - one lookup in samplingInterval is timed, since reading the clock costs more than an indexed lookup.
+ * <li>INIT_LATENCY - every init(), the index build cost.
+ * <li>CLONE_LATENCY - every clone(int).
+ * </ul>
+ * <p>Counters are LongAdder and histograms are LatencyHistogram, thus recording is thread-safe and takes no lock.<br/>
+ * Exporters bridge the metrics to another metrics system, see HolidayMetricsExporter.</p>
+ * @see org.wrk.date.holiday.HolidayMetricsExporter
+ * @see org.wrk.date.holiday.LatencyHistogram
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayMetrics {
+
+	public static final String LOOKUPS = "holiday.lookups";
+
+	public static final String HOLIDAYS = "holiday.lookups.holiday";
+
+	public static final String NON_HOLIDAYS = "holiday.lookups.nonholiday";
+
+	public static final String INITS = "holiday.init";
+
+	public static final String CLONES = "holiday.clone";
+
+	public static final String LOOKUP_LATENCY = "holiday.lookup.latency";
+
+	public static final String INIT_LATENCY = "holiday.init.latency";
+
+	public static final String CLONE_LATENCY = "holiday.clone.latency";
+
+	// Returned by startLookup when the lookup is not timed.
+	private static final long NOT_TIMED = Long.MIN_VALUE;
+
+	private final int samplingMask;
+
+	private final LongAdder holidayCount = new LongAdder();
+
+	private final LongAdder nonHolidayCount = new LongAdder();
+
+	private final LongAdder initCount = new LongAdder();
+
+	private final LongAdder cloneCount = new LongAdder();
+
+	private final LatencyHistogram lookupLatency = new LatencyHistogram();
+
+	private final LatencyHistogram initLatency = new LatencyHistogram();
+
+	private final LatencyHistogram cloneLatency = new LatencyHistogram();
+
+	private final List<HolidayMetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+	/**
+	 * <p>constructor timing every lookup.</p>
+	 */
+	public HolidayMetrics() {
+		this(1);
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param samplingInterval time one lookup in samplingInterval, a power of 2.  Lookups are always counted.
+	 * @throws IllegalArgumentException if samplingInterval is not a positive power of 2.
+	 */
+	public HolidayMetrics(int samplingInterval) {
+		if(samplingInterval <= 0 || Integer.bitCount(samplingInterval) != 1) {
+			throw new IllegalArgumentException(String.format("Invalid sampling interval %d, expected a power of 2.", samplingInterval));
+		}
+
+		this.samplingMask = samplingInterval - 1;
+
+		ServiceLoader.load(HolidayMetricsExporter.class).forEach(this.exporters::add);
+	}
+
+	/**
+	 * <p>Add an exporter called by export().</p>
+	 * @param exporter to add.
+	 */
+	public void addExporter(HolidayMetricsExporter exporter) {
+		if(exporter != null) {
+			this.exporters.add(exporter);
+		}
+	}
+
+	/**
+	 * <p>Export the metrics to every exporter added or found by ServiceLoader.</p>
+	 */
+	public void export() {
+		for(HolidayMetricsExporter exporter : this.exporters) {
+			this.export(exporter);
+		}
+	}
+
+	/**
+	 * <p>Export the metrics to the exporter.</p>
+	 * @param exporter receiving every counter and histogram.
+	 */
+	public void export(HolidayMetricsExporter exporter) {
+		exporter.counter(LOOKUPS, this.getLookupCount());
+		exporter.counter(HOLIDAYS, this.getHolidayCount());
+		exporter.counter(NON_HOLIDAYS, this.getNonHolidayCount());
+		exporter.counter(INITS, this.getInitCount());
+		exporter.counter(CLONES, this.getCloneCount());
+		exporter.histogram(LOOKUP_LATENCY, this.getLookupLatency());
+		exporter.histogram(INIT_LATENCY, this.getInitLatency());
+		exporter.histogram(CLONE_LATENCY, this.getCloneLatency());
+	}
+
+	/**
+	 * <p>Get the number of clone(int) calls.</p>
+	 * @return long
+	 */
+	public long getCloneCount() {
+		return this.cloneCount.sum();
+	}
+
+	/**
+	 * <p>Get the latency of clone(int).</p>
+	 * @return LatencyHistogram
+	 */
+	public LatencyHistogram getCloneLatency() {
+		return cloneLatency;
+	}
+
+	/**
+	 * <p>Get the number of lookups answering a holiday.</p>
+	 * @return long
+	 */
+	public long getHolidayCount() {
+		return this.holidayCount.sum();
+	}
+
+	/**
+	 * <p>Get the number of init() calls.</p>
+	 * @return long
+	 */
+	public long getInitCount() {
+		return this.initCount.sum();
+	}
+
+	/**
+	 * <p>Get the latency of init(), computing the holidays and building the index.</p>
+	 * @return LatencyHistogram
+	 */
+	public LatencyHistogram getInitLatency() {
+		return initLatency;
+	}
+
+	/**
+	 * <p>Get the number of lookups.</p>
+	 * @return long
+	 */
+	public long getLookupCount() {
+		return this.getHolidayCount() + this.getNonHolidayCount();
+	}
+
+	/**
+	 * <p>Get the latency of the sampled lookups.</p>
+	 * @return LatencyHistogram
+	 */
+	public LatencyHistogram getLookupLatency() {
+		return lookupLatency;
+	}
+
+	/**
+	 * <p>Get the number of lookups answering no holiday.</p>
+	 * @return long
+	 */
+	public long getNonHolidayCount() {
+		return this.nonHolidayCount.sum();
+	}
+
+	/**
+	 * <p>Get the sampling interval of the lookup latency.</p>
+	 * @return int
+	 */
+	public int getSamplingInterval() {
+		return this.samplingMask + 1;
+	}
+
+	/**
+	 * <p>Record a clone(int).</p>
+	 * @param start value of System.nanoTime() before the clone.
+	 */
+	void recordClone(long start) {
+		this.cloneCount.increment();
+
+		this.cloneLatency.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * <p>Record an init().</p>
+	 * @param start value of System.nanoTime() before the init.
+	 */
+	void recordInit(long start) {
+		this.initCount.increment();
+
+		this.initLatency.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * <p>Record a lookup.</p>
+	 * @param start value returned by startLookup().
+	 * @param holiday true if the lookup answered a holiday.
+	 */
+	void recordLookup(long start, boolean holiday) {
+		if(holiday) {
+			this.holidayCount.increment();
+		}
+		else {
+			this.nonHolidayCount.increment();
+		}
+
+		if(start != NOT_TIMED) {
+			this.lookupLatency.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * <p>Reset every counter and histogram.</p>
+	 */
+	public void reset() {
+		this.holidayCount.reset();
+		this.nonHolidayCount.reset();
+		this.initCount.reset();
+		this.cloneCount.reset();
+		this.lookupLatency.reset();
+		this.initLatency.reset();
+		this.cloneLatency.reset();
+	}
+
+	/**
+	 * <p>Start a lookup.</p>
+	 * @return long System.nanoTime() if the lookup is sampled else a value recordLookup does not time.
+	 */
+	long startLookup() {
+		return this.samplingMask == 0 || (ThreadLocalRandom.current().nextInt() & this.samplingMask) == 0 ? System.nanoTime() : NOT_TIMED;
+	}
+}
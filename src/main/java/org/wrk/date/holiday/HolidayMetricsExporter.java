@@ -0,0 +1,32 @@
+package org.wrk.date.holiday;
+
+/**
+ * <h1>HolidayMetricsExporter</h1>interface bridges HolidayMetrics to another metrics system.
+ * <p>HolidayMetrics.export(HolidayMetricsExporter) calls counter once per counter and histogram once per latency histogram.<br/>
+ * Implementations listed in META-INF/services/org.wrk.date.holiday.HolidayMetricsExporter are found by ServiceLoader
+ * and called by HolidayMetrics.export().</p>
+ * <h4>Names</h4>
+ * <ul>
+ * <li>Counters - HolidayMetrics.LOOKUPS, HOLIDAYS, NON_HOLIDAYS, INITS and CLONES.
+ * <li>Histograms - HolidayMetrics.LOOKUP_LATENCY, INIT_LATENCY and CLONE_LATENCY.
+ * </ul>
+ * @see org.wrk.date.holiday.HolidayMetrics
+ *
+ * @author Kelly Willard
+ */
+public interface HolidayMetricsExporter {
+
+	/**
+	 * <p>Export a counter.</p>
+	 * @param name of the counter.
+	 * @param value count since the metrics were created or reset.
+	 */
+	public void counter(String name, long value);
+
+	/**
+	 * <p>Export a latency histogram.</p>
+	 * @param name of the histogram.
+	 * @param histogram live histogram, read but do not reset.
+	 */
+	public void histogram(String name, LatencyHistogram histogram);
+}
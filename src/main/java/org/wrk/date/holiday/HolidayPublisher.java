@@ -0,0 +1,369 @@
+package org.wrk.date.holiday;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <h1>HolidayPublisher</h1>class publishes the holidays or business days of a snapshot over a range of years as a Flow.Publisher.
+ * <ul>
+ * <li>holidays - each observed Holiday in date order.
+ * <li>businessDays - each business day as a LocalDate.
+ * <li>holidayBlocks, businessDayBlocks - micro-batches of up to blockSize epoch days as a long[], one signal per block.
+ * </ul>
+ * <h4>Demand</h4>
+ * <p>Each subscription walks the range with its own cursor, one day of the HolidayIndex at a time, and emits no more than requested.<br/>
+ * Only the next element is read ahead, so onComplete follows the last element without further demand,<br/>
+ * and memory does not grow with the range.  Signals are emitted by the thread calling request(n),<br/>
+ * a request from within onNext adds to the demand and is emitted by the same loop rather than recursively.</p>
+ * <p>A request of less than 1 signals onError with an IllegalArgumentException.  The publisher is cold, may be subscribed many times and shared.</p>
+ * @see org.wrk.date.holiday.BusinessCalendar
+ * @see org.wrk.date.holiday.HolidayCalendar
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayPublisher<T> implements Flow.Publisher<T> {
+
+	private final Supplier<Cursor<T>> cursors;
+
+	/**
+	 * <p>Produces the elements of one subscription.</p>
+	 */
+	private interface Cursor<T> {
+
+		/**
+		 * @return T next element or null when the range is exhausted.
+		 */
+		T next();
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param cursors creates the cursor of each subscription.
+	 */
+	private HolidayPublisher(Supplier<Cursor<T>> cursors) {
+		this.cursors = cursors;
+	}
+
+	/**
+	 * <p>Epoch days of a range of years of a snapshot.</p>
+	 * @param calendar snapshot answering the days.
+	 * @param firstYear first year published.
+	 * @param lastYear last year published.
+	 * @return long[] first and last epoch day.
+	 * @throws IllegalArgumentException if calendar is null or the years are not within its range.
+	 */
+	private static long[] range(HolidayCalendar calendar, int firstYear, int lastYear) {
+		if(calendar == null) {
+			throw new IllegalArgumentException("Calendar is null.");
+		}
+
+		if(firstYear < calendar.getFirstYear() || lastYear > calendar.getLastYear() || lastYear < firstYear) {
+			throw new IllegalArgumentException(String.format("Invalid year range %d to %d, expected within %d to %d.", firstYear, lastYear, calendar.getFirstYear(), calendar.getLastYear()));
+		}
+
+		return new long[] {EpochDays.of(firstYear, 1, 1), EpochDays.of(lastYear, 12, 31)};
+	}
+
+	/**
+	 * <p>Validate a block size.</p>
+	 * @param blockSize epoch days per block.
+	 * @throws IllegalArgumentException if blockSize is not greater than 0.
+	 */
+	private static void checkBlockSize(int blockSize) {
+		if(blockSize <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid block size %d.", blockSize));
+		}
+	}
+
+	/**
+	 * <p>Walks the days of a range, matching observed holidays or business days.</p>
+	 */
+	private static final class DayCursor {
+
+		private final HolidayIndex holidayIndex;
+
+		private final BusinessCalendar businessCalendar;
+
+		private final int observedMask;
+
+		private final boolean businessDays;
+
+		private final long lastDay;
+
+		private long epochDay;
+
+		DayCursor(HolidayCalendar calendar, long[] range, boolean businessDays) {
+			this.holidayIndex = calendar.getHolidayIndex();
+			this.businessCalendar = calendar.getBusinessCalendar();
+			this.observedMask = calendar.getObservedMask();
+			this.businessDays = businessDays;
+			this.epochDay = range[0];
+			this.lastDay = range[1];
+		}
+
+		/**
+		 * <p>Find the next matching day.</p>
+		 * @return long epoch day, or Long.MIN_VALUE when the range is exhausted.
+		 */
+		long next() {
+			for(; this.epochDay <= this.lastDay; this.epochDay++) {
+				if(this.businessDays ? this.businessCalendar.isBusinessDay(this.epochDay) : this.holidayIndex.ordinal(this.epochDay, this.observedMask) >= 0) {
+					return this.epochDay++;
+				}
+			}
+
+			return Long.MIN_VALUE;
+		}
+
+		/**
+		 * <p>Fill a block with the next matching days.</p>
+		 * @param blockSize most epoch days.
+		 * @return long[] of 1 to blockSize epoch days, or null when the range is exhausted.
+		 */
+		long[] nextBlock(int blockSize) {
+			long[] block = new long[blockSize];
+
+			int size = 0;
+
+			for(long day = this.next(); day != Long.MIN_VALUE; day = size < blockSize ? this.next() : Long.MIN_VALUE) {
+				block[size++] = day;
+			}
+
+			return size == 0 ? null : size == blockSize ? block : Arrays.copyOf(block, size);
+		}
+	}
+
+	/**
+	 * <p>Publish the observed holidays of a range of years, in date order.</p>
+	 * @param calendar snapshot of the holidays.
+	 * @param firstYear first year published.
+	 * @param lastYear last year published.
+	 * @return HolidayPublisher of read-only holidays.
+	 * @throws IllegalArgumentException if calendar is null or the years are not within its range.
+	 */
+	public static HolidayPublisher<Holiday> holidays(HolidayCalendar calendar, int firstYear, int lastYear) {
+		long[] range = range(calendar, firstYear, lastYear);
+
+		return new HolidayPublisher<>(() -> {
+			DayCursor days = new DayCursor(calendar, range, false);
+
+			return () -> {
+				long epochDay = days.next();
+
+				return epochDay != Long.MIN_VALUE ? calendar.getHolidayIndex().whichHoliday(epochDay) : null;
+			};
+		});
+	}
+
+	/**
+	 * <p>Publish the observed holidays of a range of years as blocks of epoch days, in date order.</p>
+	 * @param calendar snapshot of the holidays.
+	 * @param firstYear first year published.
+	 * @param lastYear last year published.
+	 * @param blockSize most epoch days per block, every block but the last is full.
+	 * @return HolidayPublisher of epoch day blocks.
+	 * @throws IllegalArgumentException if calendar is null, the years are not within its range or blockSize is not greater than 0.
+	 */
+	public static HolidayPublisher<long[]> holidayBlocks(HolidayCalendar calendar, int firstYear, int lastYear, int blockSize) {
+		long[] range = range(calendar, firstYear, lastYear);
+
+		checkBlockSize(blockSize);
+
+		return new HolidayPublisher<>(() -> {
+			DayCursor days = new DayCursor(calendar, range, false);
+
+			return () -> days.nextBlock(blockSize);
+		});
+	}
+
+	/**
+	 * <p>Publish the business days of a range of years, in date order.</p>
+	 * @param calendar snapshot of the holidays.
+	 * @param firstYear first year published.
+	 * @param lastYear last year published.
+	 * @return HolidayPublisher of dates.
+	 * @throws IllegalArgumentException if calendar is null or the years are not within its range.
+	 */
+	public static HolidayPublisher<LocalDate> businessDays(HolidayCalendar calendar, int firstYear, int lastYear) {
+		long[] range = range(calendar, firstYear, lastYear);
+
+		return new HolidayPublisher<>(() -> {
+			DayCursor days = new DayCursor(calendar, range, true);
+
+			return () -> {
+				long epochDay = days.next();
+
+				return epochDay != Long.MIN_VALUE ? LocalDate.ofEpochDay(epochDay) : null;
+			};
+		});
+	}
+
+	/**
+	 * <p>Publish the business days of a range of years as blocks of epoch days, in date order.</p>
+	 * @param calendar snapshot of the holidays.
+	 * @param firstYear first year published.
+	 * @param lastYear last year published.
+	 * @param blockSize most epoch days per block, every block but the last is full.
+	 * @return HolidayPublisher of epoch day blocks.
+	 * @throws IllegalArgumentException if calendar is null, the years are not within its range or blockSize is not greater than 0.
+	 */
+	public static HolidayPublisher<long[]> businessDayBlocks(HolidayCalendar calendar, int firstYear, int lastYear, int blockSize) {
+		long[] range = range(calendar, firstYear, lastYear);
+
+		checkBlockSize(blockSize);
+
+		return new HolidayPublisher<>(() -> {
+			DayCursor days = new DayCursor(calendar, range, true);
+
+			return () -> days.nextBlock(blockSize);
+		});
+	}
+
+	/**
+	 * <p>Subscribe, calling onSubscribe before any other signal.</p>
+	 * @param subscriber receives the elements.
+	 * @throws NullPointerException if subscriber is null.
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if(subscriber == null) {
+			throw new NullPointerException("Subscriber is null.");
+		}
+
+		Subscription<T> subscription = new Subscription<>(subscriber, this.cursors.get());
+
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * <h1>Subscription</h1>emits the elements of a cursor as they are requested.
+	 */
+	private static final class Subscription<T> implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super T> subscriber;
+
+		private final Cursor<T> cursor;
+
+		// Elements requested and not yet emitted, Long.MAX_VALUE meaning unbounded.
+		private final AtomicLong demand = new AtomicLong();
+
+		// Requests not yet handled by the emitting thread; the thread raising it from 0 emits.
+		private final AtomicInteger work = new AtomicInteger();
+
+		// Set by cancel() and by the emitting thread after a terminal signal.
+		private volatile boolean cancelled;
+
+		// Element read ahead of the demand, null if none.
+		private T next;
+
+		// Set by a request of less than 1, after invalidRequest.
+		private volatile boolean invalid;
+
+		// First request of less than 1.
+		private long invalidRequest;
+
+		Subscription(Flow.Subscriber<? super T> subscriber, Cursor<T> cursor) {
+			this.subscriber = subscriber;
+			this.cursor = cursor;
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+		}
+
+		@Override
+		public void request(long n) {
+			if(n <= 0) {
+				if(!this.invalid) {
+					this.invalidRequest = n;
+
+					this.invalid = true;
+				}
+			}
+			else {
+				// Add without overflow, capped at unbounded.
+				this.demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+			}
+
+			if(this.work.getAndIncrement() == 0) {
+				this.emit();
+			}
+		}
+
+		/**
+		 * <p>Take the next element, read ahead or from the cursor.</p>
+		 * @return T next element or null when the range is exhausted.
+		 */
+		private T poll() {
+			T element = this.next != null ? this.next : this.cursor.next();
+
+			this.next = null;
+
+			return element;
+		}
+
+		/**
+		 * <p>Read the next element ahead, without taking it.</p>
+		 * @return T next element or null when the range is exhausted.
+		 */
+		private T peek() {
+			if(this.next == null) {
+				this.next = this.cursor.next();
+			}
+
+			return this.next;
+		}
+
+		/**
+		 * <p>Emit while there is demand, until every request has been handled.</p>
+		 */
+		private void emit() {
+			int missed = 1;
+
+			do {
+				if(this.invalid && !this.cancelled) {
+					this.cancelled = true;
+
+					this.subscriber.onError(new IllegalArgumentException(String.format("Invalid request %d, expected more than 0.", this.invalidRequest)));
+				}
+
+				long emitted = 0L;
+
+				long requested = this.demand.get();
+
+				while(emitted != requested && !this.cancelled) {
+					T element = this.poll();
+
+					if(element == null) {
+						this.cancelled = true;
+
+						this.subscriber.onComplete();
+					}
+					else {
+						this.subscriber.onNext(element);
+
+						emitted++;
+					}
+				}
+
+				if(emitted != 0L && requested != Long.MAX_VALUE) {
+					this.demand.addAndGet(-emitted);
+				}
+
+				// Completes as soon as the range is exhausted, without waiting for more demand.
+				if(!this.cancelled && this.peek() == null) {
+					this.cancelled = true;
+
+					this.subscriber.onComplete();
+				}
+
+				missed = this.work.addAndGet(-missed);
+			} while(missed != 0);
+		}
+	}
+}
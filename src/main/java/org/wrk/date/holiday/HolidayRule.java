@@ -0,0 +1,270 @@
+package org.wrk.date.holiday;
+
+/**
+ * <h1>HolidayRule</h1>class declares when a holiday occurs during a year.
+ * <h4>Kinds</h4>
+ * <ul>
+ * <li>fixedDay - a fixed month and day, such as July 4th.  Observed off the weekend per the observable flags.
+ * <li>nthWeekday - the nth day of the week in a month, such as the 4th Thursday in November.
+ * <li>lastWeekday - the last day of the week in a month, such as the last Monday in May.
+ * <li>offset - a number of days from the actual day of another holiday, such as the day after Thanksgiving.
+ * <li>spillover - the day before January 1st, when a fixed day holiday of the following year is observed on it, such as New Years eve.
+ * </ul>
+ * <p>Each rule names the HolidayEnum it defines, since holidays are identified by HolidayEnum throughout the library.<br/>
+ * Rules are collected and compiled into a HolidayRuleSet.  Rules are immutable.</p>
+ * <p>Days of the week are 1 (Monday) through 7 (Sunday), matching java.time.DayOfWeek values.</p>
+ * @see org.wrk.date.holiday.HolidayRuleSet
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayRule {
+
+	/**
+	 * <p>Kinds of holiday rules.</p>
+	 */
+	public enum Kind {
+		FIXED_DAY,
+		NTH_WEEKDAY,
+		LAST_WEEKDAY,
+		OFFSET,
+		SPILLOVER
+	}
+
+	// Days of each month of a leap year.
+	private static final int[] MONTH_LENGTHS = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+	private final Kind kind;
+
+	private final HolidayEnum day;
+
+	private final int month;
+
+	private final int dayOfMonth;
+
+	private final int dayOfWeek;
+
+	private final int nth;
+
+	private final HolidayEnum base;
+
+	private final int days;
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private HolidayRule(Kind kind, HolidayEnum day, int month, int dayOfMonth, int dayOfWeek, int nth, HolidayEnum base, int days) {
+		if(day == null) {
+			throw new IllegalArgumentException("Holiday is null.");
+		}
+
+		this.kind = kind;
+		this.day = day;
+		this.month = month;
+		this.dayOfMonth = dayOfMonth;
+		this.dayOfWeek = dayOfWeek;
+		this.nth = nth;
+		this.base = base;
+		this.days = days;
+	}
+
+	/**
+	 * <p>Validate a month.</p>
+	 * @param month 1 (January) through 12 (December).
+	 */
+	private static void checkMonth(int month) {
+		if(month < 1 || month > 12) {
+			throw new IllegalArgumentException(String.format("Invalid month %d.", month));
+		}
+	}
+
+	/**
+	 * <p>Validate a day of the week.</p>
+	 * @param dayOfWeek 1 (Monday) through 7 (Sunday).
+	 */
+	private static void checkDayOfWeek(int dayOfWeek) {
+		if(dayOfWeek < 1 || dayOfWeek > 7) {
+			throw new IllegalArgumentException(String.format("Invalid day of the week %d.", dayOfWeek));
+		}
+	}
+
+	/**
+	 * <p>Holiday on a fixed month and day, observed off the weekend per the observable flags.</p>
+	 * @param day HolidayEnum defined.
+	 * @param month 1 (January) through 12 (December).
+	 * @param dayOfMonth 1 through the days of the month, February 29th is not allowed.
+	 * @return HolidayRule
+	 * @throws IllegalArgumentException if the day is null or the date is invalid.
+	 */
+	public static HolidayRule fixedDay(HolidayEnum day, int month, int dayOfMonth) {
+		checkMonth(month);
+
+		if(dayOfMonth < 1 || dayOfMonth > MONTH_LENGTHS[month - 1] || (month == 2 && dayOfMonth == 29)) {
+			throw new IllegalArgumentException(String.format("Invalid day of month %d for month %d.", dayOfMonth, month));
+		}
+
+		return new HolidayRule(Kind.FIXED_DAY, day, month, dayOfMonth, 0, 0, null, 0);
+	}
+
+	/**
+	 * <p>Holiday on the nth day of the week in a month.</p>
+	 * @param day HolidayEnum defined.
+	 * @param month 1 (January) through 12 (December).
+	 * @param dayOfWeek 1 (Monday) through 7 (Sunday).
+	 * @param nth occurrence of the day of the week, 1 through 4, so every month has it.
+	 * @return HolidayRule
+	 * @throws IllegalArgumentException if the day is null or a value is invalid.
+	 */
+	public static HolidayRule nthWeekday(HolidayEnum day, int month, int dayOfWeek, int nth) {
+		checkMonth(month);
+
+		checkDayOfWeek(dayOfWeek);
+
+		if(nth < 1 || nth > 4) {
+			throw new IllegalArgumentException(String.format("Invalid occurrence %d, expected 1 through 4.", nth));
+		}
+
+		return new HolidayRule(Kind.NTH_WEEKDAY, day, month, 0, dayOfWeek, nth, null, 0);
+	}
+
+	/**
+	 * <p>Holiday on the last day of the week in a month.</p>
+	 * @param day HolidayEnum defined.
+	 * @param month 1 (January) through 12 (December).
+	 * @param dayOfWeek 1 (Monday) through 7 (Sunday).
+	 * @return HolidayRule
+	 * @throws IllegalArgumentException if the day is null or a value is invalid.
+	 */
+	public static HolidayRule lastWeekday(HolidayEnum day, int month, int dayOfWeek) {
+		checkMonth(month);
+
+		checkDayOfWeek(dayOfWeek);
+
+		return new HolidayRule(Kind.LAST_WEEKDAY, day, month, 0, dayOfWeek, 0, null, 0);
+	}
+
+	/**
+	 * <p>Holiday a number of days from the actual day of another holiday of the same year.</p>
+	 * <p>The day is not moved off the weekend.  Example: the day after Thanksgiving is offset(day, THANKSGIVING_DAY, 1).<br/>
+	 * The day must fall within the year of the base holiday, HolidayRuleSet.of rejects an offset that may leave it.</p>
+	 * @param day HolidayEnum defined.
+	 * @param base HolidayEnum of the holiday the offset is from, defined by another rule of the rule set.
+	 * @param days number of days from the base holiday, -7 through 7.
+	 * @return HolidayRule
+	 * @throws IllegalArgumentException if the day or the base is null, the same, or days is invalid.
+	 */
+	public static HolidayRule offset(HolidayEnum day, HolidayEnum base, int days) {
+		if(base == null || base == day) {
+			throw new IllegalArgumentException(String.format("Invalid base holiday %s.", base));
+		}
+
+		if(days < -7 || days > 7) {
+			throw new IllegalArgumentException(String.format("Invalid offset %d, expected -7 through 7.", days));
+		}
+
+		return new HolidayRule(Kind.OFFSET, day, 0, 0, 0, 0, base, days);
+	}
+
+	/**
+	 * <p>Holiday on December 31st when a fixed day holiday of the following year is observed on it.</p>
+	 * <p>Example: New Years eve is spillover(NEWYEARS_EVE, NEWYEARS_DAY), observed when New Years day is a Saturday observed on the prior Friday.</p>
+	 * @param day HolidayEnum defined.
+	 * @param base HolidayEnum of the fixed day holiday, defined by another rule of the rule set.
+	 * @return HolidayRule
+	 * @throws IllegalArgumentException if the day or the base is null or the same.
+	 */
+	public static HolidayRule spillover(HolidayEnum day, HolidayEnum base) {
+		if(base == null || base == day) {
+			throw new IllegalArgumentException(String.format("Invalid base holiday %s.", base));
+		}
+
+		return new HolidayRule(Kind.SPILLOVER, day, 0, 0, 0, 0, base, 0);
+	}
+
+	/**
+	 * <p>Get the holiday the offset or spillover is from.</p>
+	 * @return HolidayEnum or null for the other kinds.
+	 */
+	public HolidayEnum getBase() {
+		return base;
+	}
+
+	/**
+	 * <p>Get the holiday defined.</p>
+	 * @return HolidayEnum
+	 */
+	public HolidayEnum getDay() {
+		return day;
+	}
+
+	/**
+	 * <p>Get the day of the month of a fixed day.</p>
+	 * @return int 1 through 31, 0 for the other kinds.
+	 */
+	public int getDayOfMonth() {
+		return dayOfMonth;
+	}
+
+	/**
+	 * <p>Get the day of the week of an nth or last weekday.</p>
+	 * @return int 1 (Monday) through 7 (Sunday), 0 for the other kinds.
+	 */
+	public int getDayOfWeek() {
+		return dayOfWeek;
+	}
+
+	/**
+	 * <p>Get the number of days from the base holiday of an offset.</p>
+	 * @return int
+	 */
+	public int getDays() {
+		return days;
+	}
+
+	/**
+	 * <p>Get the kind of rule.</p>
+	 * @return Kind
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * <p>Get the month.</p>
+	 * @return int 1 (January) through 12 (December), 0 for offset and spillover.
+	 */
+	public int getMonth() {
+		return month;
+	}
+
+	/**
+	 * <p>Get the occurrence of an nth weekday.</p>
+	 * @return int 1 through 4, 0 for the other kinds.
+	 */
+	public int getNth() {
+		return nth;
+	}
+
+	/**
+	 * <p>Is the holiday an actual holiday, meaning it can occur on any day of the week and is observed off the weekend?</p>
+	 * @return boolean true for fixed days else false.
+	 */
+	public boolean isActualDay() {
+		return this.kind == Kind.FIXED_DAY;
+	}
+
+	@Override
+	public String toString() {
+		switch (this.kind) {
+		case FIXED_DAY:
+			return String.format("%s on %d/%d", this.day, this.month, this.dayOfMonth);
+		case NTH_WEEKDAY:
+			return String.format("%s on weekday %d occurrence %d of month %d", this.day, this.dayOfWeek, this.nth, this.month);
+		case LAST_WEEKDAY:
+			return String.format("%s on the last weekday %d of month %d", this.day, this.dayOfWeek, this.month);
+		case OFFSET:
+			return String.format("%s %+d days from %s", this.day, this.days, this.base);
+		default:
+			return String.format("%s on December 31st when %s is observed on it", this.day, this.base);
+		}
+	}
+}
@@ -0,0 +1,461 @@
+package org.wrk.date.holiday;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <h1>HolidayRuleSet</h1>class compiles a set of HolidayRule declarations into a flat evaluator.
+ * <p>Compiling validates the rules once and lays them out as int arrays by HolidayEnum ordinal,<br/>
+ * thus evaluating a year is integer arithmetic over the arrays: January 1st is converted to an epoch day once<br/>
+ * and every month start and its day of the week are derived from it.  No objects are allocated when evaluating.</p>
+ * <h4>Rule sets</h4>
+ * <ul>
+ * <li>FEDERAL - the U.S. federal holidays, the default of FederalHolidays, HolidayIndex and HolidayTemplates.
+ * <li>of(HolidayRule...) - a custom rule set.  At most one rule per HolidayEnum, holidays without a rule never occur.
+ * </ul>
+ * <p>A rule set is immutable and may be shared across threads.  The year templates of each observable flag pair<br/>
+ * are computed on first use and kept with the rule set.  Rule sets with the same rules are equal.</p>
+ * @see org.wrk.date.holiday.HolidayRule
+ * @see org.wrk.date.holiday.HolidayTemplates
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayRuleSet {
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	// Rule kind not defined, the holiday never occurs.
+	private static final int NONE = -1;
+
+	private static final int FIXED_DAY = HolidayRule.Kind.FIXED_DAY.ordinal();
+
+	private static final int NTH_WEEKDAY = HolidayRule.Kind.NTH_WEEKDAY.ordinal();
+
+	private static final int LAST_WEEKDAY = HolidayRule.Kind.LAST_WEEKDAY.ordinal();
+
+	private static final int OFFSET = HolidayRule.Kind.OFFSET.ordinal();
+
+	private static final int SPILLOVER = HolidayRule.Kind.SPILLOVER.ordinal();
+
+	// Day of the year (0 based) of the first day of each month, and of the following January 1st, by leap year.
+	private static final int[][] MONTH_STARTS = {
+		{0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365},
+		{0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335, 366}
+	};
+
+	/**
+	 * <p>The U.S. federal holidays.</p>
+	 */
+	public static final HolidayRuleSet FEDERAL = of(
+		HolidayRule.fixedDay(HolidayEnum.NEWYEARS_DAY, 1, 1),
+		HolidayRule.nthWeekday(HolidayEnum.MARTINLUTHERKINGJR_DAY, 1, HolidayCalculator.MONDAY, 3),
+		HolidayRule.nthWeekday(HolidayEnum.PRESIDENTS_DAY, 2, HolidayCalculator.MONDAY, 3),
+		HolidayRule.lastWeekday(HolidayEnum.MEMORIAL_DAY, 5, HolidayCalculator.MONDAY),
+		HolidayRule.fixedDay(HolidayEnum.JUNETEENTH_DAY, 6, 19),
+		HolidayRule.fixedDay(HolidayEnum.INDEPENDENCE_DAY, 7, 4),
+		HolidayRule.nthWeekday(HolidayEnum.LABOR_DAY, 9, HolidayCalculator.MONDAY, 1),
+		HolidayRule.nthWeekday(HolidayEnum.COLUMBUS_DAY, 10, HolidayCalculator.MONDAY, 2),
+		HolidayRule.fixedDay(HolidayEnum.VETERANS_DAY, 11, 11),
+		HolidayRule.nthWeekday(HolidayEnum.THANKSGIVING_DAY, 11, HolidayCalculator.THURSDAY, 4),
+		HolidayRule.fixedDay(HolidayEnum.CHRISTMAS_DAY, 12, 25),
+		HolidayRule.spillover(HolidayEnum.NEWYEARS_EVE, HolidayEnum.NEWYEARS_DAY));
+
+	// Rules by HolidayEnum ordinal, null when not defined.
+	private final HolidayRule[] rules = new HolidayRule[DAYS.length];
+
+	// Compiled rules by HolidayEnum ordinal.
+	private final int[] kinds = new int[DAYS.length];
+
+	private final int[] months = new int[DAYS.length];
+
+	// Day of the month of fixed days, day of the week of nth and last weekdays.
+	private final int[] values = new int[DAYS.length];
+
+	// Days from the first matching weekday of nth weekdays, days from the base of offsets.
+	private final int[] days = new int[DAYS.length];
+
+	// Base ordinal of offsets and spillovers.
+	private final int[] bases = new int[DAYS.length];
+
+	// Year templates by Saturday observable * 2 + Sunday observable, computed on first use.
+	private final AtomicReferenceArray<HolidayTemplates> templates = new AtomicReferenceArray<>(4);
+
+	/**
+	 * <p>constructor</p>
+	 * @param rules validated rules.
+	 */
+	private HolidayRuleSet(Collection<HolidayRule> rules) {
+		Arrays.fill(this.kinds, NONE);
+
+		for(HolidayRule rule : rules) {
+			if(rule == null) {
+				throw new IllegalArgumentException("Holiday rule is null.");
+			}
+
+			int ordinal = rule.getDay().ordinal();
+
+			if(this.rules[ordinal] != null) {
+				throw new IllegalArgumentException(String.format("Holiday %s is defined more than once.", rule.getDay()));
+			}
+
+			this.rules[ordinal] = rule;
+			this.kinds[ordinal] = rule.getKind().ordinal();
+			this.months[ordinal] = rule.getMonth();
+			this.values[ordinal] = rule.getKind() == HolidayRule.Kind.FIXED_DAY ? rule.getDayOfMonth() : rule.getDayOfWeek();
+			this.days[ordinal] = rule.getKind() == HolidayRule.Kind.NTH_WEEKDAY ? 7 * (rule.getNth() - 1) : rule.getDays();
+			this.bases[ordinal] = rule.getBase() != null ? rule.getBase().ordinal() : NONE;
+		}
+
+		for(HolidayRule rule : this.rules) {
+			if(rule != null && rule.getBase() != null) {
+				this.checkBase(rule);
+			}
+		}
+
+		for(HolidayRule rule : this.rules) {
+			if(rule != null && rule.getKind() == HolidayRule.Kind.OFFSET) {
+				this.checkOffset(rule);
+			}
+		}
+	}
+
+	/**
+	 * <p>Compile the rules.</p>
+	 * @param rules at most one per HolidayEnum.
+	 * @return HolidayRuleSet
+	 * @throws IllegalArgumentException if a rule is null, a holiday is defined twice, a base holiday is invalid<br/>
+	 * or an offset leaves the year of its base holiday.
+	 */
+	public static HolidayRuleSet of(HolidayRule... rules) {
+		return of(Arrays.asList(rules));
+	}
+
+	/**
+	 * <p>Compile the rules.</p>
+	 * @param rules at most one per HolidayEnum.
+	 * @return HolidayRuleSet
+	 * @throws IllegalArgumentException if rules or a rule is null, a holiday is defined twice, a base holiday is invalid<br/>
+	 * or an offset leaves the year of its base holiday.
+	 */
+	public static HolidayRuleSet of(Collection<HolidayRule> rules) {
+		if(rules == null) {
+			throw new IllegalArgumentException("Holiday rules are null.");
+		}
+
+		return new HolidayRuleSet(rules);
+	}
+
+	/**
+	 * <p>Validate the base holiday of an offset or spillover rule.</p>
+	 * <p>Offsets may chain but not loop.  A spillover is from a fixed day.</p>
+	 * @param rule offset or spillover rule.
+	 */
+	private void checkBase(HolidayRule rule) {
+		int base = this.bases[rule.getDay().ordinal()];
+
+		for(int depth = 0; depth <= DAYS.length; depth++) {
+			if(this.kinds[base] == NONE) {
+				throw new IllegalArgumentException(String.format("Base holiday %s of %s is not defined.", DAYS[base], rule.getDay()));
+			}
+
+			if(rule.getKind() == HolidayRule.Kind.SPILLOVER) {
+				if(this.kinds[base] != FIXED_DAY) {
+					throw new IllegalArgumentException(String.format("Base holiday %s of %s is not a fixed day.", DAYS[base], rule.getDay()));
+				}
+
+				return;
+			}
+
+			if(this.kinds[base] != OFFSET) {
+				if(this.bases[base] != NONE) {
+					throw new IllegalArgumentException(String.format("Base holiday %s of %s is a spillover.", DAYS[base], rule.getDay()));
+				}
+
+				return;
+			}
+
+			base = this.bases[base];
+		}
+
+		throw new IllegalArgumentException(String.format("Offsets from %s loop.", rule.getDay()));
+	}
+
+	/**
+	 * <p>Validate that an offset rule falls within the year of its base holiday, for every year.</p>
+	 * <p>The lookups index the holidays of a year within that year, thus a day moved into the adjacent year would be<br/>
+	 * listed but never found.  Every year is one of 14 kinds, by the day of the week of January 1st and leap year.</p>
+	 * @param rule offset rule with a valid base.
+	 */
+	private void checkOffset(HolidayRule rule) {
+		int ordinal = rule.getDay().ordinal();
+
+		for(int leap = 0; leap <= 1; leap++) {
+			for(int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+				// Day of the year, January 1st being epoch day 0.
+				long dayOfYear = this.actual(ordinal, 0L, dayOfWeek, leap);
+
+				if(dayOfYear < 0 || dayOfYear >= 365 + leap) {
+					throw new IllegalArgumentException(String.format("Offset %d of %s from %s leaves the year of %s.", rule.getDays(), rule.getDay(), rule.getBase(), rule.getBase()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>Is the year a Gregorian leap year?</p>
+	 * @param year value to be determined.
+	 * @return int 1 if leap year else 0.
+	 */
+	private static int leap(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 1 : 0;
+	}
+
+	/**
+	 * <p>Evaluate the actual day of a holiday.</p>
+	 * @param ordinal of the holiday, defined.
+	 * @param firstDay epoch day of January 1st.
+	 * @param dayOfWeek of January 1st, 1 (Monday) through 7 (Sunday).
+	 * @param leap 1 if leap year else 0.
+	 * @return long epoch day.
+	 */
+	private long actual(int ordinal, long firstDay, int dayOfWeek, int leap) {
+		int kind = this.kinds[ordinal];
+
+		if(kind == FIXED_DAY) {
+			return firstDay + MONTH_STARTS[leap][this.months[ordinal] - 1] + this.values[ordinal] - 1;
+		}
+		else if(kind == NTH_WEEKDAY) {
+			int monthStart = MONTH_STARTS[leap][this.months[ordinal] - 1];
+
+			// Next day of the week from the first day of the month, 0 to 6 days ahead.
+			return firstDay + monthStart + Math.floorMod(this.values[ordinal] - dayOfWeek - monthStart, 7) + this.days[ordinal];
+		}
+		else if(kind == LAST_WEEKDAY) {
+			int monthEnd = MONTH_STARTS[leap][this.months[ordinal]] - 1;
+
+			// Previous day of the week from the last day of the month, 0 to 6 days back.
+			return firstDay + monthEnd - Math.floorMod(dayOfWeek + monthEnd - this.values[ordinal], 7);
+		}
+		else if(kind == OFFSET) {
+			return this.actual(this.bases[ordinal], firstDay, dayOfWeek, leap) + this.days[ordinal];
+		}
+
+		// Spillover, December 31st.
+		return firstDay + MONTH_STARTS[leap][12] - 1;
+	}
+
+	/**
+	 * <p>Evaluate the observed day of a holiday.</p>
+	 * @param ordinal of the holiday.
+	 * @param firstDay epoch day of January 1st.
+	 * @param dayOfWeek of January 1st, 1 (Monday) through 7 (Sunday).
+	 * @param leap 1 if leap year else 0.
+	 * @param year value of the holiday.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return long epoch day or HolidayCalculator.NONE if not observed during the year.
+	 */
+	private long observed(int ordinal, long firstDay, int dayOfWeek, int leap, int year, boolean saturdayObservable, boolean sundayObservable) {
+		int kind = this.kinds[ordinal];
+
+		if(kind == NONE) {
+			return HolidayCalculator.NONE;
+		}
+		else if(kind == FIXED_DAY) {
+			return HolidayCalculator.observedDay(this.actual(ordinal, firstDay, dayOfWeek, leap), true, saturdayObservable, sundayObservable);
+		}
+		else if(kind != SPILLOVER) {
+			return this.actual(ordinal, firstDay, dayOfWeek, leap);
+		}
+
+		// The base holiday of the following year, observed during the year only when moved back onto December 31st.
+		long nextFirstDay = firstDay + MONTH_STARTS[leap][12];
+
+		int base = this.bases[ordinal];
+
+		long baseDay = HolidayCalculator.observedDay(this.actual(base, nextFirstDay, (dayOfWeek - 1 + MONTH_STARTS[leap][12]) % 7 + 1, leap(year + 1)), true, saturdayObservable, sundayObservable);
+
+		return baseDay < nextFirstDay ? baseDay : HolidayCalculator.NONE;
+	}
+
+	/**
+	 * <p>Calculate the actual date of the holiday for the year.</p>
+	 * @param day HolidayEnum value.
+	 * @param year value of the holiday.
+	 * @return long epoch day.
+	 * @throws IllegalArgumentException if the holiday is not defined by the rule set.
+	 */
+	public long actualDay(HolidayEnum day, int year) {
+		if(!this.contains(day)) {
+			throw new IllegalArgumentException(String.format("Holiday %s is not defined.", day));
+		}
+
+		long firstDay = EpochDays.of(year, 1, 1);
+
+		return this.actual(day.ordinal(), firstDay, EpochDays.dayOfWeek(firstDay), leap(year));
+	}
+
+	/**
+	 * <p>Calculate the actual date of every holiday for the year.</p>
+	 * @param year value of the holidays.
+	 * @param actualDays result by HolidayEnum ordinal, epoch day or HolidayCalculator.NONE when not defined.
+	 * @throws IllegalArgumentException if actualDays is shorter than the number of HolidayEnum values.
+	 */
+	public void actualDays(int year, long[] actualDays) {
+		this.checkLength(actualDays);
+
+		long firstDay = EpochDays.of(year, 1, 1);
+
+		int dayOfWeek = EpochDays.dayOfWeek(firstDay);
+
+		int leap = leap(year);
+
+		for(int ordinal = 0; ordinal < DAYS.length; ordinal++) {
+			actualDays[ordinal] = this.kinds[ordinal] != NONE ? this.actual(ordinal, firstDay, dayOfWeek, leap) : HolidayCalculator.NONE;
+		}
+	}
+
+	/**
+	 * <p>Validate a result array.</p>
+	 * @param result array by HolidayEnum ordinal.
+	 */
+	private void checkLength(long[] result) {
+		if(result == null || result.length < DAYS.length) {
+			throw new IllegalArgumentException(String.format("Result length is less than the %d holidays.", DAYS.length));
+		}
+	}
+
+	/**
+	 * <p>Does the rule set define the holiday?</p>
+	 * @param day HolidayEnum value.
+	 * @return boolean
+	 */
+	public boolean contains(HolidayEnum day) {
+		return day != null && this.kinds[day.ordinal()] != NONE;
+	}
+
+	/**
+	 * <p>Get the rule of the holiday.</p>
+	 * @param day HolidayEnum value.
+	 * @return HolidayRule or null if not defined.
+	 */
+	public HolidayRule getRule(HolidayEnum day) {
+		return day != null ? this.rules[day.ordinal()] : null;
+	}
+
+	/**
+	 * <p>Get the rules in HolidayEnum order.</p>
+	 * @return List of HolidayRule, unmodifiable.
+	 */
+	public List<HolidayRule> getRules() {
+		List<HolidayRule> response = new ArrayList<>();
+
+		for(HolidayRule rule : this.rules) {
+			if(rule != null) {
+				response.add(rule);
+			}
+		}
+
+		return Collections.unmodifiableList(response);
+	}
+
+	/**
+	 * <p>Is the day an actual holiday?<br/>An actual holiday can occur any day of the week and is observed off the weekend.</p>
+	 * @param day HolidayEnum value.
+	 * @return boolean true if day is defined by a fixed day rule else false.
+	 */
+	public boolean isActualDay(HolidayEnum day) {
+		return day != null && this.kinds[day.ordinal()] == FIXED_DAY;
+	}
+
+	/**
+	 * <p>Calculate the day the holiday is observed during the year.</p>
+	 * @param day HolidayEnum value.
+	 * @param year value of the holiday.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return long epoch day or HolidayCalculator.NONE if the holiday is not defined or not observed during the year.
+	 */
+	public long observedDay(HolidayEnum day, int year, boolean saturdayObservable, boolean sundayObservable) {
+		if(!this.contains(day)) {
+			return HolidayCalculator.NONE;
+		}
+
+		long firstDay = EpochDays.of(year, 1, 1);
+
+		return this.observed(day.ordinal(), firstDay, EpochDays.dayOfWeek(firstDay), leap(year), year, saturdayObservable, sundayObservable);
+	}
+
+	/**
+	 * <p>Calculate the day every holiday is observed during the year.</p>
+	 * @param year value of the holidays.
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @param observedDays result by HolidayEnum ordinal, epoch day or HolidayCalculator.NONE when not defined or not observed during the year.
+	 * @throws IllegalArgumentException if observedDays is shorter than the number of HolidayEnum values.
+	 */
+	public void observedDays(int year, boolean saturdayObservable, boolean sundayObservable, long[] observedDays) {
+		this.checkLength(observedDays);
+
+		long firstDay = EpochDays.of(year, 1, 1);
+
+		int dayOfWeek = EpochDays.dayOfWeek(firstDay);
+
+		int leap = leap(year);
+
+		for(int ordinal = 0; ordinal < DAYS.length; ordinal++) {
+			observedDays[ordinal] = this.observed(ordinal, firstDay, dayOfWeek, leap, year, saturdayObservable, sundayObservable);
+		}
+	}
+
+	/**
+	 * <p>Get the year templates of the rule set, computed on first use.</p>
+	 * @param saturdayObservable the Saturday observable flag.
+	 * @param sundayObservable the Sunday observable flag.
+	 * @return HolidayTemplates
+	 */
+	HolidayTemplates templates(boolean saturdayObservable, boolean sundayObservable) {
+		int flags = (saturdayObservable ? 2 : 0) + (sundayObservable ? 1 : 0);
+
+		HolidayTemplates response = this.templates.get(flags);
+
+		if(response == null) {
+			// Computing twice under a race is harmless, the first one set is kept.
+			this.templates.compareAndSet(flags, null, new HolidayTemplates(this, saturdayObservable, sundayObservable));
+
+			response = this.templates.get(flags);
+		}
+
+		return response;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) {
+			return true;
+		}
+
+		if(!(other instanceof HolidayRuleSet)) {
+			return false;
+		}
+
+		HolidayRuleSet that = (HolidayRuleSet) other;
+
+		return Arrays.equals(this.kinds, that.kinds) && Arrays.equals(this.months, that.months) && Arrays.equals(this.values, that.values)
+				&& Arrays.equals(this.days, that.days) && Arrays.equals(this.bases, that.bases);
+	}
+
+	@Override
+	public int hashCode() {
+		return ((Arrays.hashCode(this.kinds) * 31 + Arrays.hashCode(this.months)) * 31 + Arrays.hashCode(this.values)) * 31 + Arrays.hashCode(this.days);
+	}
+
+	@Override
+	public String toString() {
+		return this.getRules().toString();
+	}
+}
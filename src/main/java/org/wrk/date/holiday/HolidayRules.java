@@ -36,7 +36,7 @@ public interface HolidayRules {
 	 * @return boolean true if day is an actual holiday else false.
 	 */
 	default public boolean isActualDay(HolidayEnum day) {
-		return day != null ? day == HolidayEnum.CHRISTMAS_DAY || day == HolidayEnum.INDEPENDENCE_DAY || day == HolidayEnum.JUNETEENTH_DAY || day == HolidayEnum.NEWYEARS_DAY || day == HolidayEnum.VETERANS_DAY : false;
+		return HolidayCalculator.isActualDay(day);
 	}
 	
 	/**
@@ -45,7 +45,7 @@ public interface HolidayRules {
 	 * @return boolean true if date is New Years Eve else false.
 	 */
 	default public boolean isNewYearsEve(Calendar date) {
-		return date != null ? date.get(Calendar.MONTH) == Calendar.DECEMBER && date.get(Calendar.DAY_OF_MONTH) == 31 : false;		
+		return date != null ? EpochDays.toPackedDate(EpochDays.of(date)) % 10000 == 1231 : false;		
 	}
 	
 	/**
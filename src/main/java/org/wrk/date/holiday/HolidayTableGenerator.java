@@ -0,0 +1,93 @@
+package org.wrk.date.holiday;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * <h1>HolidayTableGenerator</h1>class writes the calendar files of a set of configurations at build time.
+ * <p>Run by the exec-maven-plugin during the process-classes phase, after the rules are compiled,<br/>
+ * writing into the classes directory so the calendar files are packaged as classpath resources read by PrecompiledHolidays.</p>
+ * <h4>Arguments</h4>
+ * <ul>
+ * <li>output directory.
+ * <li>first year.
+ * <li>last year.
+ * <li>one or more configurations - name:saturdayObservable:sundayObservable[:UNOBSERVED_HOLIDAY,...]<br/>
+ * Example: federal:true:true or corporate:true:true:COLUMBUS_DAY,VETERANS_DAY
+ * </ul>
+ * <p>Each configuration is written to name.cal in the output directory.</p>
+ * @see org.wrk.date.holiday.HolidayCalendarFile
+ * @see org.wrk.date.holiday.PrecompiledHolidays
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayTableGenerator {
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private HolidayTableGenerator() {
+	}
+
+	/**
+	 * <p>Compute the holidays of a configuration over the year range.</p>
+	 * @param configuration name:saturdayObservable:sundayObservable[:UNOBSERVED_HOLIDAY,...]
+	 * @param firstYear the first year.
+	 * @param lastYear the last year.
+	 * @return HolidayCalendar snapshot of the configuration.
+	 * @throws Exception if the configuration is invalid.
+	 */
+	static HolidayCalendar calendar(String configuration, int firstYear, int lastYear) throws Exception {
+		String[] fields = configuration.split(":");
+
+		if(fields.length < 3 || fields.length > 4) {
+			throw new Exception(String.format("Invalid configuration %s, expected name:saturdayObservable:sundayObservable[:UNOBSERVED_HOLIDAY,...].", configuration));
+		}
+
+		ObservedHolidays holidays = new ObservedHolidays(firstYear);
+
+		holidays.setFirstYear(firstYear);
+
+		holidays.setLastYear(lastYear);
+
+		holidays.setSaturdayObservable(Boolean.parseBoolean(fields[1]));
+
+		holidays.setSundayObservable(Boolean.parseBoolean(fields[2]));
+
+		if(fields.length == 4) {
+			for(String name : fields[3].split(",")) {
+				holidays.holidayUnobserved(name.trim());
+			}
+		}
+
+		holidays.init();
+
+		return holidays.snapshot();
+	}
+
+	/**
+	 * <p>Write the calendar file of each configuration.</p>
+	 * @param args output directory, first year, last year and one or more configurations.
+	 * @throws Exception if the arguments are invalid or a calendar file cannot be written.
+	 */
+	public static void main(String[] args) throws Exception {
+		if(args.length < 4) {
+			throw new Exception("Usage: HolidayTableGenerator outputDirectory firstYear lastYear configuration...");
+		}
+
+		Path directory = Paths.get(args[0]);
+
+		int firstYear = Integer.parseInt(args[1].trim());
+
+		int lastYear = Integer.parseInt(args[2].trim());
+
+		Files.createDirectories(directory);
+
+		for(int index = 3; index < args.length; index++) {
+			String configuration = args[index].trim();
+
+			HolidayCalendarFile.write(calendar(configuration, firstYear, lastYear), directory.resolve(configuration.split(":")[0] + PrecompiledHolidays.EXTENSION));
+		}
+	}
+}
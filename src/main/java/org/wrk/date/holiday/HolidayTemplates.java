@@ -0,0 +1,408 @@
+package org.wrk.date.holiday;
+
+import java.util.Arrays;
+
+/**
+ * <h1>HolidayTemplates</h1>class answers holiday lookups for any year from 1 to MAXIMUM_YEAR by table lookup.
+ * <p>Every HolidayRule depends only on the day of the week of January 1st and whether the year is a leap year,<br/>
+ * thus there are 14 distinct year templates.  Each template holds the holiday observed on each day of the year,<br/>
+ * including the weekend observance shifts, and is computed once.</p>
+ * <h4>Year templates</h4>
+ * <ul>
+ * <li>template - (day of the week of January 1st - 1) * 2 + 1 if leap year else 0.
+ * <li>The Gregorian calendar repeats every 400 years, so the template of a year is read from a 400 entry table by year mod 400.
+ * <li>New Years day observed on December 31st of the prior year is not part of the year; that day is New Years eve.
+ * <li>Each template also holds the holiday actually occurring on each day, before any weekend observance shift.
+ * </ul>
+ * <p>Memory use does not grow with the years answered.  Templates are kept with the HolidayRuleSet per Saturday and Sunday observable flags,<br/>
+ * are not modified after construction and may be shared across threads.</p>
+ * @see org.wrk.date.holiday.HolidayRuleSet
+ * @see org.wrk.date.holiday.HolidayIndex
+ *
+ * @author Kelly Willard
+ */
+public final class HolidayTemplates {
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	// Number of distinct year templates, 7 days of the week of January 1st by leap year or not.
+	private static final int TEMPLATE_COUNT = 14;
+
+	// Number of years after which the Gregorian calendar repeats.
+	private static final int CYCLE = 400;
+
+	// Template of each year of the cycle, by year mod CYCLE.
+	private static final byte[] YEAR_TEMPLATES = new byte[CYCLE];
+
+	// A year of each template, from the cycle starting at year 2000.
+	private static final int[] REPRESENTATIVE_YEARS = new int[TEMPLATE_COUNT];
+
+	static {
+		for(int year = 2000 + CYCLE - 1; year >= 2000; year--) {
+			int template = template(EpochDays.dayOfWeek(EpochDays.of(year, 1, 1)), isLeapYear(year));
+
+			YEAR_TEMPLATES[year % CYCLE] = (byte) template;
+
+			// Descending, so the first year of each template in the cycle is kept.
+			REPRESENTATIVE_YEARS[template] = year;
+		}
+	}
+
+	// Holiday ordinal + 1 per day of the year (0 based) of each template, 0 when the day is not a holiday.
+	private final byte[][] ordinals = new byte[TEMPLATE_COUNT][366];
+
+	// Holiday ordinal + 1 per day of the year (0 based) of each template on its actual date, 0 when no holiday occurs on the day.
+	private final byte[][] actualOrdinals = new byte[TEMPLATE_COUNT][366];
+
+	// Holidays of each template, day of the year << 8 | observed << 4 | ordinal, in day of the year order.
+	private final int[][] holidays = new int[TEMPLATE_COUNT][];
+
+	private final HolidayRuleSet holidayRules;
+
+	private final boolean saturdayObservable;
+
+	private final boolean sundayObservable;
+
+	/**
+	 * <p>constructor</p>
+	 * @param holidayRules rules of the holidays.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 */
+	HolidayTemplates(HolidayRuleSet holidayRules, boolean saturdayObservable, boolean sundayObservable) {
+		this.holidayRules = holidayRules;
+		this.saturdayObservable = saturdayObservable;
+		this.sundayObservable = sundayObservable;
+
+		for(int template = 0; template < TEMPLATE_COUNT; template++) {
+			this.loadTemplate(template);
+		}
+	}
+
+	/**
+	 * <p>Get the templates of the federal holidays for the observable flags.</p>
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @return HolidayTemplates shared instance.
+	 */
+	public static HolidayTemplates of(boolean saturdayObservable, boolean sundayObservable) {
+		return of(HolidayRuleSet.FEDERAL, saturdayObservable, sundayObservable);
+	}
+
+	/**
+	 * <p>Get the templates of the rule set for the observable flags.</p>
+	 * @param holidayRules rules of the holidays.
+	 * @param saturdayObservable true if holidays occurring on a Saturday are observed on the prior Friday.
+	 * @param sundayObservable true if holidays occurring on a Sunday are observed on the following Monday.
+	 * @return HolidayTemplates shared instance, computed on first use.
+	 * @throws IllegalArgumentException if holidayRules is null.
+	 */
+	public static HolidayTemplates of(HolidayRuleSet holidayRules, boolean saturdayObservable, boolean sundayObservable) {
+		if(holidayRules == null) {
+			throw new IllegalArgumentException("Holiday rules are null.");
+		}
+
+		return holidayRules.templates(saturdayObservable, sundayObservable);
+	}
+
+	/**
+	 * <p>Is the year a Gregorian leap year?</p>
+	 * @param year value to be determined.
+	 * @return boolean
+	 */
+	private static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * <p>Template number of a year.</p>
+	 * @param dayOfWeek of January 1st, 1 (Monday) through 7 (Sunday).
+	 * @param leapYear flag true if leap year.
+	 * @return int 0 through 13.
+	 */
+	private static int template(int dayOfWeek, boolean leapYear) {
+		return (dayOfWeek - 1) * 2 + (leapYear ? 1 : 0);
+	}
+
+	/**
+	 * <p>Template number of a year.</p>
+	 * @param year value of the template.
+	 * @return int 0 through 13.
+	 */
+	private static int template(int year) {
+		return YEAR_TEMPLATES[Math.floorMod(year, CYCLE)];
+	}
+
+	/**
+	 * <p>Calculate the holidays of the representative year of the template.</p>
+	 * <p>Holidays observed outside of the year are ignored and the first holiday of a day is kept, as in HolidayIndex.</p>
+	 * @param template number of the template.
+	 */
+	private void loadTemplate(int template) {
+		int year = REPRESENTATIVE_YEARS[template];
+
+		long firstDay = EpochDays.of(year, 1, 1);
+
+		int length = isLeapYear(year) ? 366 : 365;
+
+		long[] observedDays = new long[DAYS.length];
+
+		long[] actualDays = new long[DAYS.length];
+
+		this.getHolidayRules().observedDays(year, this.isSaturdayObservable(), this.isSundayObservable(), observedDays);
+
+		this.getHolidayRules().actualDays(year, actualDays);
+
+		int[] entries = new int[DAYS.length];
+
+		int count = 0;
+
+		for(HolidayEnum day : DAYS) {
+			long epochDay = observedDays[day.ordinal()];
+
+			long dayOfYear = epochDay - firstDay;
+
+			if(epochDay != HolidayCalculator.NONE && 0 <= dayOfYear && dayOfYear < length && this.ordinals[template][(int) dayOfYear] == 0) {
+				this.ordinals[template][(int) dayOfYear] = (byte) (day.ordinal() + 1);
+
+				// Actual holidays are flagged observed only when moved off the weekend, as FederalHolidays does.
+				boolean observed = !this.getHolidayRules().isActualDay(day) || epochDay != actualDays[day.ordinal()];
+
+				entries[count++] = (int) dayOfYear << 8 | (observed ? 1 << 4 : 0) | day.ordinal();
+			}
+		}
+
+		// Actual dates; New Years eve is only the day New Years day is observed on, thus never an actual holiday.
+		for(HolidayRule rule : this.getHolidayRules().getRules()) {
+			long dayOfYear = actualDays[rule.getDay().ordinal()] - firstDay;
+
+			if(rule.getKind() != HolidayRule.Kind.SPILLOVER && 0 <= dayOfYear && dayOfYear < length && this.actualOrdinals[template][(int) dayOfYear] == 0) {
+				this.actualOrdinals[template][(int) dayOfYear] = (byte) (rule.getDay().ordinal() + 1);
+			}
+		}
+
+		entries = Arrays.copyOf(entries, count);
+
+		Arrays.sort(entries);
+
+		this.holidays[template] = entries;
+	}
+
+	/**
+	 * <p>Which holiday ordinal actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return HolidayEnum ordinal if a holiday occurs on the epoch day else -1, including when outside of the years answered.
+	 */
+	public int actualOrdinal(long epochDay) {
+		int year = EpochDays.year(epochDay);
+
+		if(year < this.getFirstYear() || year > this.getLastYear()) {
+			return -1;
+		}
+
+		return this.actualOrdinals[template(year)][(int) (epochDay - EpochDays.of(year, 1, 1))] - 1;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return HolidayEnum ordinal if an observed holiday occurs on the epoch day else -1, including when outside of the years answered.
+	 */
+	public int actualOrdinal(long epochDay, int observedMask) {
+		int ordinal = this.actualOrdinal(epochDay);
+
+		return ordinal >= 0 && (observedMask & (1 << ordinal)) != 0 ? ordinal : -1;
+	}
+
+	/**
+	 * <p>Does the epoch day fall within year 1 through MAXIMUM_YEAR - 1?</p>
+	 * @param epochDay value to check.
+	 * @return true if the epoch day is answered else false.
+	 */
+	public boolean contains(long epochDay) {
+		int year = EpochDays.year(epochDay);
+
+		return this.getFirstYear() <= year && year <= this.getLastYear();
+	}
+
+	/**
+	 * <p>Copy the holiday ordinals + 1 of each day of the year.</p>
+	 * @param year value of the holidays.
+	 * @param target array receiving a byte per day of the year, 0 when the day is not a holiday.
+	 * @param position of January 1st in the target array.
+	 */
+	void copyYear(int year, byte[] target, int position) {
+		System.arraycopy(this.ordinals[template(year)], 0, target, position, isLeapYear(year) ? 366 : 365);
+	}
+
+	/**
+	 * <p>Copy the actual holiday ordinals + 1 of each day of the year.</p>
+	 * @param year value of the holidays.
+	 * @param target array receiving a byte per day of the year, 0 when no holiday occurs on the day.
+	 * @param position of January 1st in the target array.
+	 */
+	void copyActualYear(int year, byte[] target, int position) {
+		System.arraycopy(this.actualOrdinals[template(year)], 0, target, position, isLeapYear(year) ? 366 : 365);
+	}
+
+	/**
+	 * <p>Fingerprint of the holiday rules of the templates and the observed holidays.</p>
+	 * <p>FNV-1a hash of the observable flags, the observed mask and every template, thus a change to any holiday rule changes the fingerprint.</p>
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return long fingerprint.
+	 */
+	long fingerprint(int observedMask) {
+		long hash = 0xcbf29ce484222325L;
+
+		int[] values = {this.isSaturdayObservable() ? 1 : 0, this.isSundayObservable() ? 1 : 0, observedMask, DAYS.length};
+
+		for(int value : values) {
+			hash = (hash ^ value) * 0x100000001b3L;
+		}
+
+		for(int template = 0; template < TEMPLATE_COUNT; template++) {
+			for(int entry : this.holidays[template]) {
+				hash = (hash ^ entry) * 0x100000001b3L;
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * <p>Get the first year answered.</p>
+	 * @return int
+	 */
+	public int getFirstYear() {
+		return 1;
+	}
+
+	/**
+	 * <p>Get the last year answered, MAXIMUM_YEAR - 1.</p>
+	 * @return int
+	 */
+	public int getLastYear() {
+		return USHoliday.MAXIMUM_YEAR - 1;
+	}
+
+	/**
+	 * <p>Get the rules of the holidays.</p>
+	 * @return HolidayRuleSet
+	 */
+	public HolidayRuleSet getHolidayRules() {
+		return holidayRules;
+	}
+
+	/**
+	 * <p>Get the holidays of the year.</p>
+	 * @param year value of the holidays.
+	 * @return int[] day of the year (0 based) &lt;&lt; 8 | observed &lt;&lt; 4 | ordinal, in day of the year order.  Shared, do not modify.
+	 */
+	int[] holidays(int year) {
+		return this.holidays[template(year)];
+	}
+
+	/**
+	 * <p>Is the epoch day a holiday?</p>
+	 * @param epochDay value to be determined.
+	 * @return true if holiday else false, including when outside of the years answered.
+	 */
+	public boolean isHoliday(long epochDay) {
+		return this.ordinal(epochDay) >= 0;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Saturday observed on the prior Friday?</p>
+	 * @return boolean
+	 */
+	public boolean isSaturdayObservable() {
+		return saturdayObservable;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Sunday observed on the following Monday?</p>
+	 * @return boolean
+	 */
+	public boolean isSundayObservable() {
+		return sundayObservable;
+	}
+
+	/**
+	 * <p>Which holiday ordinal does the epoch day match?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return HolidayEnum ordinal if the epoch day is a holiday else -1, including when outside of the years answered.
+	 */
+	public int ordinal(long epochDay) {
+		int year = EpochDays.year(epochDay);
+
+		if(year < this.getFirstYear() || year > this.getLastYear()) {
+			return -1;
+		}
+
+		return this.ordinals[template(year)][(int) (epochDay - EpochDays.of(year, 1, 1))] - 1;
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @param observedMask bit per HolidayEnum ordinal (1 &lt;&lt; ordinal), set when the holiday is observed.
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1, including when outside of the years answered.
+	 */
+	public int ordinal(long epochDay, int observedMask) {
+		int ordinal = this.ordinal(epochDay);
+
+		return ordinal >= 0 && (observedMask & (1 << ordinal)) != 0 ? ordinal : -1;
+	}
+
+	/**
+	 * <p>Which holiday actually occurs on the epoch day, before any weekend observance shift?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return Holiday flagged not observed if a holiday occurs on the epoch day else null, including when outside of the years answered.<br/>
+	 * A new read-only Holiday is returned by each call.
+	 */
+	public Holiday whichActualHoliday(long epochDay) {
+		int ordinal = this.actualOrdinal(epochDay);
+
+		return ordinal >= 0 ? new ImmutableHoliday(epochDay, DAYS[ordinal], false) : null;
+	}
+
+	/**
+	 * <p>Which holiday does the date match?</p>
+	 * @param year value of the date.
+	 * @param month value of the date, 1 (January) through 12 (December).
+	 * @param dayOfMonth value of the date, 1 through 31.
+	 * @return Holiday if the date is a holiday else null, including when outside of the years answered.
+	 */
+	public Holiday whichHoliday(int year, int month, int dayOfMonth) {
+		return this.whichHoliday(EpochDays.of(year, month, dayOfMonth));
+	}
+
+	/**
+	 * <p>Which holiday does the epoch day match?</p>
+	 * @param epochDay value to determine which holiday.
+	 * @return Holiday if the epoch day is a holiday else null, including when outside of the years answered.<br/>
+	 * A new read-only Holiday is returned by each call.
+	 */
+	public Holiday whichHoliday(long epochDay) {
+		int ordinal = this.ordinal(epochDay);
+
+		if(ordinal < 0) {
+			return null;
+		}
+
+		int year = EpochDays.year(epochDay);
+
+		int dayOfYear = (int) (epochDay - EpochDays.of(year, 1, 1));
+
+		boolean observed = false;
+
+		for(int entry : this.holidays(year)) {
+			if(entry >>> 8 == dayOfYear) {
+				observed = (entry & (1 << 4)) != 0;
+			}
+		}
+
+		return new ImmutableHoliday(epochDay, DAYS[ordinal], observed);
+	}
+}
@@ -1,5 +1,6 @@
 package org.wrk.date.holiday;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -8,8 +9,10 @@ import java.util.Date;
  * <ul>
  * <li>isHoliday for Calendar object.
  * <li>isHoliday for Date object.
+ * <li>isHoliday for LocalDate object.
  * <li>whichHoliday for Calendar object.
  * <li>whichHoliday for Date object.
+ * <li>whichHoliday for LocalDate object.
  * </ul>
  */
 public interface Holidays {
@@ -18,7 +21,11 @@ public interface Holidays {
 	
 	public boolean isHoliday(Date date) throws Exception;
 	
+	public boolean isHoliday(LocalDate date) throws Exception;
+	
 	public Holiday whichHoliday(Calendar date) throws Exception;
 	
 	public Holiday whichHoliday(Date date) throws Exception;
+	
+	public Holiday whichHoliday(LocalDate date) throws Exception;
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package org.wrk.date.holiday;
+
+import java.util.Calendar;
+
+/**
+ * <h1>ImmutableHoliday</h1>class is a read-only Holiday shared by the holiday index.
+ * <p>The date is held as year, month and day values and a new Calendar is returned by each getDate() call,<br/>
+ * thus callers may modify the returned Calendar without affecting other threads.</p>
+ * <p>The setters throw UnsupportedOperationException.</p>
+ * @see org.wrk.date.holiday.Holiday
+ *
+ * @author Kelly Willard
+ */
+final class ImmutableHoliday extends Holiday {
+
+	private final int year;
+
+	private final int month;
+
+	private final int dayOfMonth;
+
+	private final HolidayEnum day;
+
+	private final boolean observed;
+
+	/**
+	 * <p>constructor</p>
+	 * @param epochDay date of the holiday.
+	 * @param day HolidayEnum value of the holiday.
+	 * @param observed flag true if observed else false if actual day.
+	 */
+	ImmutableHoliday(long epochDay, HolidayEnum day, boolean observed) {
+		long date = EpochDays.toPackedDate(epochDay);
+
+		this.year = (int) (date / 10000);
+		this.month = (int) (date / 100 % 100) - 1;
+		this.dayOfMonth = (int) (date % 100);
+		this.day = day;
+		this.observed = observed;
+	}
+
+	/**
+	 * @return Calendar date of holiday, a new purely Gregorian instance with no time stamp.
+	 */
+	@Override
+	public Calendar getDate() {
+		Calendar date = EpochDays.gregorianCalendar();
+
+		date.set(this.year, this.month, this.dayOfMonth);
+
+		return date;
+	}
+
+	/**
+	 * @return HolidayEnum day name of holiday
+	 */
+	@Override
+	public HolidayEnum getDay() {
+		return day;
+	}
+
+	/**
+	 * @return boolean observed flag true if observed else false if actual day.
+	 */
+	@Override
+	public boolean isObserved() {
+		return observed;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void setDate(Calendar date) {
+		throw new UnsupportedOperationException("Holiday is read-only.");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void setDay(HolidayEnum day) {
+		throw new UnsupportedOperationException("Holiday is read-only.");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void setObserved(boolean observed) {
+		throw new UnsupportedOperationException("Holiday is read-only.");
+	}
+}
@@ -0,0 +1,145 @@
+package org.wrk.date.holiday;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h1>LatencyHistogram</h1>class is a thread-safe histogram of durations in nanoseconds with power of two buckets.
+ * <p>Bucket i holds the durations from 2<sup>i-1</sup> up to 2<sup>i</sup> - 1 nanoseconds, bucket 0 holds durations of 0.<br/>
+ * Recording is a leading zero count and a LongAdder increment; no objects are allocated and no lock is taken.<br/>
+ * Percentiles are estimated as the upper bound of the bucket, thus within a factor of 2.</p>
+ * @see org.wrk.date.holiday.HolidayMetrics
+ *
+ * @author Kelly Willard
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * <p>Number of buckets, one per bit of a long.</p>
+	 */
+	public static final int BUCKET_COUNT = Long.SIZE;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maximumNanos = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * <p>constructor</p>
+	 */
+	public LatencyHistogram() {
+		for(int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			this.buckets[bucket] = new LongAdder();
+		}
+	}
+
+	/**
+	 * <p>Bucket of a duration.</p>
+	 * @param nanos duration, negative durations are recorded as 0.
+	 * @return int 0 through BUCKET_COUNT - 1.
+	 */
+	private static int bucket(long nanos) {
+		return nanos <= 0 ? 0 : Math.min(BUCKET_COUNT - Long.numberOfLeadingZeros(nanos), BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * <p>Get the number of durations recorded in a bucket.</p>
+	 * @param bucket 0 through BUCKET_COUNT - 1.
+	 * @return long
+	 */
+	public long getBucketCount(int bucket) {
+		return this.buckets[bucket].sum();
+	}
+
+	/**
+	 * <p>Get the largest duration of a bucket.</p>
+	 * @param bucket 0 through BUCKET_COUNT - 1.
+	 * @return long nanoseconds.
+	 */
+	public static long getBucketUpperBound(int bucket) {
+		return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+
+	/**
+	 * <p>Get the number of durations recorded.</p>
+	 * @return long
+	 */
+	public long getCount() {
+		long count = 0;
+
+		for(LongAdder bucket : this.buckets) {
+			count += bucket.sum();
+		}
+
+		return count;
+	}
+
+	/**
+	 * <p>Get the largest duration recorded.</p>
+	 * @return long nanoseconds, 0 if none.
+	 */
+	public long getMaximumNanos() {
+		return this.maximumNanos.get();
+	}
+
+	/**
+	 * <p>Get the sum of the durations recorded.</p>
+	 * @return long nanoseconds.
+	 */
+	public long getTotalNanos() {
+		return this.totalNanos.sum();
+	}
+
+	/**
+	 * <p>Estimate the duration at a percentile.</p>
+	 * @param percentile 0 through 100.
+	 * @return long nanoseconds, the upper bound of the bucket holding the percentile, limited to the largest duration recorded.  0 if none.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = this.getCount();
+
+		if(count == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100));
+
+		long seen = 0;
+
+		for(int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			seen += this.buckets[bucket].sum();
+
+			if(seen >= rank) {
+				return Math.min(getBucketUpperBound(bucket), this.getMaximumNanos());
+			}
+		}
+
+		return this.getMaximumNanos();
+	}
+
+	/**
+	 * <p>Record a duration.</p>
+	 * @param nanos duration in nanoseconds.
+	 */
+	public void record(long nanos) {
+		this.buckets[bucket(nanos)].increment();
+
+		this.totalNanos.add(Math.max(nanos, 0));
+
+		this.maximumNanos.accumulate(nanos);
+	}
+
+	/**
+	 * <p>Remove every duration recorded.</p>
+	 */
+	public void reset() {
+		for(LongAdder bucket : this.buckets) {
+			bucket.reset();
+		}
+
+		this.totalNanos.reset();
+
+		this.maximumNanos.reset();
+	}
+}
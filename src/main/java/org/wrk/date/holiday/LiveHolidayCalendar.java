@@ -0,0 +1,393 @@
+package org.wrk.date.holiday;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h1>LiveHolidayCalendar</h1>class holds the HolidayCalendar of the current year of a configuration, rolling over on January 1st.
+ * <p>A FederalHolidays or ObservedHolidays fixes its year when constructed and applies its setters only when init() is called again.<br/>
+ * The live calendar publishes immutable snapshots through an AtomicReference instead:</p>
+ * <ul>
+ * <li>current - the snapshot of the current year of the clock.  Readers never lock nor see a snapshot being built.
+ * <li>reload - applies the changed configuration, building and swapping in a new snapshot.  Readers keep the old snapshot until the swap.
+ * <li>rollover - the snapshot of the next year is built in the background and swapped in at midnight of January 1st in the zone of the clock.<br/>
+ * A reader past the rollover swaps it in itself, building it if the background has not, thus a late timer never answers the old year.
+ * </ul>
+ * <p>The configuration is copied by reload() with ObservedHolidays.clone(int), which calls init(), thus later setter calls take effect<br/>
+ * only when reload() is called.  The year range of the configuration always includes the current year.</p>
+ * <p>The lookups answer dates of the current year and of the following year, the latter from the snapshot built in the background,<br/>
+ * or by the calling thread if not ready.  Dates of other years throw an IllegalArgumentException rather than answer false or null.</p>
+ * <p>The background thread is a daemon; close() stops it.  Snapshots remain usable after close(), and the calendar still rolls over on read.</p>
+ * <br/>
+ * @see org.wrk.date.holiday.HolidayCalendar
+ * @see org.wrk.date.holiday.ObservedHolidays
+ *
+ * @author Kelly Willard
+ */
+public final class LiveHolidayCalendar implements Holidays, AutoCloseable {
+
+	private final ObservedHolidays configuration;
+
+	private final Clock clock;
+
+	private final ScheduledExecutorService executor;
+
+	// Snapshot of the current year.
+	private final AtomicReference<Generation> current = new AtomicReference<>();
+
+	// Snapshot of the year following the current snapshot, built in the background, or null.
+	private final AtomicReference<Generation> next = new AtomicReference<>();
+
+	// Swap of the current snapshot at its rollover, cancelled when another snapshot is published.
+	private final AtomicReference<ScheduledFuture<?>> swap = new AtomicReference<>();
+
+	/**
+	 * <h1>Generation</h1>is the snapshot of a year and the copy of the configuration it was built from.
+	 */
+	private static final class Generation {
+
+		final int year;
+
+		// Milliseconds since the epoch of January 1st of the following year.
+		final long rolloverMillis;
+
+		final HolidayCalendar calendar;
+
+		// Copy of the configuration taken by reload(), shared by the following years and not modified.
+		final ObservedHolidays configuration;
+
+		Generation(int year, long rolloverMillis, HolidayCalendar calendar, ObservedHolidays configuration) {
+			this.year = year;
+			this.rolloverMillis = rolloverMillis;
+			this.calendar = calendar;
+			this.configuration = configuration;
+		}
+	}
+
+	/**
+	 * <p>constructor of the system clock.</p>
+	 * @param configuration holidays observed, copied by reload().
+	 * @throws IllegalArgumentException if configuration is null.
+	 */
+	public LiveHolidayCalendar(ObservedHolidays configuration) {
+		this(configuration, Clock.systemDefaultZone());
+	}
+
+	/**
+	 * <p>constructor</p>
+	 * @param configuration holidays observed, copied by reload().
+	 * @param clock answering the current year and the time of the rollover.
+	 * @throws IllegalArgumentException if configuration or clock is null.
+	 */
+	public LiveHolidayCalendar(ObservedHolidays configuration, Clock clock) {
+		if(configuration == null || clock == null) {
+			throw new IllegalArgumentException("Configuration or clock is null.");
+		}
+
+		this.configuration = configuration;
+		this.clock = clock;
+
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+			Thread thread = new Thread(task, "holiday-rollover");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		executor.setRemoveOnCancelPolicy(true);
+
+		this.executor = executor;
+
+		this.reload();
+	}
+
+	/**
+	 * <p>Build the snapshot of a year from a copy of the configuration.</p>
+	 * @param configuration copy of the configuration.
+	 * @param year value of the snapshot.
+	 * @return Generation
+	 */
+	private Generation build(ObservedHolidays configuration, int year) {
+		ObservedHolidays holidays = configuration.getYear() == year ? configuration : configuration.clone(year);
+
+		try {
+			long rolloverMillis = LocalDate.of(year + 1, 1, 1).atStartOfDay(this.clock.getZone()).toInstant().toEpochMilli();
+
+			return new Generation(year, rolloverMillis, holidays.snapshot(), configuration);
+		}
+		catch(Exception e) {
+			// snapshot() throws only when not initialized; clone(int) initializes.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * <p>Stop building and swapping snapshots in the background.</p>
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * <p>Get the snapshot of the current year, rolling over when the year of the clock has passed.</p>
+	 * <p>Does not lock.  The returned snapshot is immutable and remains valid after a rollover or reload.</p>
+	 * @return HolidayCalendar
+	 */
+	public HolidayCalendar current() {
+		return this.generation().calendar;
+	}
+
+	/**
+	 * <p>Get the snapshot answering the year, the current year or the following year.</p>
+	 * @param year of the date looked up.
+	 * @return HolidayCalendar
+	 * @throws IllegalArgumentException if the year is neither the current year nor the following year.
+	 */
+	private HolidayCalendar calendar(int year) {
+		Generation generation = this.generation();
+
+		if(year == generation.year) {
+			return generation.calendar;
+		}
+
+		if(year != generation.year + 1) {
+			throw new IllegalArgumentException(String.format("Year %d is outside of %d and %d.", year, generation.year, generation.year + 1));
+		}
+
+		return this.following(generation).calendar;
+	}
+
+	/**
+	 * <p>Get the current snapshot, rolling over when the year of the clock has passed.</p>
+	 * @return Generation current.
+	 */
+	private Generation generation() {
+		Generation generation = this.current.get();
+
+		return this.clock.millis() < generation.rolloverMillis ? generation : this.rollover(generation);
+	}
+
+	/**
+	 * <p>Get the snapshot of the year following the snapshot, built in the background if ready else by the calling thread.</p>
+	 * @param generation the current snapshot.
+	 * @return Generation of the following year.
+	 */
+	private Generation following(Generation generation) {
+		Generation prepared = this.next.get();
+
+		if(prepared != null && prepared.year == generation.year + 1 && prepared.configuration == generation.configuration) {
+			return prepared;
+		}
+
+		Generation following = this.build(generation.configuration, generation.year + 1);
+
+		// Kept for the rollover only while the snapshot is current.
+		if(this.current.get() == generation) {
+			this.next.compareAndSet(prepared, following);
+		}
+
+		return following;
+	}
+
+	/**
+	 * <p>Get the year of the current snapshot.</p>
+	 * @return int
+	 */
+	public int getYear() {
+		return this.current.get().year;
+	}
+
+	/**
+	 * <p>Get the observed holidays of the current year sorted by date.</p>
+	 * @return HolidayListing
+	 */
+	public HolidayListing listing() {
+		Generation generation = this.generation();
+
+		return generation.calendar.listing(generation.year);
+	}
+
+	/**
+	 * <p>Build the snapshot following the current snapshot in the background and schedule its swap at the rollover.</p>
+	 * @param generation the current snapshot.
+	 */
+	private void prepare(Generation generation) {
+		ScheduledFuture<?> previous;
+
+		try {
+			this.executor.execute(() -> {
+				if(this.current.get() == generation) {
+					this.next.set(this.build(generation.configuration, generation.year + 1));
+				}
+			});
+
+			previous = this.swap.getAndSet(this.executor.schedule(() -> {
+				if(this.current.get() == generation) {
+					this.rollover(generation);
+				}
+			}, Math.max(0L, generation.rolloverMillis - this.clock.millis()), TimeUnit.MILLISECONDS));
+		}
+		catch(RejectedExecutionException e) {
+			// Closed, readers roll over on their own.
+			return;
+		}
+
+		if(previous != null) {
+			previous.cancel(false);
+		}
+	}
+
+	/**
+	 * <p>Apply the configuration, building and publishing the snapshot of the current year.</p>
+	 * <p>The configuration is copied in the calling thread, then readers swap to the new snapshot atomically.</p>
+	 * @return HolidayCalendar published.
+	 */
+	public HolidayCalendar reload() {
+		int year = LocalDate.now(this.clock).getYear();
+
+		Generation generation = this.build(this.configuration.clone(year), year);
+
+		// Wins over a concurrent rollover, which was built from the older configuration.
+		this.current.set(generation);
+
+		this.prepare(generation);
+
+		return generation.calendar;
+	}
+
+	/**
+	 * <p>Swap in the snapshot of the year of the clock, built in the background if ready else by the calling thread.</p>
+	 * @param generation the snapshot past its rollover.
+	 * @return Generation current.
+	 */
+	private Generation rollover(Generation generation) {
+		int year = LocalDate.now(this.clock).getYear();
+
+		Generation following = year == generation.year + 1 ? this.following(generation) : this.build(generation.configuration, year);
+
+		// Lost to another rollover or a reload, which is current.
+		if(!this.current.compareAndSet(generation, following)) {
+			return this.current.get();
+		}
+
+		this.prepare(following);
+
+		return following;
+	}
+
+	/**
+	 * <p>Is the calendar date an observed holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 * @throws IllegalArgumentException if the date is neither of the current year nor of the following year.
+	 */
+	@Override
+	public boolean isHoliday(Calendar date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.calendar(EpochDays.year(EpochDays.of(date))).isHoliday(date);
+	}
+
+	/**
+	 * <p>Is the date an observed holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 * @throws IllegalArgumentException if the date is neither of the current year nor of the following year.
+	 */
+	@Override
+	public boolean isHoliday(Date date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		// A Calendar local to the call, so concurrent lookups do not share state.
+		Calendar now = Calendar.getInstance();
+
+		now.setTime(date);
+
+		return this.isHoliday(now);
+	}
+
+	/**
+	 * <p>Is the local date an observed holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 * @throws IllegalArgumentException if the date is neither of the current year nor of the following year.
+	 */
+	@Override
+	public boolean isHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.calendar(date.getYear()).isHoliday(date);
+	}
+
+	/**
+	 * <p>Which holiday does the calendar date match?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 * @throws IllegalArgumentException if the date is neither of the current year nor of the following year.
+	 */
+	@Override
+	public Holiday whichHoliday(Calendar date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.calendar(EpochDays.year(EpochDays.of(date))).whichHoliday(date);
+	}
+
+	/**
+	 * <p>Which holiday does the date match?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 * @throws IllegalArgumentException if the date is neither of the current year nor of the following year.
+	 */
+	@Override
+	public Holiday whichHoliday(Date date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		// A Calendar local to the call, so concurrent lookups do not share state.
+		Calendar now = Calendar.getInstance();
+
+		now.setTime(date);
+
+		return this.whichHoliday(now);
+	}
+
+	/**
+	 * <p>Which holiday does the local date match?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 * @throws IllegalArgumentException if the date is neither of the current year nor of the following year.
+	 */
+	@Override
+	public Holiday whichHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.calendar(date.getYear()).whichHoliday(date);
+	}
+}
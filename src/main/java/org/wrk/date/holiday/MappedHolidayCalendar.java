@@ -0,0 +1,243 @@
+package org.wrk.date.holiday;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * <h1>MappedHolidayCalendar</h1>class answers holiday lookups from a memory-mapped calendar file.
+ * <p>Created by HolidayCalendarFile.map(Path).  Lookups read the bitset and the ordinal table straight from the mapped pages,<br/>
+ * thus nothing is computed at startup and processes mapping the same file share its memory.<br/>
+ * Calendar files read by HolidayCalendarFile.read(InputStream, String) are answered the same way from a heap buffer.</p>
+ * <p>The mapping is read-only and read with absolute positions, thus the calendar may be shared across threads.<br/>
+ * Holidays returned are read-only.</p>
+ * @see org.wrk.date.holiday.HolidayCalendarFile
+ *
+ * @author Kelly Willard
+ */
+public final class MappedHolidayCalendar implements Holidays {
+
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	private final ByteBuffer buffer;
+
+	private final HolidayRuleSet holidayRules;
+
+	private final long firstDay;
+
+	private final int dayCount;
+
+	private final int ordinalPosition;
+
+	/**
+	 * <p>constructor</p>
+	 * @param buffer mapped calendar file, verified by HolidayCalendarFile.
+	 * @param holidayRules rules the calendar file was written with.
+	 */
+	MappedHolidayCalendar(ByteBuffer buffer, HolidayRuleSet holidayRules) {
+		this.buffer = buffer;
+		this.holidayRules = holidayRules;
+		this.firstDay = buffer.getLong(32);
+		this.dayCount = buffer.getInt(40);
+		this.ordinalPosition = (int) HolidayCalendarFile.ordinalPosition(this.dayCount);
+	}
+
+	/**
+	 * <p>Does the epoch day fall within the calendar?</p>
+	 * @param epochDay value to check.
+	 * @return true if the epoch day is in the file else false.
+	 */
+	public boolean contains(long epochDay) {
+		long offset = epochDay - this.firstDay;
+
+		return 0 <= offset && offset < this.dayCount;
+	}
+
+	/**
+	 * <p>Get the fingerprint of the holiday rules and the configuration.</p>
+	 * @return long
+	 */
+	public long getFingerprint() {
+		return this.buffer.getLong(16);
+	}
+
+	/**
+	 * <p>Get the first year of the calendar.</p>
+	 * @return int
+	 */
+	public int getFirstYear() {
+		return this.buffer.getInt(24);
+	}
+
+	/**
+	 * <p>Get the last year of the calendar.</p>
+	 * @return int
+	 */
+	public int getLastYear() {
+		return this.buffer.getInt(28);
+	}
+
+	/**
+	 * <p>Get the observed holidays as a bit per HolidayEnum ordinal.</p>
+	 * @return int
+	 */
+	public int getObservedMask() {
+		return this.buffer.getInt(12);
+	}
+
+	/**
+	 * <p>Which observed holiday ordinal does the epoch day match?</p>
+	 * <p>Intended for tight loops over primitive dates; the lookup does not box, throw or allocate.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return HolidayEnum ordinal if the epoch day is an observed holiday else -1, including when outside of the year range.
+	 */
+	public int holidayOrdinal(long epochDay) {
+		long offset = epochDay - this.firstDay;
+
+		return 0 <= offset && offset < this.dayCount ? this.buffer.get(this.ordinalPosition + (int) offset) - 1 : -1;
+	}
+
+	/**
+	 * <p>Does the calendar date match a holiday?  The date is not modified.</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public boolean isHoliday(Calendar date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.isHoliday(EpochDays.of(date));
+	}
+
+	/**
+	 * <p>Does the date match a holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public boolean isHoliday(Date date) throws Exception {
+		return this.whichHoliday(date) != null;
+	}
+
+	/**
+	 * <p>Does the local date match a holiday?</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public boolean isHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.isHoliday(date.toEpochDay());
+	}
+
+	/**
+	 * <p>Does the epoch day match an observed holiday?</p>
+	 * <p>Reads one bit of the mapped bitset.</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return true if holiday else false, including when outside of the year range.
+	 */
+	public boolean isHoliday(long epochDay) {
+		long offset = epochDay - this.firstDay;
+
+		if(offset < 0 || offset >= this.dayCount) {
+			return false;
+		}
+
+		return (this.buffer.getLong(HolidayCalendarFile.HEADER_SIZE + (int) (offset >>> 6) * Long.BYTES) & 1L << offset) != 0;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Saturday observed on the prior Friday?</p>
+	 * @return boolean
+	 */
+	public boolean isSaturdayObservable() {
+		return (this.buffer.getInt(8) & 2) != 0;
+	}
+
+	/**
+	 * <p>Are holidays occurring on a Sunday observed on the following Monday?</p>
+	 * @return boolean
+	 */
+	public boolean isSundayObservable() {
+		return (this.buffer.getInt(8) & 1) != 0;
+	}
+
+	/**
+	 * <p>Which holiday does the calendar date match?  The date is not modified.</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public Holiday whichHoliday(Calendar date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.whichHoliday(EpochDays.of(date));
+	}
+
+	/**
+	 * <p>Which holiday does the date match?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public Holiday whichHoliday(Date date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		// A Calendar local to the call, so concurrent lookups do not share state.
+		Calendar now = Calendar.getInstance();
+
+		now.setTime(date);
+
+		return this.whichHoliday(now);
+	}
+
+	/**
+	 * <p>Which holiday does the local date match?</p>
+	 * @param date to determine which holiday.
+	 * @return Holiday if date matches an observed holiday else null.
+	 * @throws Exception if date is null.
+	 */
+	@Override
+	public Holiday whichHoliday(LocalDate date) throws Exception {
+		if(date == null) {
+			throw new Exception("Date is null. Cannot determine holiday.");
+		}
+
+		return this.whichHoliday(date.toEpochDay());
+	}
+
+	/**
+	 * <p>Which holiday does the epoch day match?</p>
+	 * @param epochDay number of days since January 1st 1970, as returned by LocalDate.toEpochDay().
+	 * @return Holiday if the epoch day is an observed holiday else null.  A new read-only Holiday is returned by each call.
+	 */
+	public Holiday whichHoliday(long epochDay) {
+		int ordinal = this.holidayOrdinal(epochDay);
+
+		if(ordinal < 0) {
+			return null;
+		}
+
+		HolidayEnum day = DAYS[ordinal];
+
+		// Actual holidays are flagged observed only when moved off the weekend, as FederalHolidays does.
+		boolean observed = !this.holidayRules.isActualDay(day) || epochDay != this.holidayRules.actualDay(day, EpochDays.year(epochDay));
+
+		return new ImmutableHoliday(epochDay, day, observed);
+	}
+}
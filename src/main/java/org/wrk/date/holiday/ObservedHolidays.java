@@ -1,8 +1,9 @@
 package org.wrk.date.holiday;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
 
 /**
@@ -11,6 +12,8 @@ import java.util.Set;
  * <ul>
  * <li>holidayUnobserved - add a holiday to the unobserved set.
  * <li>isUnobserved - returns true if the holiday has been made unobserved else false.
+ * <li>dayUnobserved and isDayUnobserved - the same for a HolidayEnum.
+ * <li>unobserved - the unobserved holiday names, parsed once into a bit per HolidayEnum ordinal.
  * </ul>
  * <br/><br/>
  * <h4>Unobserved Holiday</h4>
@@ -22,7 +25,10 @@ import java.util.Set;
  */
 final public class ObservedHolidays extends FederalHolidays implements Cloneable {
 
-	private Set<String> unobserved = new HashSet<>();
+	private static final HolidayEnum[] DAYS = HolidayEnum.values();
+
+	// Bit per HolidayEnum ordinal (1 << ordinal), set when the holiday is unobserved.
+	private int unobservedMask;
 	
 	/**
 	 * <p>constructor</p>
@@ -44,13 +50,17 @@ final public class ObservedHolidays extends FederalHolidays implements Cloneable
 	 * @return ObservedHolidays
 	 */
 	public ObservedHolidays clone(int year) {
+		HolidayMetrics metrics = this.getHolidayMetrics();
+		
+		long start = metrics != null ? System.nanoTime() : 0L;
+		
 		// Validate year value.  If invalid year, default to current year.
 		year = 0 < year && year < MAXIMUM_YEAR ? year : this.getYear();
 		
 		ObservedHolidays response = new ObservedHolidays(year);
 		
-		// Clone the set of unobserved holiday names.
-		response.setUnobserved(this.getUnobserved());
+		// Clone the unobserved holidays.
+		response.unobservedMask = this.unobservedMask;
 		
 		// Clone the Saturday observable flag.
 		response.setSaturdayObservable(this.isSaturdayObservable());
@@ -58,18 +68,62 @@ final public class ObservedHolidays extends FederalHolidays implements Cloneable
 		// Clone the Sunday observable flag.
 		response.setSundayObservable(this.isSundayObservable());
 		
+		// Clone the indexed year range.
+		response.setFirstYear(this.getFirstYear());
+		
+		response.setLastYear(this.getLastYear());
+		
+		response.setAllYears(this.isAllYears());
+		
+		response.setHolidayRules(this.getHolidayRules());
+		
+		response.setHolidayIndexBuilder(this.getHolidayIndexBuilder());
+		
+		// Share the same master index.
+		response.setHolidayMasterIndex(this.getHolidayMasterIndex());
+		
+		// Record into the same metrics.
+		response.setHolidayMetrics(metrics);
+		
 		// Generate the holiday list for the response object.
 		response.init();
 		
+		if(metrics != null) {
+			metrics.recordClone(start);
+		}
+		
 		return response;
 	}
 	
 	/**
-	 * <p>Get the set of unobserved holidays.</p>
-	 * @return the unobserved set.
+	 * <p>Find the holiday of a name.</p>
+	 * @param holidayName String value from the Enumerations List in HolidayEnum.
+	 * @return HolidayEnum or null if the name is not a holiday.
 	 */
-	private Set<String> getUnobserved() {
-		return unobserved;
+	private static HolidayEnum findDay(String holidayName) {
+		for(HolidayEnum day : DAYS) {
+			if(day.name().equals(holidayName)) {
+				return day;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * <p>Get the unobserved holidays.</p>
+	 * @return EnumSet copy of the unobserved holidays.
+	 */
+	public EnumSet<HolidayEnum> getUnobservedDays() {
+		EnumSet<HolidayEnum> response = EnumSet.noneOf(HolidayEnum.class);
+		
+		for(HolidayEnum day : DAYS) {
+			if(this.isDayUnobserved(day)) {
+				response.add(day);
+			}
+		}
+		
+		return response;
 	}
 	
 	/**
@@ -84,10 +138,24 @@ final public class ObservedHolidays extends FederalHolidays implements Cloneable
 		
 		if(holidayName != null && !holidayName.isEmpty()) {
 			// Retrieve the holiday to be unobserved.
-			HolidayEnum removeHoliday = HolidayEnum.valueOf(holidayName);
+			response = this.dayUnobserved(HolidayEnum.valueOf(holidayName));
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * <p>Add a holiday to the unobserved set.</p>
+	 * @param day holiday to unobserve.
+	 * @return true if holiday is unobserved else false, including when the holiday was already unobserved.
+	 */
+	public boolean dayUnobserved(HolidayEnum day) {
+		boolean response = false;
+		
+		if(day != null && !this.isDayUnobserved(day)) {
+			this.unobservedMask |= 1 << day.ordinal();
 			
-			// Add the holiday name to the set.
-			response = this.getUnobserved().add(removeHoliday.name());
+			response = true;
 		}
 		
 		return response;
@@ -113,6 +181,17 @@ final public class ObservedHolidays extends FederalHolidays implements Cloneable
 		return this.whichHoliday(date) != null;
 	}
 	
+	/**
+	 * <p>Does the local date match a holiday?</p>
+	 * <p>The lookup does not allocate objects.</p>
+	 * @param date to determine if holiday.
+	 * @return true if holiday else false.
+	 * @throws Exception if holiday list is empty or date is null.
+	 */
+	public boolean isHoliday(LocalDate date) throws Exception {
+		return this.whichHoliday(date) != null;
+	}
+	
 	/**
 	 * <p>Is the holiday in the unobserved set?</p>
 	 * @param holidayName String value from the Enumerations List in HolidayEnum.
@@ -120,82 +199,42 @@ final public class ObservedHolidays extends FederalHolidays implements Cloneable
 	 * @see org.wrk.date.holiday.HolidayEnum
 	 */
 	public boolean isUnobserved(String holidayName) {
-		return this.getUnobserved().contains(holidayName);
-	}
-
-	/**
-	 * <p>The unobserved to set.</p>
-	 * @param unobserved Set.
-	 */
-	public void setUnobserved(Set<String> unobserved) {
-		if(unobserved != null) {
-			this.unobserved = unobserved;	
-		}
+		return this.isDayUnobserved(findDay(holidayName));
 	}
 	
 	/**
-	 * <p>List all observed holidays, excluding the unobserved.</p>
-	 * @return String[] array of all observed holidays.
-	 * @see org.wrk.date.holiday.USHoliday
+	 * <p>Is the holiday in the unobserved set?</p>
+	 * @param day holiday to test.
+	 * @return true if holiday is in the unobserved set else false.
 	 */
-	public String[] toHolidays() {
-		// Get the holidays.
-		String[] lines = super.toHolidays();
-		
-		// Create response array suited for all holidays minus unobserved.
-		String[] response = new String[lines.length - this.getUnobserved().size()];
-		
-		int index = 0;
-		
-		// Parse each line.
-		for (String line : lines) {
-			// Split up the current line.
-			String[] eachLine = line.split(",");
-			// Match the holiday enumeration to the unobserved list.
-			if(!this.isUnobserved(eachLine[1])) {
-				// If it doesn't match, add it to the array.
-				response[index++] = line;
-			}
-		}
-		
-		return response;
+	public boolean isDayUnobserved(HolidayEnum day) {
+		return day != null && (this.unobservedMask & (1 << day.ordinal())) != 0;
 	}
 
 	/**
-	 * <p>Which holiday does the calendar date match?</p>
-	 * @param date to determine which holiday.
-	 * @return Holiday if date matches the holiday date else null.
-	 * @throws Exception if holiday list is empty or date is null.
+	 * <p>The observed holidays as a bit per HolidayEnum ordinal, excluding the unobserved.</p>
+	 * @return int
 	 */
-	public Holiday whichHoliday(Calendar date) throws Exception {
-		// Determine which holiday.
-		Holiday holiday = super.whichHoliday(date);
-		
-		// Is the date a holiday and is the holiday observed?
-		if(holiday != null && this.isUnobserved(holiday.getDay().name())) {
-			// The holiday is not observed.
-			holiday = null;
-		}
-		
-		return holiday;
+	@Override
+	protected int observedMask() {
+		return super.observedMask() & ~this.unobservedMask;
 	}
 	
 	/**
-	 * <p>Which holiday does the calendar date match?</p>
-	 * @param date to determine which holiday.
-	 * @return Holiday if date matches the holiday date else null.
-	 * @throws Exception if holiday list is empty or date is null.
+	 * <p>The unobserved to set, replacing the unobserved holidays.  The names are parsed once, not kept.</p>
+	 * @param unobserved Set of String values from the Enumerations List in HolidayEnum.
+	 * @throws IllegalArgumentException if a name is not a holiday.
+	 * @see org.wrk.date.holiday.HolidayEnum
 	 */
-	public Holiday whichHoliday(Date date) throws Exception {
-		// Determine which holiday.
-		Holiday holiday = super.whichHoliday(date);
-		
-		// Is the date a holiday and is the holiday observed?
-		if(holiday != null && this.isUnobserved(holiday.getDay().name())) {
-			// The holiday is not observed.
-			holiday = null;
+	public void setUnobserved(Set<String> unobserved) {
+		if(unobserved != null) {
+			int mask = 0;
+			
+			for(String holidayName : unobserved) {
+				mask |= 1 << HolidayEnum.valueOf(holidayName).ordinal();
+			}
+			
+			this.unobservedMask = mask;
 		}
-		
-		return holiday;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package org.wrk.date.holiday;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>PrecompiledHolidays</h1>class provides the calendar files generated at build time as classpath resources.
+ * <p>The build runs HolidayTableGenerator for the configured year range and configurations,<br/>
+ * thus the runtime path is reading a small resource once and then an array index per lookup; no rule is evaluated.</p>
+ * <h4>Configurations</h4>
+ * <ul>
+ * <li>federal - every federal holiday, Saturday and Sunday observable.
+ * <li>Other configurations are added to the holiday.tables arguments of the exec-maven-plugin in the pom.xml.
+ * </ul>
+ * <p>Resources are loaded without reflection and are registered in META-INF/native-image, thus native images include them.<br/>
+ * Each calendar is loaded once and shared across threads.</p>
+ * @see org.wrk.date.holiday.HolidayTableGenerator
+ * @see org.wrk.date.holiday.MappedHolidayCalendar
+ *
+ * @author Kelly Willard
+ */
+public final class PrecompiledHolidays {
+
+	/**
+	 * <p>Name of the configuration of every federal holiday, Saturday and Sunday observable.</p>
+	 */
+	public static final String FEDERAL = "federal";
+
+	/**
+	 * <p>Classpath directory of the calendar files.</p>
+	 */
+	public static final String RESOURCE_DIRECTORY = "/org/wrk/date/holiday/tables/";
+
+	/**
+	 * <p>File name extension of the calendar files.</p>
+	 */
+	public static final String EXTENSION = ".cal";
+
+	private static final Map<String, MappedHolidayCalendar> CALENDARS = new ConcurrentHashMap<>();
+
+	/**
+	 * <p>constructor</p>
+	 */
+	private PrecompiledHolidays() {
+	}
+
+	/**
+	 * <p>Get the calendar of a precompiled configuration.</p>
+	 * @param name of the configuration, such as FEDERAL.
+	 * @return MappedHolidayCalendar loaded on first use.
+	 * @throws IOException if the configuration was not precompiled or its calendar file is invalid.
+	 */
+	public static MappedHolidayCalendar get(String name) throws IOException {
+		try {
+			return CALENDARS.computeIfAbsent(name, PrecompiledHolidays::load);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * <p>Read the calendar file of a configuration from the classpath.</p>
+	 * @param name of the configuration.
+	 * @return MappedHolidayCalendar
+	 */
+	private static MappedHolidayCalendar load(String name) {
+		String resource = RESOURCE_DIRECTORY + name + EXTENSION;
+
+		try (InputStream input = PrecompiledHolidays.class.getResourceAsStream(resource)) {
+			if(input == null) {
+				throw new IOException(String.format("Holiday configuration %s was not precompiled, %s not found.", name, resource));
+			}
+
+			return HolidayCalendarFile.read(input, resource);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
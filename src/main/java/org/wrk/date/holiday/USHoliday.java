@@ -56,18 +56,14 @@ import java.util.Date;
  *		<td align="center">November 11th</td>
  *	</tr>
  * </table>
+ * <p>Dates are calculated with integer arithmetic by HolidayCalculator and returned as Calendar values.</p>
+ * @see org.wrk.date.holiday.HolidayCalculator
  * @author Kelly Willard
  */
 public class USHoliday {
 
 	// MAXIMUM_YEAR is the maximum year allowed by the Calendar object.
-	protected final int MAXIMUM_YEAR = Calendar.getInstance().getActualMaximum(Calendar.YEAR);
-	
-	private final int NEXT = 1;
-	
-	private final int ONE_WEEK = 7;
-	
-	private final int PREVIOUS = 0;
+	protected static final int MAXIMUM_YEAR = Calendar.getInstance().getActualMaximum(Calendar.YEAR);
 	
 	private int year = 0;
 	
@@ -87,208 +83,23 @@ public class USHoliday {
 	}
 	
 	/**
-	 * <p>Calculate Christmas day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateChristmasDay() {
-		Calendar christmasDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		christmasDay.set(this.getYear(), Calendar.DECEMBER, 25);
-		
-		return christmasDay;		
-	}
-	
-	/**
-	 * <p>Calculate Columbus day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateColumbusDay() {		
-		Calendar columbusDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		// Set date at the beginning of October.
-		columbusDay.set(this.getYear(), Calendar.OCTOBER, 1);
-		
-		// Find the next MONDAY from the set date.
-		int addDays = this.calculateWhenDayOccurs(NEXT, Calendar.MONDAY, columbusDay.get(Calendar.DAY_OF_WEEK));
-		
-		// Columbus day is the 2nd Monday of October.
-		columbusDay.add(Calendar.DAY_OF_MONTH, addDays + ONE_WEEK);		
-		
-		return columbusDay;
-	}
-	
-	/**
-	 * <p>Calculate Independence day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateIndependenceDay() {
-		Calendar independenceDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		independenceDay.set(this.getYear(), Calendar.JULY, 4);
-		
-		return independenceDay;		
-	}
-	
-	/**
-	 * <p>Calculate Juneteenth day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateJuneteenthDay() {
-		Calendar juneteenthDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		juneteenthDay.set(this.getYear(), Calendar.JUNE, 19);
-		
-		return juneteenthDay;		
-	}
-	
-	/**
-	 * <p>Calculate Labor day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateLaborDay() {		
-		Calendar laborDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		// Set date at the beginning of September.
-		laborDay.set(this.getYear(), Calendar.SEPTEMBER, 1);
-		
-		// Find the next MONDAY from the set date.
-		int addDays = this.calculateWhenDayOccurs(NEXT, Calendar.MONDAY, laborDay.get(Calendar.DAY_OF_WEEK));
-		
-		// Labor day is the 1st Monday of September.
-		laborDay.add(Calendar.DAY_OF_MONTH, addDays);		
-		
-		return laborDay;
-	}
-
-	/**
-	 * <p>Calculate Martin Luther King Jr day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateMartinLutherKingJrDay() {		
-		Calendar martinLutherKingJrDay = this.deleteTimestamp(Calendar.getInstance());
-
-		// Set date at the beginning of January.
-		martinLutherKingJrDay.set(this.getYear(), Calendar.JANUARY, 1);
-		
-		// Find the next MONDAY from the set date.
-		int addDays = this.calculateWhenDayOccurs(NEXT, Calendar.MONDAY, martinLutherKingJrDay.get(Calendar.DAY_OF_WEEK));
-		
-		// Martin Luther King Jr day is the 3rd Monday of January.
-		martinLutherKingJrDay.add(Calendar.DAY_OF_MONTH, addDays + (2 * ONE_WEEK));		
-		
-		return martinLutherKingJrDay;
-	}
-	
-	/**
-	 * <p>Calculate Memorial day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateMemorialDay() {		
-		Calendar memorialDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		// Set date at the end of May.
-		memorialDay.set(this.getYear(), Calendar.MAY, 31);
-		
-		// Find the previous MONDAY from the set date.
-		int subtractDays = this.calculateWhenDayOccurs(PREVIOUS, Calendar.MONDAY, memorialDay.get(Calendar.DAY_OF_WEEK));
-		
-		// Memorial day is the last MONDAY of May.
-		memorialDay.add(Calendar.DAY_OF_MONTH, subtractDays);		
-		
-		return memorialDay;
-	}
-	
-	/**
-	 * <p>Calculate New Years day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateNewYearsDay() {
-		Calendar newYearsDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		newYearsDay.set(this.getYear(), Calendar.JANUARY, 1);
-		
-		return newYearsDay;		
-	}
-	
-	/**
-	 * <p>Calculate Presidents day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculatePresidentsDay() {
-		Calendar presidentsDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		// Set date at the beginning of February.
-		presidentsDay.set(this.getYear(), Calendar.FEBRUARY, 1);
-		
-		// Find the next MONDAY from the set date.
-		int addDays = this.calculateWhenDayOccurs(NEXT, Calendar.MONDAY, presidentsDay.get(Calendar.DAY_OF_WEEK));
-		
-		// Presidents day is the 3rd Monday of February.
-		presidentsDay.add(Calendar.DAY_OF_MONTH, addDays + (2 * ONE_WEEK));		
-		
-		return presidentsDay;
-	}
-	
-	/**
-	 * <p>Calculate Thanksgiving day for the year.</p>
-	 * @return Calendar
-	 */
-	private Calendar calculateThanksgivingDay() {
-		Calendar thanksgivingDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		// Set date at the beginning of November.
-		thanksgivingDay.set(this.getYear(), Calendar.NOVEMBER, 1);
-		
-		// Find the next THURSDAY from the set date.
-		int addDays = this.calculateWhenDayOccurs(NEXT, Calendar.THURSDAY, thanksgivingDay.get(Calendar.DAY_OF_WEEK));
-		
-		// Thanksgiving day is the 4th Thursday of November. 
-		thanksgivingDay.add(Calendar.DAY_OF_MONTH, addDays + (3 * ONE_WEEK));		
-		
-		return thanksgivingDay;
-	}
-	
-	/**
-	 * <p>Calculate Veterans day for the year.</p>
-	 * @return Calendar
+	 * <p>Calculate the holiday for the year.</p>
+	 * @param day HolidayEnum value.
+	 * @return Calendar value with no time stamp.
+	 * @see org.wrk.date.holiday.HolidayCalculator
 	 */
-	private Calendar calculateVeteransDay() {
-		Calendar veteransDay = this.deleteTimestamp(Calendar.getInstance());
-		
-		veteransDay.set(this.getYear(), Calendar.NOVEMBER, 11);
-		
-		return veteransDay;
+	private Calendar calculateDay(HolidayEnum day) {
+		return this.toCalendar(HolidayCalculator.actualDay(day, this.getYear()));
 	}
 	
 	/**
-	 * <p>Determine the number of days from a desired day that occurs within a calendar week.</p>
-	 * <p>Example:<br>
-	 * If the desired (day) is MONDAY and the current day (offset) is TUESDAY,<br>
-	 * the previous MONDAY is -1 days away.<br>
-	 * the next MONDAY is +6 days away.
-	 * </p>
-	 * @param direction either PREVIOUS or NEXT occurrence of desired day.
-	 * @param day is the desired day of the week.  Calendar.SUNDAY (1) through Calendar.SATURDAY (7)
-	 * @param offset is the current day in the week.  Calendar.SUNDAY (1) through Calendar.SATURDAY (7)
-	 * @return the number of days until the day occurs.<br/>
-	 * <p>
-	 * PREVIOUS - value range -6 to 0<br/>
-	 * NEXT - value range 0 to 6
-	 * </p>
+	 * <p>Convert an epoch day to a calendar date.</p>
+	 * @param epochDay number of days since January 1st 1970.
+	 * @return Calendar value with no time stamp, purely Gregorian for any year.
+	 * @see org.wrk.date.holiday.EpochDays#toCalendar(long)
 	 */
-	private int calculateWhenDayOccurs(int direction, int day, int offset) {	
-		int ireturn = 0;
-		
-		if(direction == NEXT) {
-			// Is the current day less than or equal to the desired day?
-			ireturn = offset <= day ? day - offset : (Calendar.SATURDAY - offset) + day;
-		}
-		else {
-			// Is the current day less than the desired day?
-			ireturn = offset < day ? (day - Calendar.SATURDAY) -  offset : day - offset;
-		}
-		
-		return ireturn;
+	Calendar toCalendar(long epochDay) {
+		return EpochDays.toCalendar(epochDay);
 	}
 	
 	/**
@@ -332,7 +143,7 @@ public class USHoliday {
 	 * @return Calendar value with no time stamp.
 	 */
 	public Calendar getChristmasDay() {
-		return this.calculateChristmasDay();
+		return this.calculateDay(HolidayEnum.CHRISTMAS_DAY);
 	}
 
 	/**
@@ -340,7 +151,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getColumbusDay() {
-		return this.calculateColumbusDay();
+		return this.calculateDay(HolidayEnum.COLUMBUS_DAY);
 	}
 
 	/**
@@ -348,7 +159,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getIndependenceDay() {
-		return this.calculateIndependenceDay();
+		return this.calculateDay(HolidayEnum.INDEPENDENCE_DAY);
 	}
 
 	/**
@@ -356,7 +167,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getJuneteenthDay() {
-		return this.calculateJuneteenthDay();
+		return this.calculateDay(HolidayEnum.JUNETEENTH_DAY);
 	}
 
 	/**
@@ -364,7 +175,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getLaborDay() {
-		return this.calculateLaborDay();
+		return this.calculateDay(HolidayEnum.LABOR_DAY);
 	}
 
 	/**
@@ -372,7 +183,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getMartinLutherKingJrDay() {
-		return this.calculateMartinLutherKingJrDay();
+		return this.calculateDay(HolidayEnum.MARTINLUTHERKINGJR_DAY);
 	}
 
 	/**
@@ -380,7 +191,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getMemorialDay() {
-		return this.calculateMemorialDay();
+		return this.calculateDay(HolidayEnum.MEMORIAL_DAY);
 	}
 
 	/**
@@ -388,7 +199,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getNewYearsDay() {
-		return this.calculateNewYearsDay();
+		return this.calculateDay(HolidayEnum.NEWYEARS_DAY);
 	}
 
 	/**
@@ -396,7 +207,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getPresidentsDay() {
-		return this.calculatePresidentsDay();
+		return this.calculateDay(HolidayEnum.PRESIDENTS_DAY);
 	}
 
 	/**
@@ -404,7 +215,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getThanksgivingDay() {
-		return this.calculateThanksgivingDay();
+		return this.calculateDay(HolidayEnum.THANKSGIVING_DAY);
 	}
 
 	/**
@@ -412,7 +223,7 @@ public class USHoliday {
 	 * @return Calendar
 	 */
 	public Calendar getVeteransDay() {
-		return this.calculateVeteransDay();
+		return this.calculateDay(HolidayEnum.VETERANS_DAY);
 	}
 
 	/**
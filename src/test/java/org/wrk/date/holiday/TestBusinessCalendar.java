@@ -0,0 +1,244 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test business day arithmetic against stepping one day at a time.
+ *
+ * @author Kelly Willard
+ */
+class TestBusinessCalendar {
+
+	private ObservedHolidays holidays;
+
+	/**
+	 * Step one day at a time, the way callers counted business days before the business calendar.
+	 */
+	private boolean isOpen(LocalDate date) throws Exception {
+		return date.getDayOfWeek().getValue() < 6 && !this.holidays.isHoliday(date);
+	}
+
+	/**
+	 * Date of a holiday.
+	 */
+	private static LocalDate localDate(Holiday holiday) {
+		return LocalDate.of(holiday.getDate().get(Calendar.YEAR), holiday.getDate().get(Calendar.MONTH) + 1, holiday.getDate().get(Calendar.DAY_OF_MONTH));
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.holidays = new ObservedHolidays(2024);
+
+		this.holidays.setFirstYear(2000);
+
+		this.holidays.setLastYear(2040);
+
+		this.holidays.holidayUnobserved(HolidayEnum.COLUMBUS_DAY.name());
+
+		this.holidays.init();
+	}
+
+	@Test
+	void testAddBusinessDays() throws Exception {
+		for(LocalDate start = LocalDate.of(2001, 1, 1); start.getYear() < 2039; start = start.plusDays(29)) {
+			for(int businessDays : new int[] { -250, -3, -1, 1, 5, 260 }) {
+				LocalDate expected = start;
+
+				for(int count = 0; count < Math.abs(businessDays); ) {
+					expected = expected.plusDays(Integer.signum(businessDays));
+
+					count += this.isOpen(expected) ? 1 : 0;
+				}
+
+				assertEquals(expected, this.holidays.addBusinessDays(start, businessDays), String.format("%s plus %d", start, businessDays));
+			}
+		}
+	}
+
+	@Test
+	void testBusinessDaysStream() throws Exception {
+		LocalDate from = LocalDate.of(2003, 2, 17);
+
+		LocalDate to = LocalDate.of(2037, 11, 26);
+
+		List<LocalDate> expected = new ArrayList<>();
+
+		for(LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+			if(this.isOpen(date)) {
+				expected.add(date);
+			}
+		}
+
+		assertEquals(expected, this.holidays.businessDays(from, to).collect(Collectors.toList()), "Business days differ.");
+
+		assertEquals(expected, this.holidays.businessDays(from, to).parallel().collect(Collectors.toList()), "Parallel business days differ.");
+
+		assertEquals(expected.size(), this.holidays.businessDays((int) from.toEpochDay(), (int) to.toEpochDay()).count(), "Business day count differs.");
+
+		assertEquals(0, this.holidays.businessDays(to, from).count(), "Reversed range is not empty.");
+	}
+
+	@Test
+	void testBusinessDaysBetween() throws Exception {
+		LocalDate from = LocalDate.of(2000, 1, 1);
+
+		int expected = 0;
+
+		for(LocalDate date = from; date.getYear() <= 2040; date = date.plusDays(1)) {
+			assertEquals(expected, this.holidays.businessDaysBetween(from, date), date.toString());
+
+			assertEquals(-expected, this.holidays.businessDaysBetween(date, from), date.toString());
+
+			expected += this.isOpen(date) ? 1 : 0;
+		}
+	}
+
+	@Test
+	void testHolidaysStream() throws Exception {
+		LocalDate from = LocalDate.of(2000, 1, 1);
+
+		LocalDate to = LocalDate.of(2041, 1, 1);
+
+		List<LocalDate> expected = new ArrayList<>();
+
+		for(LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+			if(this.holidays.isHoliday(date)) {
+				expected.add(date);
+			}
+		}
+
+		assertEquals(expected, this.holidays.holidays(from, to).collect(Collectors.toList()), "Holidays differ.");
+
+		assertEquals(expected.stream().mapToLong(LocalDate::toEpochDay).sum(), this.holidays.holidays(from.toEpochDay(), to.toEpochDay()).parallel().sum(), "Parallel holidays differ.");
+
+		// Christmas day 2024 only, both ends of the half-open range.
+		assertEquals(List.of(LocalDate.of(2024, 12, 25)), this.holidays.holidays(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 31)).collect(Collectors.toList()), "Holiday range differs.");
+	}
+
+	@Test
+	void testStreamSplitting() throws Exception {
+		Spliterator.OfLong spliterator = this.holidays.businessDays(LocalDate.of(2000, 1, 1).toEpochDay(), LocalDate.of(2040, 1, 1).toEpochDay()).spliterator();
+
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED), "Not sized and sorted.");
+
+		long size = spliterator.getExactSizeIfKnown();
+
+		Spliterator.OfLong prefix = spliterator.trySplit();
+
+		assertEquals(size / 2, prefix.getExactSizeIfKnown(), "Uneven split.");
+
+		assertEquals(size - size / 2, spliterator.getExactSizeIfKnown(), "Uneven split.");
+	}
+
+	@Test
+	void testIsBusinessDay() throws Exception {
+		assertFalse(this.holidays.isBusinessDay(LocalDate.of(2024, 7, 4)), "Independence day is a business day.");
+
+		assertFalse(this.holidays.isBusinessDay(LocalDate.of(2024, 7, 6)), "Saturday is a business day.");
+
+		assertTrue(this.holidays.isBusinessDay(LocalDate.of(2024, 10, 14)), "Unobserved Columbus day is not a business day.");
+
+		assertTrue(this.holidays.isBusinessDay(LocalDate.of(2024, 7, 5)), "Friday is not a business day.");
+	}
+
+	@Test
+	void testNavigation() throws Exception {
+		for(LocalDate start = LocalDate.of(2001, 1, 1); start.getYear() < 2039; start = start.plusDays(11)) {
+			LocalDate next = start.plusDays(1);
+
+			while(this.holidays.whichHoliday(next) == null) {
+				next = next.plusDays(1);
+			}
+
+			LocalDate previous = start.minusDays(1);
+
+			while(this.holidays.whichHoliday(previous) == null) {
+				previous = previous.minusDays(1);
+			}
+
+			assertEquals(this.holidays.whichHoliday(next), this.holidays.nextHoliday(start), String.format("Next holiday after %s", start));
+
+			assertEquals(this.holidays.whichHoliday(previous), this.holidays.previousHoliday(start), String.format("Previous holiday before %s", start));
+
+			assertEquals(this.holidays.addBusinessDays(start, 1), this.holidays.nextBusinessDay(start), String.format("Next business day after %s", start));
+
+			assertEquals(this.holidays.addBusinessDays(start, -1), this.holidays.previousBusinessDay(start), String.format("Previous business day before %s", start));
+		}
+	}
+
+	@Test
+	void testNavigationYearEnd() throws Exception {
+		// January 1st 2022 is a Saturday, observed Friday December 31st 2021.
+		Holiday holiday = this.holidays.nextHoliday(LocalDate.of(2021, 12, 26));
+
+		assertEquals(HolidayEnum.NEWYEARS_EVE, holiday.getDay(), "Next holiday is not New Years eve.");
+
+		assertEquals(HolidayEnum.CHRISTMAS_DAY, this.holidays.previousHoliday(LocalDate.of(2021, 12, 31)).getDay(), "Previous holiday is not Christmas day.");
+
+		assertEquals(HolidayEnum.NEWYEARS_DAY, this.holidays.nextHoliday(LocalDate.of(2024, 12, 28)).getDay(), "Next holiday is not New Years day.");
+
+		assertEquals(LocalDate.of(2025, 1, 2), this.holidays.nextBusinessDay(LocalDate.of(2024, 12, 31)), "Next business day is not January 2nd.");
+
+		assertEquals(LocalDate.of(2024, 12, 31), this.holidays.previousBusinessDay(LocalDate.of(2025, 1, 2)), "Previous business day is not December 31st.");
+
+		// Running off the year range continues into the adjacent year.
+		assertEquals(LocalDate.of(2041, 1, 1), localDate(this.holidays.nextHoliday(LocalDate.of(2040, 12, 30))), "Next holiday is not New Years day 2041.");
+
+		// New Years day 2000 is observed Friday December 31st 1999, the first day of the index, Christmas day 1999 on Friday December 24th.
+		assertEquals(LocalDate.of(1999, 12, 24), localDate(this.holidays.previousHoliday(LocalDate.of(1999, 12, 31))), "Previous holiday is not Christmas day 1999.");
+	}
+
+	@Test
+	void testNavigationDefaultRange() throws Exception {
+		// Only the year of the class is indexed.
+		FederalHolidays holidays = new FederalHolidays(2024);
+
+		holidays.init();
+
+		Holiday holiday = holidays.nextHoliday(LocalDate.of(2024, 12, 26));
+
+		assertEquals(HolidayEnum.NEWYEARS_DAY, holiday.getDay(), "Next holiday is not New Years day.");
+
+		assertEquals(LocalDate.of(2025, 1, 1), localDate(holiday), "Next holiday is not January 1st 2025.");
+
+		assertEquals(LocalDate.of(2025, 1, 2), holidays.nextBusinessDay(LocalDate.of(2024, 12, 31)), "Next business day is not January 2nd.");
+
+		// January 1st 2024 is a Monday, December 30th and 31st 2023 a weekend.
+		assertEquals(LocalDate.of(2023, 12, 29), holidays.previousBusinessDay(LocalDate.of(2024, 1, 2)), "Previous business day is not December 29th.");
+
+		assertEquals(LocalDate.of(2023, 12, 25), localDate(holidays.previousHoliday(LocalDate.of(2024, 1, 1))), "Previous holiday is not Christmas day 2023.");
+
+		assertEquals(LocalDate.of(2025, 1, 6), holidays.addBusinessDays(LocalDate.of(2024, 12, 27), 5), "Business days not added across the year end.");
+
+		assertThrows(Exception.class, () -> holidays.addBusinessDays(LocalDate.of(2024, 12, 27), 300), "Result beyond the adjacent year.");
+	}
+
+	@Test
+	void testOutsideRange() {
+		assertThrows(IllegalArgumentException.class, () -> this.holidays.isBusinessDay(LocalDate.of(1990, 7, 5)), "Date outside of range.");
+
+		assertThrows(IllegalArgumentException.class, () -> this.holidays.addBusinessDays(LocalDate.of(2040, 12, 20), 300), "Result beyond the adjacent year.");
+	}
+
+	@Test
+	void testUnobservedChange() throws Exception {
+		assertFalse(this.holidays.isBusinessDay(LocalDate.of(2024, 11, 11)), "Veterans day is a business day.");
+
+		this.holidays.holidayUnobserved(HolidayEnum.VETERANS_DAY.name());
+
+		assertTrue(this.holidays.isBusinessDay(LocalDate.of(2024, 11, 11)), "Unobserved Veterans day is not a business day.");
+	}
+}
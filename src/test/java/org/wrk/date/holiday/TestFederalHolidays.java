@@ -1,10 +1,14 @@
 package org.wrk.date.holiday;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.stream.Stream;
 
@@ -71,6 +75,20 @@ public class TestFederalHolidays {
 		}
 	}
 	
+	@Test
+	public void testChristmasDayLocalDate() throws Exception {
+		LocalDate christmasDay = LocalDate.of(Calendar.getInstance().get(Calendar.YEAR), 12, 25);
+		
+		// Observed on Friday or Monday when Christmas occurs on a weekend.
+		LocalDate observed = christmasDay.getDayOfWeek().getValue() == 6 ? christmasDay.minusDays(1) : christmasDay.getDayOfWeek().getValue() == 7 ? christmasDay.plusDays(1) : christmasDay;
+		
+		Holiday holiday = this.getFederalHolidays().whichHoliday(observed);
+		
+		assertNotNull(holiday, "The local date is not a holiday.");
+		
+		assertEquals(HolidayEnum.CHRISTMAS_DAY, holiday.getDay(), "The local date is not Christmas day.");
+	}
+	
 	@Test
 	public void testChristmasDayNotObservedOnChristmasDay() {
 		Calendar today = Calendar.getInstance();
@@ -173,6 +191,53 @@ public class TestFederalHolidays {
 		}
 	}
 	
+	@Test
+	public void testLocalDateNoAllocation() throws Exception {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		
+		FederalHolidays federalHolidays = new FederalHolidays(2024);
+		
+		federalHolidays.init();
+		
+		ObservedHolidays observedHolidays = new ObservedHolidays(2024);
+		
+		observedHolidays.holidayUnobserved(HolidayEnum.COLUMBUS_DAY.name());
+		
+		observedHolidays.init();
+		
+		LocalDate[] dates = new LocalDate[366];
+		
+		for(int index = 0; index < dates.length; index++) {
+			dates[index] = LocalDate.of(2024, 1, 1).plusDays(index);
+		}
+		
+		int count = 0;
+		
+		// Warm up the lookup path.
+		for(LocalDate date : dates) {
+			count += federalHolidays.isHoliday(date) ? 1 : 0;
+			count += observedHolidays.isHoliday(date) ? 1 : 0;
+		}
+		
+		long threadId = Thread.currentThread().getId();
+		
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		
+		for(int loop = 0; loop < 100; loop++) {
+			for(LocalDate date : dates) {
+				count += federalHolidays.isHoliday(date) ? 1 : 0;
+				count += observedHolidays.isHoliday(date) ? 1 : 0;
+			}
+		}
+		
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+		
+		assertTrue(0 < count, "No holidays found.");
+		
+		// Allow for the measurement call itself; 73,200 lookups must not allocate.
+		assertTrue(allocated < 1024, String.format("Lookups allocated %d bytes.", allocated));
+	}
+	
 	@Test
 	public void testMartinLutherKingJrDay() {
 		assertDoesNotThrow((() -> this.getFederalHolidays().isHoliday(this.getFederalHolidays().getMartinLutherKingJrDay())),"Martin Luther King Jr day not observed.");
@@ -289,6 +354,17 @@ public class TestFederalHolidays {
 		assertThrows(Exception.class,() -> federalHolidays.isHoliday(today), "Date is null.");
 	}
 
+	@Test
+	public void testNullLocalDate() {
+		LocalDate today = null;
+		
+		FederalHolidays federalHolidays = new FederalHolidays();
+		
+		federalHolidays.init();
+		
+		assertThrows(Exception.class,() -> federalHolidays.isHoliday(today), "Date is null.");
+	}
+
 	@Test
 	public void testNullHolidayList() {
 		Calendar today = Calendar.getInstance();
@@ -0,0 +1,179 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Test classifying batches of records against several calendars.
+ *
+ * @author Kelly Willard
+ */
+@ExtendWith(value = { SpringExtension.class })
+@ContextConfiguration(locations= {"/test-holiday-application-context.xml"})
+class TestHolidayBatchClassifier {
+
+	@Autowired
+	private ObservedHolidays corpHolidays;
+
+	@Autowired
+	private ObservedHolidays frbHolidays;
+
+	/**
+	 * Snapshot of a configuration over a year range.
+	 */
+	private static HolidayCalendar snapshot(ObservedHolidays configuration) throws Exception {
+		ObservedHolidays holidays = configuration.clone(2000);
+
+		holidays.setFirstYear(2000);
+
+		holidays.setLastYear(2040);
+
+		holidays.init();
+
+		return holidays.snapshot();
+	}
+
+	@Test
+	void testOrdered() throws Exception {
+		HolidayCalendar corp = snapshot(this.corpHolidays);
+
+		HolidayCalendar frb = snapshot(this.frbHolidays);
+
+		HolidayBatchClassifier classifier = new HolidayBatchClassifier(corp, frb);
+
+		classifier.setBatchSize(1000);
+
+		classifier.setConcurrency(3);
+
+		long[] ids = new long[100_000];
+
+		long[] epochDays = new long[ids.length];
+
+		for(int i = 0; i < ids.length; i++) {
+			ids[i] = i;
+
+			epochDays[i] = LocalDate.of(2000, 1, 1).toEpochDay() + (i * 7919L) % 15000;
+		}
+
+		List<Long> sequences = new ArrayList<>();
+
+		AtomicInteger mismatches = new AtomicInteger();
+
+		HolidayBatchClassifier.Report report = classifier.classify(ids, epochDays, batch -> {
+			sequences.add(batch.getSequence());
+
+			for(int record = 0; record < batch.size(); record++) {
+				int i = (int) batch.getId(record);
+
+				if(batch.getEpochDay(record) != epochDays[i] || batch.getOrdinal(0, record) != corp.holidayOrdinal(epochDays[i]) || batch.getOrdinal(1, record) != frb.holidayOrdinal(epochDays[i])) {
+					mismatches.incrementAndGet();
+				}
+			}
+		});
+
+		assertEquals(0, mismatches.get(), "Records misclassified.");
+
+		assertEquals(ids.length, report.getRecordCount(), "Records not delivered.");
+
+		assertEquals(100, report.getBatchCount(), "Batches not delivered.");
+
+		assertEquals(100, report.getLatency().getCount(), "Latency not recorded.");
+
+		for(int i = 0; i < sequences.size(); i++) {
+			assertEquals(i, sequences.get(i), "Batches delivered out of order.");
+		}
+
+		assertTrue(report.getRecordsPerSecond() > 0, report.toString());
+	}
+
+	@Test
+	void testUnorderedIterator() throws Exception {
+		HolidayCalendar corp = snapshot(this.corpHolidays);
+
+		HolidayBatchClassifier classifier = new HolidayBatchClassifier(List.of(corp));
+
+		classifier.setOrdered(false);
+
+		classifier.setVirtualThreads(false);
+
+		classifier.setBatchSize(64);
+
+		List<LocalDate> dates = new ArrayList<>();
+
+		for(LocalDate date = LocalDate.of(2024, 1, 1); date.getYear() < 2026; date = date.plusDays(1)) {
+			dates.add(date);
+		}
+
+		long[] holidays = new long[1];
+
+		HolidayBatchClassifier.Report report = classifier.classify(dates.iterator(), date -> date.getYear(), LocalDate::toEpochDay, batch -> {
+			for(int record = 0; record < batch.size(); record++) {
+				holidays[0] += batch.isHoliday(0, record) ? 1 : 0;
+			}
+		});
+
+		assertEquals(corp.holidays(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1)).count(), holidays[0], "Holidays not classified.");
+
+		assertEquals(dates.size(), report.getRecordCount(), "Records not delivered.");
+
+		assertEquals(false, report.isVirtualThreads(), "Virtual threads used.");
+	}
+
+	@Test
+	void testFailure() throws Exception {
+		HolidayBatchClassifier classifier = new HolidayBatchClassifier(snapshot(this.corpHolidays));
+
+		classifier.setBatchSize(10);
+
+		classifier.setConcurrency(2);
+
+		Exception failure = new Exception("Sink failed.");
+
+		AtomicInteger calls = new AtomicInteger();
+
+		Exception thrown = assertThrows(Exception.class, () -> classifier.classify(new long[10_000], new long[10_000], batch -> {
+			if(calls.incrementAndGet() == 3) {
+				throw failure;
+			}
+		}));
+
+		assertSame(failure, thrown, "Sink exception not thrown.");
+
+		// Reading stops within the batches in flight.
+		assertTrue(calls.get() <= 3, "Batches delivered after the failure.");
+
+		// An error stops the classification without leaving batches in flight.
+		AssertionError error = new AssertionError("Sink failed.");
+
+		AtomicInteger errorCalls = new AtomicInteger();
+
+		Throwable thrownError = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertThrows(AssertionError.class, () -> classifier.classify(new long[10_000], new long[10_000], batch -> {
+			if(errorCalls.incrementAndGet() == 3) {
+				throw error;
+			}
+		})), "Classification hung after an error.");
+
+		assertSame(error, thrownError, "Sink error not thrown.");
+
+		assertThrows(IllegalArgumentException.class, () -> classifier.setConcurrency(0), "Concurrency 0 accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayBatchClassifier(), "No calendar accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayBatchClassifier((HolidayCalendar) null), "Null calendar accepted.");
+	}
+}
@@ -0,0 +1,151 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Test the bounded holiday year cache.
+ *
+ * @author Kelly Willard
+ */
+@ExtendWith(value = { SpringExtension.class })
+@ContextConfiguration(locations= {"/test-holiday-application-context.xml"})
+class TestHolidayCache {
+
+	@Autowired
+	private ObservedHolidays corpHolidays;
+
+	@Autowired
+	private ObservedHolidays frbHolidays;
+
+	@Test
+	void testConfigurationKey() throws Exception {
+		HolidayCache cache = new HolidayCache(8);
+
+		HolidayCalendar corp = cache.get(this.corpHolidays, 2030);
+
+		HolidayCalendar frb = cache.get(this.frbHolidays, 2030);
+
+		assertNotSame(corp, frb, "Configurations share an entry.");
+
+		assertArrayEquals(this.corpHolidays.clone(2030).toHolidays(), corp.listing(2030).toLines(), "Corporate holidays differ from clone.");
+
+		assertArrayEquals(this.frbHolidays.clone(2030).toHolidays(), frb.listing(2030).toLines(), "FRB holidays differ from clone.");
+	}
+
+	@Test
+	void testHitAndMiss() throws Exception {
+		HolidayCache cache = new HolidayCache(8);
+
+		HolidayCalendar first = cache.get(this.frbHolidays, 2031);
+
+		HolidayCalendar second = cache.get(this.frbHolidays, 2031);
+
+		assertSame(first, second, "Cached year recomputed.");
+
+		assertEquals(1, cache.getMissCount(), "Miss count.");
+
+		assertEquals(1, cache.getHitCount(), "Hit count.");
+	}
+
+	@Test
+	void testConfigurationChanged() throws Exception {
+		HolidayCache cache = new HolidayCache(8);
+
+		ObservedHolidays configuration = this.frbHolidays.clone(2030);
+
+		HolidayCalendar first = cache.get(configuration, 2030);
+
+		// Changing the configuration of one caller neither changes the cached snapshot nor the next get.
+		configuration.dayUnobserved(HolidayEnum.CHRISTMAS_DAY);
+
+		configuration.init();
+
+		assertTrue(first.isHoliday(LocalDate.of(2030, 12, 25)), "Cached snapshot changed.");
+
+		assertTrue(cache.get(this.frbHolidays, 2030).isHoliday(LocalDate.of(2030, 12, 25)), "Configuration change seen by the next get.");
+
+		assertFalse(cache.get(configuration, 2030).isHoliday(LocalDate.of(2030, 12, 25)), "Changed configuration answered from the old entry.");
+	}
+
+	@Test
+	void testLeastRecentlyUsedEviction() throws Exception {
+		HolidayCache cache = new HolidayCache(2);
+
+		HolidayCalendar year2030 = cache.get(this.frbHolidays, 2030);
+
+		cache.get(this.frbHolidays, 2031);
+
+		// Use 2030 so 2031 is the least recently used.
+		cache.get(this.frbHolidays, 2030);
+
+		cache.get(this.frbHolidays, 2032);
+
+		assertEquals(2, cache.size(), "Cache exceeded its maximum size.");
+
+		assertSame(year2030, cache.get(this.frbHolidays, 2030), "Recently used year evicted.");
+
+		assertEquals(3, cache.getMissCount(), "Miss count.");
+
+		cache.get(this.frbHolidays, 2031);
+
+		assertEquals(4, cache.getMissCount(), "Least recently used year not evicted.");
+	}
+
+	@Test
+	void testInvalidSize() {
+		assertThrows(IllegalArgumentException.class, () -> new HolidayCache(0), "Invalid size accepted.");
+	}
+
+	@Test
+	void testSingleFlight() throws Exception {
+		HolidayCache cache = new HolidayCache(8);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<HolidayCalendar>> results = new ArrayList<>();
+
+		try {
+			for(int index = 0; index < 8; index++) {
+				results.add(executor.submit(() -> {
+					start.await();
+
+					return cache.get(this.corpHolidays, 2040);
+				}));
+			}
+
+			start.countDown();
+
+			for(Future<HolidayCalendar> result : results) {
+				assertSame(results.get(0).get(), result.get(), "Concurrent misses computed different years.");
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(1, cache.getMissCount(), "Year computed more than once.");
+
+		assertEquals(7, cache.getHitCount(), "Hit count.");
+	}
+}
@@ -0,0 +1,124 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Test the immutable holiday calendar snapshot.
+ *
+ * @author Kelly Willard
+ */
+@ExtendWith(value = { SpringExtension.class })
+@ContextConfiguration(locations= {"/test-holiday-application-context.xml"})
+class TestHolidayCalendar {
+
+	@Autowired
+	private ObservedHolidays corpHolidays;
+
+	@Test
+	void testConcurrentReads() throws Exception {
+		HolidayCalendar calendar = this.corpHolidays.snapshot();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		List<Future<Integer>> results = new ArrayList<>();
+
+		try {
+			for(int index = 0; index < 8; index++) {
+				results.add(executor.submit(() -> {
+					int count = 0;
+
+					for(LocalDate date = LocalDate.of(calendar.getFirstYear(), 1, 1); date.getYear() <= calendar.getLastYear(); date = date.plusDays(1)) {
+						count += calendar.isHoliday(date) ? 1 : 0;
+					}
+
+					return count;
+				}));
+			}
+
+			for(Future<Integer> result : results) {
+				assertEquals(results.get(0).get(), result.get(), "Concurrent reads differ.");
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testDateUnchanged() throws Exception {
+		HolidayCalendar calendar = this.corpHolidays.snapshot();
+
+		Calendar today = Calendar.getInstance();
+
+		today.set(calendar.getFirstYear(), Calendar.DECEMBER, 25, 10, 30, 15);
+
+		long millis = today.getTimeInMillis();
+
+		calendar.whichHoliday(today);
+
+		assertEquals(millis, today.getTimeInMillis(), "Date was modified.");
+	}
+
+	@Test
+	void testReadOnlyHoliday() throws Exception {
+		HolidayCalendar calendar = this.corpHolidays.snapshot();
+
+		Holiday holiday = calendar.nextHoliday(LocalDate.of(calendar.getFirstYear(), 1, 1));
+
+		assertThrows(UnsupportedOperationException.class, () -> holiday.setDay(HolidayEnum.LABOR_DAY), "Holiday is modifiable.");
+
+		holiday.getDate().add(Calendar.YEAR, 1);
+
+		assertEquals(calendar.getFirstYear(), holiday.getDate().get(Calendar.YEAR), "Holiday date is modifiable.");
+	}
+
+	@Test
+	void testUnaffectedByConfiguration() throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.init();
+
+		HolidayCalendar calendar = holidays.snapshot();
+
+		holidays.holidayUnobserved(HolidayEnum.INDEPENDENCE_DAY.name());
+
+		holidays.setSaturdayObservable(false);
+
+		holidays.init();
+
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 7, 4)), "Unobserved Independence day observed.");
+
+		assertTrue(calendar.isHoliday(LocalDate.of(2024, 7, 4)), "Snapshot changed with configuration.");
+
+		assertTrue(calendar.isObserved(HolidayEnum.INDEPENDENCE_DAY), "Snapshot changed with configuration.");
+
+		assertTrue(calendar.isSaturdayObservable(), "Snapshot changed with configuration.");
+	}
+
+	@Test
+	void testUnobserved() throws Exception {
+		HolidayCalendar calendar = this.corpHolidays.snapshot();
+
+		assertFalse(calendar.isObserved(HolidayEnum.COLUMBUS_DAY), "Columbus day observed.");
+
+		assertFalse(calendar.isHoliday(this.corpHolidays.getColumbusDay()), "Columbus day observed.");
+
+		assertTrue(calendar.isHoliday(this.corpHolidays.getThanksgivingDay()), "Thanksgiving day not observed.");
+	}
+}
@@ -0,0 +1,169 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test writing and memory-mapping holiday calendar files.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayCalendarFile {
+
+	@TempDir
+	Path directory;
+
+	private HolidayCalendar calendar;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.setFirstYear(2000);
+
+		holidays.setLastYear(2040);
+
+		holidays.holidayUnobserved(HolidayEnum.COLUMBUS_DAY.name());
+
+		holidays.init();
+
+		this.calendar = holidays.snapshot();
+	}
+
+	@Test
+	void testMatchesSnapshot() throws Exception {
+		Path path = this.directory.resolve("holidays.cal");
+
+		HolidayCalendarFile.write(this.calendar, path);
+
+		MappedHolidayCalendar mapped = HolidayCalendarFile.map(path);
+
+		assertEquals(2000, mapped.getFirstYear(), "First year differs.");
+
+		assertEquals(2040, mapped.getLastYear(), "Last year differs.");
+
+		assertEquals(this.calendar.getObservedMask(), mapped.getObservedMask(), "Observed mask differs.");
+
+		for(LocalDate date = LocalDate.of(1999, 12, 1); date.getYear() < 2042; date = date.plusDays(1)) {
+			long epochDay = date.toEpochDay();
+
+			assertEquals(this.calendar.holidayOrdinal(epochDay), mapped.holidayOrdinal(epochDay), date.toString());
+
+			assertEquals(this.calendar.isHoliday(epochDay), mapped.isHoliday(epochDay), date.toString());
+
+			Holiday expected = this.calendar.whichHoliday(date);
+
+			Holiday actual = mapped.whichHoliday(date);
+
+			if(expected != null) {
+				assertEquals(expected.getDay(), actual.getDay(), date.toString());
+
+				assertEquals(expected.isObserved(), actual.isObserved(), date.toString());
+
+				assertEquals(expected.getDate(), actual.getDate(), date.toString());
+			}
+		}
+
+		Calendar christmas = Calendar.getInstance();
+
+		christmas.set(2030, Calendar.DECEMBER, 25);
+
+		assertTrue(mapped.isHoliday(christmas), "Christmas day not observed.");
+
+		assertFalse(mapped.isHoliday(LocalDate.of(2024, 10, 14)), "Unobserved Columbus day is a holiday.");
+	}
+
+	@Test
+	void testReplace() throws Exception {
+		Path path = this.directory.resolve("holidays.cal");
+
+		HolidayCalendarFile.write(this.calendar, path);
+
+		MappedHolidayCalendar mapped = HolidayCalendarFile.map(path);
+
+		FederalHolidays holidays = new FederalHolidays(2024);
+
+		holidays.init();
+
+		HolidayCalendarFile.write(holidays.snapshot(), path);
+
+		// The earlier mapping keeps the replaced file.
+		assertEquals(2000, mapped.getFirstYear(), "Mapping changed.");
+
+		assertEquals(2024, HolidayCalendarFile.map(path).getFirstYear(), "File not replaced.");
+
+		try (Stream<Path> files = Files.list(this.directory)) {
+			assertEquals(1, files.count(), "Temporary file left behind.");
+		}
+	}
+
+	@Test
+	void testInvalidFile() throws Exception {
+		Path path = this.directory.resolve("holidays.cal");
+
+		Files.write(path, new byte[] {1, 2, 3});
+
+		assertThrows(IOException.class, () -> HolidayCalendarFile.map(path), "Invalid file mapped.");
+
+		HolidayCalendarFile.write(this.calendar, path);
+
+		// Change the fingerprint, as if written with different holiday rules.
+		byte[] bytes = Files.readAllBytes(path);
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putLong(16, buffer.getLong(16) + 1);
+
+		Files.write(path, bytes);
+
+		assertThrows(IOException.class, () -> HolidayCalendarFile.map(path), "Stale file mapped.");
+
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+		assertThrows(IOException.class, () -> HolidayCalendarFile.map(path), "Truncated file mapped.");
+	}
+
+	@Test
+	void testPrecompiled() throws Exception {
+		MappedHolidayCalendar precompiled = PrecompiledHolidays.get(PrecompiledHolidays.FEDERAL);
+
+		assertTrue(precompiled == PrecompiledHolidays.get(PrecompiledHolidays.FEDERAL), "Precompiled calendar loaded twice.");
+
+		HolidayCalendar federal = HolidayTableGenerator.calendar("federal:true:true", precompiled.getFirstYear(), precompiled.getLastYear());
+
+		assertEquals(federal.getObservedMask(), precompiled.getObservedMask(), "Observed mask differs.");
+
+		for(LocalDate date = LocalDate.of(precompiled.getFirstYear() - 1, 12, 1); date.getYear() <= precompiled.getLastYear() + 1; date = date.plusDays(1)) {
+			assertEquals(federal.holidayOrdinal(date.toEpochDay()), precompiled.holidayOrdinal(date.toEpochDay()), date.toString());
+		}
+
+		assertThrows(IOException.class, () -> PrecompiledHolidays.get("missing"), "Missing configuration loaded.");
+	}
+
+	@Test
+	void testGenerator() throws Exception {
+		HolidayTableGenerator.main(new String[] {this.directory.toString(), "2000", "2040", "corporate:true:true:COLUMBUS_DAY"});
+
+		MappedHolidayCalendar mapped = HolidayCalendarFile.map(this.directory.resolve("corporate.cal"));
+
+		assertEquals(this.calendar.getObservedMask(), mapped.getObservedMask(), "Observed mask differs.");
+
+		assertThrows(Exception.class, () -> HolidayTableGenerator.main(new String[] {this.directory.toString(), "2000", "2040", "corporate"}), "Invalid configuration generated.");
+	}
+}
@@ -0,0 +1,130 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the bulk holiday classification.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayClassifier {
+
+	private ObservedHolidays holidays;
+
+	private long[] epochDays;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.holidays = new ObservedHolidays(2024);
+
+		this.holidays.setFirstYear(2000);
+
+		this.holidays.setLastYear(2040);
+
+		this.holidays.holidayUnobserved(HolidayEnum.COLUMBUS_DAY.name());
+
+		this.holidays.init();
+
+		// Every day from before the year range to after it, more than the parallel threshold.
+		long first = LocalDate.of(1995, 1, 1).toEpochDay();
+
+		this.epochDays = new long[HolidayClassifier.PARALLEL_THRESHOLD + 5000];
+
+		for(int i = 0; i < this.epochDays.length; i++) {
+			this.epochDays[i] = first + i % (LocalDate.of(2046, 1, 1).toEpochDay() - first);
+		}
+	}
+
+	@Test
+	void testHolidayOrdinals() {
+		for(boolean parallel : new boolean[] {false, true}) {
+			byte[] ordinals = new byte[this.epochDays.length];
+
+			this.holidays.holidayOrdinals(this.epochDays, ordinals, parallel);
+
+			for(int i = 0; i < this.epochDays.length; i++) {
+				assertEquals(this.holidays.holidayOrdinal(this.epochDays[i]), ordinals[i], LocalDate.ofEpochDay(this.epochDays[i]).toString());
+			}
+		}
+	}
+
+	@Test
+	void testIsHoliday() {
+		int[] days = new int[this.epochDays.length];
+
+		LocalDate[] dates = new LocalDate[this.epochDays.length];
+
+		for(int i = 0; i < this.epochDays.length; i++) {
+			days[i] = (int) this.epochDays[i];
+
+			dates[i] = LocalDate.ofEpochDay(this.epochDays[i]);
+		}
+
+		for(boolean parallel : new boolean[] {false, true}) {
+			boolean[] fromInts = new boolean[days.length];
+
+			boolean[] fromDates = new boolean[dates.length];
+
+			this.holidays.isHoliday(days, fromInts, parallel);
+
+			this.holidays.isHoliday(dates, fromDates, parallel);
+
+			BitSet bits = this.holidays.holidays(this.epochDays, parallel);
+
+			for(int i = 0; i < this.epochDays.length; i++) {
+				boolean expected = this.holidays.isHoliday(this.epochDays[i]);
+
+				assertEquals(expected, fromInts[i], dates[i].toString());
+
+				assertEquals(expected, fromDates[i], dates[i].toString());
+
+				assertEquals(expected, bits.get(i), dates[i].toString());
+			}
+		}
+	}
+
+	@Test
+	void testNullDate() {
+		LocalDate[] dates = {LocalDate.of(2024, 12, 25), null, LocalDate.of(2024, 10, 14)};
+
+		byte[] ordinals = new byte[dates.length];
+
+		this.holidays.holidayOrdinals(dates, ordinals, false);
+
+		assertEquals(HolidayEnum.CHRISTMAS_DAY.ordinal(), ordinals[0], "Christmas day not observed.");
+
+		assertEquals(-1, ordinals[1], "Null date is a holiday.");
+
+		assertEquals(-1, ordinals[2], "Unobserved Columbus day is a holiday.");
+
+		assertEquals(1, this.holidays.holidays(dates, false).cardinality(), "Unexpected holidays.");
+	}
+
+	@Test
+	void testResultTooShort() {
+		assertThrows(IllegalArgumentException.class, () -> this.holidays.holidayOrdinals(this.epochDays, new byte[10], false), "Short result accepted.");
+	}
+
+	@Test
+	void testUninitialized() {
+		FederalHolidays uninitialized = new FederalHolidays(2024);
+
+		long[] days = {LocalDate.of(2024, 12, 25).toEpochDay()};
+
+		byte[] ordinals = {0};
+
+		uninitialized.holidayOrdinals(days, ordinals, false);
+
+		assertEquals(-1, ordinals[0], "Holiday before init.");
+
+		assertFalse(uninitialized.holidays(days, true).get(0), "Holiday before init.");
+	}
+}
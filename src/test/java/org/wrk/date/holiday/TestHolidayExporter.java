@@ -0,0 +1,166 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Test streaming holidays as CSV and iCalendar.
+ *
+ * @author Kelly Willard
+ */
+@ExtendWith(value = { SpringExtension.class })
+@ContextConfiguration(locations= {"/test-holiday-application-context.xml"})
+class TestHolidayExporter {
+
+	@Autowired
+	private ObservedHolidays corpHolidays;
+
+	@Autowired
+	private ObservedHolidays frbHolidays;
+
+	/**
+	 * Snapshot of a configuration over a year range.
+	 */
+	private static HolidayCalendar snapshot(ObservedHolidays configuration, int firstYear, int lastYear) throws Exception {
+		ObservedHolidays holidays = configuration.clone(firstYear);
+
+		holidays.setFirstYear(firstYear);
+
+		holidays.setLastYear(lastYear);
+
+		holidays.init();
+
+		return holidays.snapshot();
+	}
+
+	/**
+	 * Channel counting and discarding the bytes written.
+	 */
+	private static final class CountingChannel implements WritableByteChannel {
+
+		long count;
+
+		public int write(ByteBuffer source) {
+			int length = source.remaining();
+
+			source.position(source.limit());
+
+			this.count += length;
+
+			return length;
+		}
+
+		public boolean isOpen() {
+			return true;
+		}
+
+		public void close() {
+		}
+	}
+
+	@Test
+	void testCsv() throws Exception {
+		HolidayCalendar calendar = snapshot(this.corpHolidays, 1950, 2149);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = new HolidayExporter().writeCsv(calendar, out);
+
+		String[] lines = out.toString(StandardCharsets.US_ASCII).split("\n");
+
+		assertEquals(calendar.holidays(LocalDate.of(1950, 1, 1), LocalDate.of(2150, 1, 1)).count(), count, "Holidays not exported.");
+
+		assertEquals(count + 1, lines.length, "Lines not written.");
+
+		assertEquals("date,holiday,name,observed", lines[0], "Header.");
+
+		assertTrue(out.toString(StandardCharsets.US_ASCII).contains("\n2024-12-25,CHRISTMAS_DAY,Christmas day,false\n"), "Christmas day 2024 not exported.");
+
+		// New Years day 2022 is a Saturday, observed on December 31st 2021 as New Years eve, as answered by whichHoliday.
+		assertTrue(out.toString(StandardCharsets.US_ASCII).contains("\n2021-12-31,NEWYEARS_EVE,New Years eve,true\n"), "Observed New Years day not exported.");
+
+		assertTrue(!out.toString(StandardCharsets.US_ASCII).contains("COLUMBUS_DAY"), "Unobserved holiday exported.");
+
+		ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+
+		new HolidayExporter(1024).writeCsv(calendar, Channels.newChannel(channelOut));
+
+		assertArrayEquals(out.toByteArray(), channelOut.toByteArray(), "Channel and small buffer export differ.");
+	}
+
+	@Test
+	void testIcs() throws Exception {
+		HolidayCalendar calendar = snapshot(this.frbHolidays, 2000, 2060);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = new HolidayExporter().writeIcs(calendar, 2024, 2024, Channels.newChannel(out));
+
+		String ics = out.toString(StandardCharsets.US_ASCII);
+
+		assertEquals(calendar.holidays(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)).count(), count, "Holidays not exported.");
+
+		assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"), "Calendar not started.");
+
+		assertTrue(ics.endsWith("END:VCALENDAR\r\n"), "Calendar not ended.");
+
+		assertEquals(count, ics.split("BEGIN:VEVENT", -1).length - 1, "Events not written.");
+
+		assertTrue(ics.contains("UID:20240704-INDEPENDENCE_DAY@org.wrk.date.holiday\r\n"), "Independence day not exported.");
+
+		assertTrue(ics.contains("DTSTART;VALUE=DATE:20241225\r\nDTEND;VALUE=DATE:20241226\r\nSUMMARY:Christmas day\r\n"), "Christmas day not exported.");
+
+		// Sunday November 10th 2024 is observed on Monday.
+		assertTrue(ics.contains("DTSTART;VALUE=DATE:20241111\r\nDTEND;VALUE=DATE:20241112\r\nSUMMARY:Veterans day\r\n"), "Veterans day not exported.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayExporter().writeIcs(calendar, 1999, 2024, Channels.newChannel(out)), "Year outside of the range exported.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayExporter(100), "Small buffer accepted.");
+	}
+
+	@Test
+	void testConstantMemory() throws Exception {
+		HolidayCalendar calendar = snapshot(this.corpHolidays, 1, 2999);
+
+		HolidayExporter exporter = new HolidayExporter();
+
+		CountingChannel channel = new CountingChannel();
+
+		// Warm up the export path.
+		for(int loop = 0; loop < 5; loop++) {
+			exporter.writeIcs(calendar, channel);
+			exporter.writeCsv(calendar, channel);
+		}
+
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		long threadId = Thread.currentThread().getId();
+
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+		long count = exporter.writeIcs(calendar, channel) + exporter.writeCsv(calendar, channel);
+
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+		assertTrue(count > 30000, "Holidays not exported.");
+
+		// A stream and an iterator per export, nothing per holiday.
+		assertTrue(allocated < 4096, String.format("Export of %d holidays allocated %d bytes.", count, allocated));
+	}
+}
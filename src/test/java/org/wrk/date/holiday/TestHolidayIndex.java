@@ -0,0 +1,294 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Calendar;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the multi-year holiday index.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayIndex {
+
+	@Test
+	void testEpochDays() {
+		for(LocalDate date = LocalDate.of(1899, 12, 25); date.getYear() < 2101; date = date.plusDays(17)) {
+			assertEquals(date.toEpochDay(), EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), date.toString());
+
+			assertEquals(date.getYear(), EpochDays.year(date.toEpochDay()), date.toString());
+
+			assertEquals(date.getDayOfWeek().getValue(), EpochDays.dayOfWeek(date.toEpochDay()), date.toString());
+		}
+	}
+
+	@Test
+	void testJulianCalendarYears() throws Exception {
+		// Martin Luther King Jr day 1580 is Monday January 21st proleptic Gregorian, January 11th in the Julian calendar.
+		FederalHolidays holidays = new FederalHolidays(1580);
+
+		holidays.init();
+
+		Calendar mlkDay = holidays.getMartinLutherKingJrDay();
+
+		assertEquals(LocalDate.of(1580, 1, 21), LocalDate.of(mlkDay.get(Calendar.YEAR), mlkDay.get(Calendar.MONTH) + 1, mlkDay.get(Calendar.DAY_OF_MONTH)), "Martin Luther King Jr day fields.");
+
+		assertEquals(Calendar.MONDAY, mlkDay.get(Calendar.DAY_OF_WEEK), "Martin Luther King Jr day of the week.");
+
+		assertEquals(LocalDate.of(1580, 1, 21).toEpochDay(), EpochDays.of(mlkDay), "Martin Luther King Jr day epoch day.");
+
+		Holiday holiday = holidays.whichHoliday(LocalDate.of(1580, 1, 21));
+
+		assertEquals(LocalDate.of(1580, 1, 21).toEpochDay(), EpochDays.of(holiday.getDate()), "Holiday date.");
+
+		// The same day in a default calendar, which is Julian before October 15th 1582.
+		Calendar julian = Calendar.getInstance();
+
+		julian.clear();
+
+		julian.set(1580, Calendar.JANUARY, 11);
+
+		assertEquals(HolidayEnum.MARTINLUTHERKINGJR_DAY, holidays.whichHoliday(julian).getDay(), "Julian calendar date.");
+
+		assertEquals(HolidayEnum.MARTINLUTHERKINGJR_DAY, holidays.whichHoliday(julian.getTime()).getDay(), "Julian date.");
+
+		assertEquals(HolidayEnum.MARTINLUTHERKINGJR_DAY, holidays.snapshot().whichHoliday(julian).getDay(), "Julian calendar date of the snapshot.");
+
+		assertTrue(holidays.toHolidays()[0].startsWith("Tuesday 01-01-1580"), holidays.toHolidays()[0]);
+	}
+
+	@Test
+	void testHolidayCalculator() {
+		for(int year = 1900; year <= 2300; year++) {
+			assertEquals(LocalDate.of(year, 5, 1).with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY)).toEpochDay(), HolidayCalculator.actualDay(HolidayEnum.MEMORIAL_DAY, year), "Memorial day " + year);
+
+			assertEquals(LocalDate.of(year, 11, 1).with(TemporalAdjusters.dayOfWeekInMonth(4, DayOfWeek.THURSDAY)).toEpochDay(), HolidayCalculator.actualDay(HolidayEnum.THANKSGIVING_DAY, year), "Thanksgiving day " + year);
+
+			assertEquals(LocalDate.of(year, 1, 1).with(TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.MONDAY)).toEpochDay(), HolidayCalculator.actualDay(HolidayEnum.MARTINLUTHERKINGJR_DAY, year), "Martin Luther King Jr day " + year);
+
+			assertEquals(LocalDate.of(year, 12, 1).with(TemporalAdjusters.lastInMonth(DayOfWeek.SUNDAY)).toEpochDay(), HolidayCalculator.lastWeekday(year, 12, HolidayCalculator.SUNDAY), "Last Sunday in December " + year);
+
+			LocalDate date = LocalDate.of(year, 2, 28).plusDays(year % 3);
+
+			assertEquals(date.getYear() * 10000L + date.getMonthValue() * 100 + date.getDayOfMonth(), EpochDays.toPackedDate(date.toEpochDay()), date.toString());
+		}
+	}
+
+	@Test
+	void testInvalidRange() {
+		assertThrows(IllegalArgumentException.class, () -> new HolidayIndex(2030, 2020, true, true), "Invalid range accepted.");
+	}
+
+	@Test
+	void testMatchesSingleYear() throws Exception {
+		FederalHolidays rangeHolidays = new FederalHolidays(2024);
+
+		rangeHolidays.setFirstYear(2000);
+
+		rangeHolidays.setLastYear(2050);
+
+		rangeHolidays.init();
+
+		for(int year = 2000; year <= 2050; year++) {
+			FederalHolidays yearHolidays = new FederalHolidays(year);
+
+			yearHolidays.init();
+
+			Calendar today = Calendar.getInstance();
+
+			today.set(year, Calendar.JANUARY, 1);
+
+			while(today.get(Calendar.YEAR) == year) {
+				Holiday expected = yearHolidays.whichHoliday(today);
+
+				Holiday actual = rangeHolidays.whichHoliday(today);
+
+				assertEquals(expected == null ? null : expected.getDay(), actual == null ? null : actual.getDay(), today.getTime().toString());
+
+				today.add(Calendar.DAY_OF_MONTH, 1);
+			}
+		}
+	}
+
+	@Test
+	void testNewYearsDayObservedPriorYear() throws Exception {
+		// January 1st 2022 is a Saturday, observed Friday December 31st 2021.
+		FederalHolidays holidays = new FederalHolidays(2022);
+
+		holidays.init();
+
+		Calendar today = Calendar.getInstance();
+
+		today.set(2021, Calendar.DECEMBER, 31);
+
+		assertEquals(HolidayEnum.NEWYEARS_DAY, holidays.whichHoliday(today).getDay(), "New Years day not observed.");
+	}
+
+	@Test
+	void testOutsideRange() throws Exception {
+		FederalHolidays holidays = new FederalHolidays(2024);
+
+		holidays.init();
+
+		Calendar today = Calendar.getInstance();
+
+		today.set(2025, Calendar.DECEMBER, 25);
+
+		assertFalse(holidays.isHoliday(today), "Holiday outside of range.");
+	}
+
+	@Test
+	void testTimestampUnchanged() throws Exception {
+		FederalHolidays holidays = new FederalHolidays(2024);
+
+		holidays.init();
+
+		Calendar today = Calendar.getInstance();
+
+		today.set(2024, Calendar.DECEMBER, 25, 13, 45, 30);
+
+		long millis = today.getTimeInMillis();
+
+		assertTrue(holidays.isHoliday(today), "Christmas day not observed.");
+
+		assertEquals(millis, today.getTimeInMillis(), "Date was modified.");
+	}
+
+	@Test
+	void testParallelBuild() throws Exception {
+		try(HolidayIndexBuilder builder = new HolidayIndexBuilder(4)) {
+			assertEquals(4, builder.getParallelism(), "Parallelism.");
+
+			for(int flags = 0; flags < 4; flags++) {
+				HolidayIndex parallel = builder.build(1, 3000, (flags & 1) != 0, (flags & 2) != 0);
+
+				HolidayIndex sequential = new HolidayIndex(1, 3000, (flags & 1) != 0, (flags & 2) != 0);
+
+				assertEquals(sequential.getFirstDay(), parallel.getFirstDay(), "First day.");
+
+				assertEquals(sequential.getLastDay(), parallel.getLastDay(), "Last day.");
+
+				for(long epochDay = sequential.getFirstDay(); epochDay <= sequential.getLastDay(); epochDay++) {
+					assertEquals(sequential.ordinal(epochDay), parallel.ordinal(epochDay), "Epoch day " + epochDay);
+
+					if(sequential.isHoliday(epochDay)) {
+						assertEquals(sequential.whichHoliday(epochDay).isObserved(), parallel.whichHoliday(epochDay).isObserved(), "Epoch day " + epochDay);
+					}
+				}
+			}
+
+			ObservedHolidays holidays = new ObservedHolidays(2024);
+
+			holidays.setFirstYear(1900);
+
+			holidays.setLastYear(2900);
+
+			holidays.setHolidayIndexBuilder(builder);
+
+			holidays.init();
+
+			assertTrue(holidays.isHoliday(LocalDate.of(2800, 12, 25)), "Christmas day 2800 not indexed.");
+
+			assertEquals(builder, holidays.clone(2025).getHolidayIndexBuilder(), "Clone lost the index builder.");
+		}
+
+		assertEquals(1, new HolidayIndexBuilder(1).getParallelism(), "Sequential parallelism.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayIndexBuilder(0), "Parallelism 0 accepted.");
+	}
+
+	@Test
+	void testActualDates() throws Exception {
+		for(int mode = 0; mode < 4; mode++) {
+			HolidayIndex index = new HolidayIndex(1901, 2100, (mode & 2) != 0, (mode & 1) != 0);
+
+			int count = 0;
+
+			for(int year = 1901; year <= 2100; year++) {
+				for(HolidayRule rule : HolidayRuleSet.FEDERAL.getRules()) {
+					if(rule.getKind() == HolidayRule.Kind.SPILLOVER) {
+						continue;
+					}
+
+					long actualDay = HolidayRuleSet.FEDERAL.actualDay(rule.getDay(), year);
+
+					Holiday holiday = index.whichActualHoliday(actualDay);
+
+					assertEquals(rule.getDay(), holiday.getDay(), rule.getDay() + " " + year);
+
+					assertFalse(holiday.isObserved(), rule.getDay() + " " + year);
+
+					Calendar date = holiday.getDate();
+
+					assertEquals(actualDay, LocalDate.of(date.get(Calendar.YEAR), date.get(Calendar.MONTH) + 1, date.get(Calendar.DAY_OF_MONTH)).toEpochDay(), rule.getDay() + " " + year);
+
+					count++;
+				}
+			}
+
+			for(long epochDay = index.getFirstDay(); epochDay <= index.getLastDay(); epochDay++) {
+				count -= index.actualOrdinal(epochDay) >= 0 ? 1 : 0;
+
+				assertEquals(index.actualOrdinal(epochDay), index.actualOrdinal(epochDay, -1), "Epoch day " + epochDay);
+			}
+
+			assertEquals(0, count, "Actual holidays on other days.");
+		}
+
+		FederalHolidays holidays = new FederalHolidays(2026);
+
+		holidays.setAllYears(true);
+
+		holidays.init();
+
+		// Saturday July 4th 2026 is observed on Friday July 3rd.
+		assertEquals(HolidayEnum.INDEPENDENCE_DAY, holidays.whichActualHoliday(LocalDate.of(2026, 7, 4)).getDay(), "Actual Independence day.");
+
+		assertEquals(null, holidays.whichObservedHoliday(LocalDate.of(2026, 7, 4)), "Independence day observed on Saturday.");
+
+		assertEquals(null, holidays.whichActualHoliday(LocalDate.of(2026, 7, 3)), "Independence day occurs on Friday.");
+
+		assertEquals(HolidayEnum.INDEPENDENCE_DAY, holidays.whichObservedHoliday(LocalDate.of(2026, 7, 3)).getDay(), "Observed Independence day.");
+
+		// Outside of the indexed year, answered from the templates; New Years eve is never an actual holiday.
+		assertEquals(HolidayEnum.INDEPENDENCE_DAY.ordinal(), holidays.actualHolidayOrdinal(LocalDate.of(2037, 7, 4).toEpochDay()), "Actual Independence day 2037.");
+
+		assertEquals(-1, holidays.actualHolidayOrdinal(LocalDate.of(2021, 12, 31).toEpochDay()), "Actual New Years eve.");
+
+		assertEquals(HolidayEnum.NEWYEARS_EVE.ordinal(), holidays.holidayOrdinal(LocalDate.of(2021, 12, 31).toEpochDay()), "Observed New Years eve.");
+
+		LocalDate[] dates = new LocalDate[800];
+
+		long[] epochDays = new long[dates.length];
+
+		for(int i = 0; i < dates.length; i++) {
+			dates[i] = LocalDate.of(2026, 1, 1).plusDays(i);
+
+			epochDays[i] = dates[i].toEpochDay();
+		}
+
+		byte[] ordinals = new byte[dates.length];
+
+		byte[] dateOrdinals = new byte[dates.length];
+
+		holidays.actualHolidayOrdinals(epochDays, ordinals, false);
+
+		holidays.actualHolidayOrdinals(dates, dateOrdinals, true);
+
+		for(int i = 0; i < dates.length; i++) {
+			assertEquals(holidays.actualHolidayOrdinal(epochDays[i]), ordinals[i], dates[i].toString());
+
+			assertEquals(ordinals[i], dateOrdinals[i], dates[i].toString());
+		}
+
+		assertEquals(HolidayEnum.INDEPENDENCE_DAY, holidays.snapshot().whichActualHoliday(LocalDate.of(2026, 7, 4)).getDay(), "Snapshot actual Independence day.");
+	}
+}
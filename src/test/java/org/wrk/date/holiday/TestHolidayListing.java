@@ -0,0 +1,95 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the cached, date sorted holiday listing.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayListing {
+
+	@Test
+	void testListing() throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(2022);
+
+		holidays.dayUnobserved(HolidayEnum.COLUMBUS_DAY);
+
+		holidays.init();
+
+		HolidayListing listing = holidays.getHolidayListing();
+
+		assertSame(listing, holidays.getHolidayListing(), "Listing computed twice.");
+
+		assertSame(listing, holidays.snapshot().listing(2022), "Snapshot does not share the listing.");
+
+		assertArrayEquals(listing.toLines(), holidays.toHolidays(), "Listing differs from toHolidays.");
+
+		// New Years day 2022 is a Saturday, observed on December 31st 2021.
+		assertEquals(LocalDate.of(2021, 12, 31).toEpochDay(), listing.getEpochDay(0), "New Years day not first.");
+
+		assertEquals(HolidayEnum.NEWYEARS_DAY, listing.getHolidays().get(0).getDay(), "New Years day not listed with its year.");
+
+		assertTrue(listing.getHolidays().stream().noneMatch(it -> it.getDay() == HolidayEnum.COLUMBUS_DAY), "Unobserved holiday listed.");
+
+		for(int index = 1; index < listing.size(); index++) {
+			assertTrue(listing.getEpochDay(index - 1) < listing.getEpochDay(index), "Listing not sorted by date.");
+		}
+
+		assertThrows(UnsupportedOperationException.class, () -> listing.getHolidays().clear(), "Listing modified.");
+
+		assertThrows(UnsupportedOperationException.class, () -> listing.getHolidays().get(0).setObserved(false), "Listed holiday modified.");
+
+		holidays.dayUnobserved(HolidayEnum.LABOR_DAY);
+
+		assertEquals(listing.size() - 1, holidays.getHolidayListing().size(), "Listing not recomputed for the unobserved holiday.");
+	}
+
+	@Test
+	void testFormat() throws Exception {
+		FederalHolidays holidays = new FederalHolidays(2024);
+
+		holidays.init();
+
+		HolidayListing listing = holidays.getHolidayListing();
+
+		StringBuilder text = new StringBuilder();
+
+		listing.appendTo(text);
+
+		assertEquals(String.join("\n", holidays.toHolidays()) + "\n", text.toString(), "Appended lines.");
+
+		assertEquals(text.toString(), listing.toString(), "Listing text.");
+
+		ByteBuffer buffer = ByteBuffer.allocate(listing.getByteCount() + 10);
+
+		buffer.put((byte) '#');
+
+		listing.writeTo(buffer);
+
+		assertEquals(listing.getByteCount() + 1, buffer.position(), "Bytes written.");
+
+		assertEquals(text.toString(), new String(buffer.array(), 1, listing.getByteCount(), StandardCharsets.UTF_8), "Written bytes.");
+
+		assertEquals(text.toString(), StandardCharsets.UTF_8.decode(listing.asByteBuffer()).toString(), "Listing bytes.");
+
+		assertTrue(listing.asByteBuffer().isReadOnly(), "Listing bytes writable.");
+
+		assertThrows(BufferOverflowException.class, () -> listing.writeTo(ByteBuffer.allocate(10)), "Overflow written.");
+
+		assertThrows(IllegalArgumentException.class, () -> holidays.snapshot().listing(2025), "Year outside of the range listed.");
+
+		assertEquals(0, new FederalHolidays(2024).toHolidays().length, "Uninitialized holidays listed.");
+	}
+}
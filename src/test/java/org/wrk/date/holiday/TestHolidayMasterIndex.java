@@ -0,0 +1,108 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test configurations answered by a shared master index.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayMasterIndex {
+
+	private static final HolidayMasterIndex MASTER = new HolidayMasterIndex(1990, 2060);
+
+	/**
+	 * Configuration of a tenant.
+	 */
+	private static ObservedHolidays tenant(HolidayMasterIndex master, boolean saturdayObservable, boolean sundayObservable, Set<String> unobserved) {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.setFirstYear(2000);
+
+		holidays.setLastYear(2050);
+
+		holidays.setSaturdayObservable(saturdayObservable);
+
+		holidays.setSundayObservable(sundayObservable);
+
+		holidays.setUnobserved(unobserved);
+
+		holidays.setHolidayMasterIndex(master);
+
+		holidays.init();
+
+		return holidays;
+	}
+
+	@Test
+	void testMatchesOwnIndex() throws Exception {
+		Set<String> unobserved = Set.of("COLUMBUS_DAY", "VETERANS_DAY", "MARTINLUTHERKINGJR_DAY");
+
+		for(int mode = 0; mode < 4; mode++) {
+			boolean saturdayObservable = (mode & 2) != 0;
+
+			boolean sundayObservable = (mode & 1) != 0;
+
+			ObservedHolidays shared = tenant(MASTER, saturdayObservable, sundayObservable, unobserved);
+
+			ObservedHolidays own = tenant(null, saturdayObservable, sundayObservable, unobserved);
+
+			assertSame(MASTER.getHolidayIndex(saturdayObservable, sundayObservable), shared.getHolidayIndex(), "Master index not shared.");
+
+			for(LocalDate date = LocalDate.of(2000, 1, 1); date.getYear() <= 2050; date = date.plusDays(1)) {
+				assertEquals(own.holidayOrdinal(date.toEpochDay()), shared.holidayOrdinal(date.toEpochDay()), date.toString());
+
+				assertEquals(own.holidayOrdinal(date.toEpochDay()), MASTER.ordinal(date.toEpochDay(), saturdayObservable, sundayObservable, shared.observedMask()), date.toString());
+			}
+
+			assertEquals(own.toHolidays().length, shared.toHolidays().length, "Listings differ.");
+		}
+	}
+
+	@Test
+	void testSharedBusinessCalendar() throws Exception {
+		ObservedHolidays first = tenant(MASTER, true, true, Set.of("COLUMBUS_DAY"));
+
+		ObservedHolidays second = tenant(MASTER, true, true, Set.of("COLUMBUS_DAY"));
+
+		ObservedHolidays other = tenant(MASTER, true, true, Set.of("VETERANS_DAY"));
+
+		assertSame(first.getBusinessCalendar(), second.getBusinessCalendar(), "Business calendar of equal configurations not shared.");
+
+		assertNotSame(first.getBusinessCalendar(), other.getBusinessCalendar(), "Business calendar of other configurations shared.");
+
+		// The range of a shared index is the range of the master.
+		assertEquals(LocalDate.of(1990, 1, 2), first.nextBusinessDay(LocalDate.of(1989, 12, 31).plusDays(1)), "Master range not answered.");
+
+		assertSame(first.getHolidayMasterIndex(), first.clone(2030).getHolidayMasterIndex(), "Master index not cloned.");
+	}
+
+	@Test
+	void testUncovered() throws Exception {
+		ObservedHolidays outside = new ObservedHolidays(2024);
+
+		outside.setFirstYear(1950);
+
+		outside.setHolidayMasterIndex(MASTER);
+
+		outside.init();
+
+		assertNotSame(MASTER.getHolidayIndex(true, true), outside.getHolidayIndex(), "Uncovered range shared.");
+
+		assertTrue(outside.isHoliday(LocalDate.of(1955, 12, 26)), "Uncovered range not indexed.");
+
+		HolidayRuleSet rules = HolidayRuleSet.of(HolidayRuleSet.FEDERAL.getRules().stream().filter(it -> it.getDay() != HolidayEnum.VETERANS_DAY).toList());
+
+		assertTrue(!MASTER.covers(2000, 2020, rules), "Other rules covered.");
+
+		assertTrue(MASTER.covers(2000, 2020, HolidayRuleSet.of(HolidayRuleSet.FEDERAL.getRules())), "Equal rules not covered.");
+	}
+}
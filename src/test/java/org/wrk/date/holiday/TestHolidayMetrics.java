@@ -0,0 +1,172 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test counting and timing holiday lookups, init() and clone(int).
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayMetrics {
+
+	@Test
+	void testLookups() throws Exception {
+		HolidayMetrics metrics = new HolidayMetrics();
+
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		assertNull(holidays.getHolidayMetrics(), "Metrics on by default.");
+
+		holidays.holidayUnobserved(HolidayEnum.COLUMBUS_DAY.name());
+
+		holidays.setHolidayMetrics(metrics);
+
+		holidays.init();
+
+		assertTrue(holidays.isHoliday(LocalDate.of(2024, 12, 25)), "Christmas day not observed.");
+
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 10, 14)), "Unobserved Columbus day observed.");
+
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 3, 12)), "Business day observed.");
+
+		assertEquals(-1, holidays.holidayOrdinal(LocalDate.of(2024, 10, 14).toEpochDay()), "Unobserved Columbus day ordinal.");
+
+		assertEquals(4, metrics.getLookupCount(), "Lookups not counted.");
+
+		assertEquals(1, metrics.getHolidayCount(), "Holidays not counted.");
+
+		assertEquals(3, metrics.getNonHolidayCount(), "Non holidays not counted.");
+
+		assertEquals(4, metrics.getLookupLatency().getCount(), "Lookups not timed.");
+
+		holidays.setHolidayMetrics(null);
+
+		holidays.isHoliday(LocalDate.of(2024, 12, 25));
+
+		assertEquals(4, metrics.getLookupCount(), "Lookup counted without metrics.");
+
+		metrics.reset();
+
+		assertEquals(0, metrics.getLookupCount(), "Lookups not reset.");
+
+		assertEquals(0, metrics.getLookupLatency().getCount(), "Latency not reset.");
+	}
+
+	@Test
+	void testInitAndClone() {
+		HolidayMetrics metrics = new HolidayMetrics(1024);
+
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.setHolidayMetrics(metrics);
+
+		holidays.init();
+
+		ObservedHolidays clone = holidays.clone(2030);
+
+		assertSame(metrics, clone.getHolidayMetrics(), "Clone lost the metrics.");
+
+		assertEquals(2, metrics.getInitCount(), "Init not counted.");
+
+		assertEquals(1, metrics.getCloneCount(), "Clone not counted.");
+
+		assertEquals(2, metrics.getInitLatency().getCount(), "Init not timed.");
+
+		assertEquals(1, metrics.getCloneLatency().getCount(), "Clone not timed.");
+
+		for(int day = 0; day < 365; day++) {
+			clone.holidayOrdinal(LocalDate.of(2030, 1, 1).plusDays(day).toEpochDay());
+		}
+
+		assertEquals(365, metrics.getLookupCount(), "Lookups not counted.");
+
+		assertTrue(metrics.getLookupLatency().getCount() < 365, "Lookups not sampled.");
+
+		assertEquals(1024, metrics.getSamplingInterval(), "Sampling interval.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayMetrics(1000), "Sampling interval not a power of 2 accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> new HolidayMetrics(0), "Sampling interval 0 accepted.");
+	}
+
+	@Test
+	void testExport() throws Exception {
+		HolidayMetrics metrics = new HolidayMetrics();
+
+		FederalHolidays holidays = new FederalHolidays(2024);
+
+		holidays.setHolidayMetrics(metrics);
+
+		holidays.init();
+
+		holidays.isHoliday(LocalDate.of(2024, 7, 4));
+
+		Map<String, Long> exported = new HashMap<>();
+
+		metrics.addExporter(new HolidayMetricsExporter() {
+			public void counter(String name, long value) {
+				exported.put(name, value);
+			}
+
+			public void histogram(String name, LatencyHistogram histogram) {
+				exported.put(name, histogram.getCount());
+			}
+		});
+
+		metrics.export();
+
+		assertEquals(8, exported.size(), "Metric not exported.");
+
+		assertEquals(1L, exported.get(HolidayMetrics.LOOKUPS), "Lookups not exported.");
+
+		assertEquals(1L, exported.get(HolidayMetrics.HOLIDAYS), "Holidays not exported.");
+
+		assertEquals(1L, exported.get(HolidayMetrics.INITS), "Init not exported.");
+
+		assertEquals(1L, exported.get(HolidayMetrics.LOOKUP_LATENCY), "Lookup latency not exported.");
+
+		assertEquals(0L, exported.get(HolidayMetrics.CLONE_LATENCY), "Clone latency exported.");
+	}
+
+	@Test
+	void testHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(0, histogram.getValueAtPercentile(99), "Empty percentile.");
+
+		for(long nanos = 1; nanos <= 100; nanos++) {
+			histogram.record(nanos);
+		}
+
+		histogram.record(-5);
+
+		assertEquals(101, histogram.getCount(), "Durations not counted.");
+
+		assertEquals(5050, histogram.getTotalNanos(), "Total nanos.");
+
+		assertEquals(100, histogram.getMaximumNanos(), "Maximum nanos.");
+
+		assertEquals(1, histogram.getBucketCount(0), "Negative duration not in bucket 0.");
+
+		assertEquals(1, histogram.getBucketCount(1), "Duration 1 not in bucket 1.");
+
+		assertEquals(2, histogram.getBucketCount(2), "Durations 2 and 3 not in bucket 2.");
+
+		assertEquals(63, histogram.getValueAtPercentile(50), "Median not within a factor of 2.");
+
+		assertEquals(100, histogram.getValueAtPercentile(100), "Maximum percentile not limited to the maximum.");
+
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1), "Last bucket bound.");
+	}
+}
@@ -0,0 +1,192 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Test publishing holidays and business days on demand.
+ *
+ * @author Kelly Willard
+ */
+@ExtendWith(value = { SpringExtension.class })
+@ContextConfiguration(locations= {"/test-holiday-application-context.xml"})
+class TestHolidayPublisher {
+
+	@Autowired
+	private ObservedHolidays corpHolidays;
+
+	/**
+	 * Snapshot of a configuration over a year range.
+	 */
+	private HolidayCalendar snapshot() throws Exception {
+		ObservedHolidays holidays = this.corpHolidays.clone(1950);
+
+		holidays.setFirstYear(1950);
+
+		holidays.setLastYear(2100);
+
+		holidays.init();
+
+		return holidays.snapshot();
+	}
+
+	/**
+	 * Subscriber recording the signals, requesting a number of elements on subscribe and after each element.
+	 */
+	private static final class Recorder<T> implements Flow.Subscriber<T> {
+
+		final List<T> elements = new ArrayList<>();
+
+		final long initial;
+
+		final long each;
+
+		Flow.Subscription subscription;
+
+		Throwable error;
+
+		int completed;
+
+		Recorder(long initial, long each) {
+			this.initial = initial;
+			this.each = each;
+		}
+
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+
+			if(this.initial != 0) {
+				subscription.request(this.initial);
+			}
+		}
+
+		public void onNext(T element) {
+			this.elements.add(element);
+
+			if(this.each != 0) {
+				this.subscription.request(this.each);
+			}
+		}
+
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		public void onComplete() {
+			this.completed++;
+		}
+	}
+
+	@Test
+	void testDemand() throws Exception {
+		HolidayCalendar calendar = this.snapshot();
+
+		Recorder<Holiday> recorder = new Recorder<>(0, 0);
+
+		HolidayPublisher.holidays(calendar, 2024, 2025).subscribe(recorder);
+
+		assertEquals(0, recorder.elements.size(), "Emitted without demand.");
+
+		recorder.subscription.request(3);
+
+		assertEquals(3, recorder.elements.size(), "Demand not honored.");
+
+		assertEquals(HolidayEnum.NEWYEARS_DAY, recorder.elements.get(0).getDay(), "First holiday.");
+
+		recorder.subscription.request(Long.MAX_VALUE);
+
+		recorder.subscription.request(Long.MAX_VALUE);
+
+		assertEquals(calendar.holidays(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1)).count(), recorder.elements.size(), "Holidays not published.");
+
+		assertEquals(1, recorder.completed, "Not completed once.");
+
+		// Completed with the last element, without further demand.
+		int count = (int) calendar.holidays(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)).count();
+
+		Recorder<Holiday> exact = new Recorder<>(count, 0);
+
+		HolidayPublisher.holidays(calendar, 2024, 2024).subscribe(exact);
+
+		assertEquals(count, exact.elements.size(), "Holidays not published.");
+
+		assertEquals(1, exact.completed, "Not completed after the last holiday.");
+
+		Recorder<Holiday> cancelled = new Recorder<>(2, 0);
+
+		HolidayPublisher.holidays(calendar, 2024, 2025).subscribe(cancelled);
+
+		cancelled.subscription.cancel();
+
+		cancelled.subscription.request(5);
+
+		assertEquals(2, cancelled.elements.size(), "Emitted after cancel.");
+
+		Recorder<Holiday> invalid = new Recorder<>(0, 0);
+
+		HolidayPublisher.holidays(calendar, 2024, 2025).subscribe(invalid);
+
+		invalid.subscription.request(0);
+
+		assertTrue(invalid.error instanceof IllegalArgumentException, "Invalid request not signalled.");
+
+		assertEquals("Invalid request 0, expected more than 0.", invalid.error.getMessage(), "Invalid request not reported.");
+	}
+
+	@Test
+	void testBusinessDays() throws Exception {
+		HolidayCalendar calendar = this.snapshot();
+
+		// One element requested at a time from onNext, without recursion.
+		Recorder<LocalDate> recorder = new Recorder<>(1, 1);
+
+		HolidayPublisher.businessDays(calendar, 1950, 2100).subscribe(recorder);
+
+		assertEquals(calendar.businessDays(LocalDate.of(1950, 1, 1), LocalDate.of(2101, 1, 1)).count(), recorder.elements.size(), "Business days not published.");
+
+		assertEquals(1, recorder.completed, "Not completed once.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayPublisher.businessDays(calendar, 1949, 2000), "Year outside of the range accepted.");
+	}
+
+	@Test
+	void testBlocks() throws Exception {
+		HolidayCalendar calendar = this.snapshot();
+
+		Recorder<long[]> recorder = new Recorder<>(2, 0);
+
+		HolidayPublisher.businessDayBlocks(calendar, 2000, 2009, 1000).subscribe(recorder);
+
+		assertEquals(2, recorder.elements.size(), "Block demand not honored.");
+
+		recorder.subscription.request(Long.MAX_VALUE);
+
+		long[] expected = calendar.businessDays(LocalDate.of(2000, 1, 1).toEpochDay(), LocalDate.of(2010, 1, 1).toEpochDay()).toArray();
+
+		assertArrayEquals(expected, recorder.elements.stream().flatMapToLong(LongStream::of).toArray(), "Business day blocks differ.");
+
+		assertEquals((expected.length + 999) / 1000, recorder.elements.size(), "Blocks not full.");
+
+		Recorder<long[]> holidays = new Recorder<>(Long.MAX_VALUE, 0);
+
+		HolidayPublisher.holidayBlocks(calendar, 2000, 2009, 7).subscribe(holidays);
+
+		assertArrayEquals(calendar.holidays(LocalDate.of(2000, 1, 1).toEpochDay(), LocalDate.of(2010, 1, 1).toEpochDay()).toArray(), holidays.elements.stream().flatMapToLong(LongStream::of).toArray(), "Holiday blocks differ.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayPublisher.holidayBlocks(calendar, 2000, 2009, 0), "Block size 0 accepted.");
+	}
+}
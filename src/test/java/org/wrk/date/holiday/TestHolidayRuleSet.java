@@ -0,0 +1,195 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test compiling holiday rules and evaluating rule sets.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayRuleSet {
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Federal rules with Juneteenth day moved to the third Monday of June and without Veterans day.
+	 */
+	private static HolidayRuleSet companyRules() {
+		List<HolidayRule> rules = new ArrayList<>();
+
+		for(HolidayRule rule : HolidayRuleSet.FEDERAL.getRules()) {
+			if(rule.getDay() != HolidayEnum.JUNETEENTH_DAY && rule.getDay() != HolidayEnum.VETERANS_DAY) {
+				rules.add(rule);
+			}
+		}
+
+		rules.add(HolidayRule.nthWeekday(HolidayEnum.JUNETEENTH_DAY, 6, HolidayCalculator.MONDAY, 3));
+
+		return HolidayRuleSet.of(rules);
+	}
+
+	@Test
+	void testFederal() {
+		long[] observedDays = new long[HolidayEnum.values().length];
+
+		for(int year = 1; year <= 2800; year++) {
+			LocalDate newYearsDay = LocalDate.of(year + 1, 1, 1);
+
+			HolidayRuleSet.FEDERAL.observedDays(year, true, false, observedDays);
+
+			assertEquals(LocalDate.of(year, 11, 1).with(TemporalAdjusters.dayOfWeekInMonth(4, DayOfWeek.THURSDAY)).toEpochDay(), observedDays[HolidayEnum.THANKSGIVING_DAY.ordinal()], "Thanksgiving day " + year);
+
+			assertEquals(LocalDate.of(year, 5, 1).with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY)).toEpochDay(), observedDays[HolidayEnum.MEMORIAL_DAY.ordinal()], "Memorial day " + year);
+
+			assertEquals(LocalDate.of(year, 9, 1).with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY)).toEpochDay(), observedDays[HolidayEnum.LABOR_DAY.ordinal()], "Labor day " + year);
+
+			assertEquals(newYearsDay.getDayOfWeek() == DayOfWeek.SATURDAY ? newYearsDay.toEpochDay() - 1 : HolidayCalculator.NONE, observedDays[HolidayEnum.NEWYEARS_EVE.ordinal()], "New Years eve " + year);
+
+			// Sunday not observable, Christmas day stays on Sunday.
+			LocalDate christmas = LocalDate.of(year, 12, 25);
+
+			assertEquals(christmas.getDayOfWeek() == DayOfWeek.SATURDAY ? christmas.toEpochDay() - 1 : christmas.toEpochDay(), observedDays[HolidayEnum.CHRISTMAS_DAY.ordinal()], "Christmas day " + year);
+
+			for(HolidayEnum day : HolidayEnum.values()) {
+				assertEquals(observedDays[day.ordinal()], HolidayRuleSet.FEDERAL.observedDay(day, year, true, false), day + " " + year);
+			}
+		}
+
+		assertTrue(HolidayRuleSet.FEDERAL.isActualDay(HolidayEnum.JUNETEENTH_DAY), "Juneteenth day is not actual holiday.");
+
+		assertFalse(HolidayRuleSet.FEDERAL.isActualDay(HolidayEnum.LABOR_DAY), "Labor day is actual holiday.");
+
+		assertEquals(HolidayEnum.values().length, HolidayRuleSet.FEDERAL.getRules().size(), "Federal holiday missing.");
+	}
+
+	@Test
+	void testCustomRules() throws Exception {
+		HolidayRuleSet rules = companyRules();
+
+		assertEquals(LocalDate.of(2024, 6, 17).toEpochDay(), rules.actualDay(HolidayEnum.JUNETEENTH_DAY, 2024), "Third Monday of June.");
+
+		assertFalse(rules.contains(HolidayEnum.VETERANS_DAY), "Veterans day defined.");
+
+		assertEquals(HolidayCalculator.NONE, rules.observedDay(HolidayEnum.VETERANS_DAY, 2024, true, true), "Veterans day observed.");
+
+		assertThrows(IllegalArgumentException.class, () -> rules.actualDay(HolidayEnum.VETERANS_DAY, 2024), "Undefined holiday calculated.");
+
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.setHolidayRules(rules);
+
+		holidays.setAllYears(true);
+
+		holidays.init();
+
+		assertEquals(HolidayEnum.JUNETEENTH_DAY, holidays.whichHoliday(LocalDate.of(2024, 6, 17)).getDay(), "Third Monday of June not observed.");
+
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 6, 19)), "Federal Juneteenth day observed.");
+
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 11, 11)), "Veterans day observed.");
+
+		// Outside of the indexed year, answered from the templates of the rule set.
+		assertEquals(HolidayEnum.JUNETEENTH_DAY, holidays.whichHoliday(LocalDate.of(2525, 6, 1).with(TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.MONDAY))).getDay(), "Third Monday of June 2525 not observed.");
+
+		assertTrue(holidays.getHolidayListing().getHolidays().stream().noneMatch(it -> it.getDay() == HolidayEnum.VETERANS_DAY), "Veterans day loaded.");
+
+		ObservedHolidays clone = holidays.clone(2030);
+
+		assertTrue(clone.isHoliday(LocalDate.of(2030, 6, 17)), "Clone lost the holiday rules.");
+
+		HolidayCache cache = new HolidayCache(4);
+
+		assertNotEquals(cache.get(holidays, 2024).isHoliday(LocalDate.of(2024, 11, 11)), cache.get(new ObservedHolidays(2024), 2024).isHoliday(LocalDate.of(2024, 11, 11)), "Cache shared across rule sets.");
+	}
+
+	@Test
+	void testCalendarFile() throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.setHolidayRules(companyRules());
+
+		holidays.init();
+
+		Path path = this.directory.resolve("company.cal");
+
+		HolidayCalendarFile.write(holidays.snapshot(), path);
+
+		assertThrows(IOException.class, () -> HolidayCalendarFile.map(path), "Mapped with the federal rules.");
+
+		MappedHolidayCalendar mapped = HolidayCalendarFile.map(path, companyRules());
+
+		Holiday holiday = mapped.whichHoliday(LocalDate.of(2024, 6, 17));
+
+		assertEquals(HolidayEnum.JUNETEENTH_DAY, holiday.getDay(), "Third Monday of June not mapped.");
+
+		assertTrue(holiday.isObserved(), "Weekday holiday is actual day.");
+	}
+
+	@Test
+	void testEquals() {
+		assertEquals(companyRules(), companyRules(), "Same rules differ.");
+
+		assertEquals(companyRules().hashCode(), companyRules().hashCode(), "Same rules hash differently.");
+
+		assertNotEquals(HolidayRuleSet.FEDERAL, companyRules(), "Different rules equal.");
+	}
+
+	@Test
+	void testInvalidRules() {
+		assertThrows(IllegalArgumentException.class, () -> HolidayRule.fixedDay(HolidayEnum.CHRISTMAS_DAY, 13, 25), "Invalid month accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRule.fixedDay(HolidayEnum.CHRISTMAS_DAY, 2, 29), "February 29th accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRule.nthWeekday(HolidayEnum.LABOR_DAY, 9, HolidayCalculator.MONDAY, 5), "5th weekday accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRule.lastWeekday(HolidayEnum.MEMORIAL_DAY, 5, 0), "Invalid day of the week accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRule.offset(HolidayEnum.LABOR_DAY, HolidayEnum.LABOR_DAY, 1), "Offset from itself accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRuleSet.of(HolidayRule.fixedDay(HolidayEnum.CHRISTMAS_DAY, 12, 25), HolidayRule.fixedDay(HolidayEnum.CHRISTMAS_DAY, 12, 26)), "Holiday defined twice.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRuleSet.of(HolidayRule.offset(HolidayEnum.COLUMBUS_DAY, HolidayEnum.THANKSGIVING_DAY, 1)), "Undefined base accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRuleSet.of(HolidayRule.offset(HolidayEnum.COLUMBUS_DAY, HolidayEnum.LABOR_DAY, 1), HolidayRule.offset(HolidayEnum.LABOR_DAY, HolidayEnum.COLUMBUS_DAY, -1)), "Offset loop accepted.");
+
+		assertThrows(IllegalArgumentException.class, () -> HolidayRuleSet.of(HolidayRule.nthWeekday(HolidayEnum.LABOR_DAY, 9, HolidayCalculator.MONDAY, 1), HolidayRule.spillover(HolidayEnum.NEWYEARS_EVE, HolidayEnum.LABOR_DAY)), "Spillover from a weekday accepted.");
+	}
+
+	@Test
+	void testOffsetYearBoundary() throws Exception {
+		// Listed with the following year but never found by the lookups of its own year.
+		assertThrows(IllegalArgumentException.class, () -> HolidayRuleSet.of(HolidayRule.fixedDay(HolidayEnum.NEWYEARS_DAY, 1, 1), HolidayRule.offset(HolidayEnum.COLUMBUS_DAY, HolidayEnum.NEWYEARS_DAY, -2)), "Offset before January 1st accepted.");
+
+		// The last Monday of December is the 25th through the 31st.
+		assertThrows(IllegalArgumentException.class, () -> HolidayRuleSet.of(HolidayRule.lastWeekday(HolidayEnum.LABOR_DAY, 12, HolidayCalculator.MONDAY), HolidayRule.offset(HolidayEnum.COLUMBUS_DAY, HolidayEnum.LABOR_DAY, 1)), "Offset after December 31st accepted.");
+
+		// Chained offsets reaching December 31st stay within the year.
+		HolidayRuleSet rules = HolidayRuleSet.of(HolidayRule.fixedDay(HolidayEnum.CHRISTMAS_DAY, 12, 25), HolidayRule.offset(HolidayEnum.LABOR_DAY, HolidayEnum.CHRISTMAS_DAY, 3), HolidayRule.offset(HolidayEnum.COLUMBUS_DAY, HolidayEnum.LABOR_DAY, 3));
+
+		FederalHolidays holidays = new FederalHolidays(2025);
+
+		holidays.setHolidayRules(rules);
+
+		holidays.init();
+
+		assertEquals(HolidayEnum.COLUMBUS_DAY, holidays.whichHoliday(LocalDate.of(2025, 12, 31)).getDay(), "Offset on December 31st not found.");
+
+		assertEquals(holidays.getHolidayListing().size(), holidays.holidays(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1)).count(), "Listing and lookups differ.");
+	}
+}
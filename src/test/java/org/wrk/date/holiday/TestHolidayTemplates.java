@@ -0,0 +1,169 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the year templates against holidays calculated with java.time.
+ *
+ * @author Kelly Willard
+ */
+class TestHolidayTemplates {
+
+	/**
+	 * Observe an actual holiday occurring on a weekend.
+	 */
+	private static LocalDate observe(LocalDate date, boolean saturdayObservable, boolean sundayObservable) {
+		if(date.getDayOfWeek() == DayOfWeek.SATURDAY && saturdayObservable) {
+			return date.minusDays(1);
+		}
+		else if(date.getDayOfWeek() == DayOfWeek.SUNDAY && sundayObservable) {
+			return date.plusDays(1);
+		}
+
+		return date;
+	}
+
+	/**
+	 * Holidays observed during the year, the first holiday of a day kept.
+	 */
+	private static Map<LocalDate, HolidayEnum> expected(int year, boolean saturdayObservable, boolean sundayObservable) {
+		Map<LocalDate, HolidayEnum> holidays = new HashMap<>();
+
+		for(HolidayEnum day : HolidayEnum.values()) {
+			LocalDate date;
+
+			switch (day) {
+			case NEWYEARS_DAY:
+				date = observe(LocalDate.of(year, 1, 1), saturdayObservable, sundayObservable);
+				break;
+			case MARTINLUTHERKINGJR_DAY:
+				date = LocalDate.of(year, 1, 1).with(TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.MONDAY));
+				break;
+			case PRESIDENTS_DAY:
+				date = LocalDate.of(year, 2, 1).with(TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.MONDAY));
+				break;
+			case MEMORIAL_DAY:
+				date = LocalDate.of(year, 5, 1).with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY));
+				break;
+			case JUNETEENTH_DAY:
+				date = observe(LocalDate.of(year, 6, 19), saturdayObservable, sundayObservable);
+				break;
+			case INDEPENDENCE_DAY:
+				date = observe(LocalDate.of(year, 7, 4), saturdayObservable, sundayObservable);
+				break;
+			case LABOR_DAY:
+				date = LocalDate.of(year, 9, 1).with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
+				break;
+			case COLUMBUS_DAY:
+				date = LocalDate.of(year, 10, 1).with(TemporalAdjusters.dayOfWeekInMonth(2, DayOfWeek.MONDAY));
+				break;
+			case VETERANS_DAY:
+				date = observe(LocalDate.of(year, 11, 11), saturdayObservable, sundayObservable);
+				break;
+			case THANKSGIVING_DAY:
+				date = LocalDate.of(year, 11, 1).with(TemporalAdjusters.dayOfWeekInMonth(4, DayOfWeek.THURSDAY));
+				break;
+			case CHRISTMAS_DAY:
+				date = observe(LocalDate.of(year, 12, 25), saturdayObservable, sundayObservable);
+				break;
+			default:
+				// New Years eve is observed when New Years day of the following year is observed on December 31st.
+				date = saturdayObservable && LocalDate.of(year + 1, 1, 1).getDayOfWeek() == DayOfWeek.SATURDAY ? LocalDate.of(year, 12, 31) : null;
+			}
+
+			if(date != null && date.getYear() == year) {
+				holidays.putIfAbsent(date, day);
+			}
+		}
+
+		return holidays;
+	}
+
+	@Test
+	void testMatchesCalculation() {
+		for(boolean saturdayObservable : new boolean[] {false, true}) {
+			for(boolean sundayObservable : new boolean[] {false, true}) {
+				HolidayTemplates templates = HolidayTemplates.of(saturdayObservable, sundayObservable);
+
+				for(int year : new int[] {1, 2, 3, 4, 5, 1582, 1900, 1999, 2000, 2024, 2100, 2400, 9999, 123456}) {
+					Map<LocalDate, HolidayEnum> expected = expected(year, saturdayObservable, sundayObservable);
+
+					for(LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+						HolidayEnum day = expected.get(date);
+
+						Holiday holiday = templates.whichHoliday(date.toEpochDay());
+
+						assertEquals(day, holiday == null ? null : holiday.getDay(), date.toString());
+
+						assertEquals(day == null ? -1 : day.ordinal(), templates.ordinal(date.toEpochDay()), date.toString());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void testMatchesIndex() {
+		HolidayIndex index = new HolidayIndex(1990, 2410, true, true);
+
+		HolidayTemplates templates = HolidayTemplates.of(true, true);
+
+		for(long epochDay = LocalDate.of(1990, 1, 1).toEpochDay(); epochDay <= index.getLastDay(); epochDay++) {
+			assertEquals(index.ordinal(epochDay), templates.ordinal(epochDay), LocalDate.ofEpochDay(epochDay).toString());
+
+			Holiday expected = index.whichHoliday(epochDay);
+
+			Holiday actual = templates.whichHoliday(epochDay);
+
+			if(expected != null) {
+				assertEquals(expected.isObserved(), actual.isObserved(), LocalDate.ofEpochDay(epochDay).toString());
+			}
+		}
+	}
+
+	@Test
+	void testOutsideYears() {
+		HolidayTemplates templates = HolidayTemplates.of(true, true);
+
+		assertFalse(templates.isHoliday(LocalDate.of(0, 12, 25).toEpochDay()), "Holiday before year 1.");
+
+		assertTrue(templates.isHoliday(LocalDate.of(1, 12, 25).toEpochDay()), "Christmas day of year 1 not observed.");
+	}
+
+	@Test
+	void testAllYears() throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+
+		holidays.holidayUnobserved(HolidayEnum.VETERANS_DAY.name());
+
+		holidays.init();
+
+		// Tuesday December 25th 2525, outside of the indexed year.
+		LocalDate christmas = LocalDate.of(2525, 12, 25);
+
+		assertNull(holidays.whichHoliday(christmas), "Holiday outside of range.");
+
+		holidays.setAllYears(true);
+
+		assertEquals(HolidayEnum.CHRISTMAS_DAY, holidays.whichHoliday(christmas).getDay(), "Christmas day not observed.");
+
+		assertEquals(HolidayEnum.CHRISTMAS_DAY.ordinal(), holidays.holidayOrdinal(christmas.toEpochDay()), "Christmas day not observed.");
+
+		assertFalse(holidays.isHoliday(LocalDate.of(2525, 11, 11)), "Unobserved Veterans day is a holiday.");
+
+		long[] epochDays = {christmas.toEpochDay(), LocalDate.of(2024, 7, 4).toEpochDay(), LocalDate.of(2525, 11, 11).toEpochDay()};
+
+		assertEquals(2, holidays.holidays(epochDays, false).cardinality(), "Unexpected holidays.");
+	}
+}
@@ -0,0 +1,153 @@
+package org.wrk.date.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the live calendar rolling over and reloading snapshots.
+ *
+ * @author Kelly Willard
+ */
+class TestLiveHolidayCalendar {
+
+	/**
+	 * Clock set by the test.
+	 */
+	private static final class TestClock extends Clock {
+
+		volatile long millis;
+
+		TestClock(LocalDateTime time) {
+			this.set(time);
+		}
+
+		void set(LocalDateTime time) {
+			this.millis = time.toInstant(ZoneOffset.UTC).toEpochMilli();
+		}
+
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		public Instant instant() {
+			return Instant.ofEpochMilli(this.millis);
+		}
+
+		public long millis() {
+			return this.millis;
+		}
+	}
+
+	@Test
+	void testRollover() throws Exception {
+		TestClock clock = new TestClock(LocalDateTime.of(2025, 12, 31, 23, 59));
+
+		try(LiveHolidayCalendar live = new LiveHolidayCalendar(new ObservedHolidays(), clock)) {
+			HolidayCalendar calendar = live.current();
+
+			assertEquals(2025, live.getYear(), "Year of the clock.");
+
+			assertEquals(2025, live.listing().getHolidays().get(0).getDate().get(Calendar.YEAR), "Listing of the year.");
+
+			assertSame(calendar, live.current(), "Snapshot swapped before the rollover.");
+
+			clock.set(LocalDateTime.of(2026, 1, 1, 0, 0, 1));
+
+			HolidayCalendar rolled = live.current();
+
+			assertNotSame(calendar, rolled, "Snapshot not swapped at the rollover.");
+
+			assertEquals(2026, live.getYear(), "Year not rolled over.");
+
+			assertTrue(live.isHoliday(LocalDate.of(2026, 12, 25)), "Christmas day 2026 not answered.");
+
+			assertTrue(calendar.isHoliday(LocalDate.of(2025, 12, 25)), "Old snapshot changed.");
+
+			// Several years later without a reader, as after a suspended process.
+			clock.set(LocalDateTime.of(2031, 6, 1, 0, 0));
+
+			assertEquals(HolidayEnum.INDEPENDENCE_DAY, live.whichHoliday(LocalDate.of(2031, 7, 4)).getDay(), "Independence day 2031 not answered.");
+
+			assertEquals(2031, live.getYear(), "Year not rolled over.");
+		}
+	}
+
+	@Test
+	void testFollowingYear() throws Exception {
+		TestClock clock = new TestClock(LocalDateTime.of(2025, 12, 20, 12, 0));
+
+		try(LiveHolidayCalendar live = new LiveHolidayCalendar(new ObservedHolidays(), clock)) {
+			assertTrue(live.isHoliday(LocalDate.of(2026, 1, 1)), "New years day 2026 not answered before the rollover.");
+
+			assertEquals(HolidayEnum.MARTINLUTHERKINGJR_DAY, live.whichHoliday(LocalDate.of(2026, 1, 19)).getDay(), "Martin Luther King day 2026 not answered.");
+
+			assertTrue(live.isHoliday(new GregorianCalendar(2026, Calendar.DECEMBER, 25)), "Christmas day 2026 not answered.");
+
+			assertTrue(live.isHoliday(LocalDate.of(2025, 12, 25)), "Christmas day 2025 not answered.");
+
+			assertEquals(2025, live.getYear(), "Rolled over before the year of the clock.");
+
+			assertThrows(IllegalArgumentException.class, () -> live.isHoliday(LocalDate.of(2027, 1, 1)), "Year after the following year answered.");
+
+			assertThrows(IllegalArgumentException.class, () -> live.whichHoliday(LocalDate.of(2024, 12, 25)), "Year before the current year answered.");
+
+			clock.set(LocalDateTime.of(2026, 1, 1, 0, 0));
+
+			assertEquals(2026, live.listing().getHolidays().get(0).getDate().get(Calendar.YEAR), "Listing not rolled over.");
+
+			assertTrue(live.isHoliday(LocalDate.of(2027, 1, 1)), "New years day 2027 not answered after the rollover.");
+		}
+	}
+
+	@Test
+	void testReload() throws Exception {
+		TestClock clock = new TestClock(LocalDateTime.of(2024, 3, 1, 12, 0));
+
+		ObservedHolidays configuration = new ObservedHolidays();
+
+		try(LiveHolidayCalendar live = new LiveHolidayCalendar(configuration, clock)) {
+			assertTrue(live.isHoliday(LocalDate.of(2024, 10, 14)), "Columbus day not observed.");
+
+			configuration.setUnobserved(Set.of("COLUMBUS_DAY"));
+
+			configuration.setSundayObservable(false);
+
+			assertTrue(live.isHoliday(LocalDate.of(2024, 10, 14)), "Configuration applied before reload.");
+
+			HolidayCalendar calendar = live.reload();
+
+			assertSame(calendar, live.current(), "Reload not published.");
+
+			assertFalse(live.isHoliday(LocalDate.of(2024, 10, 14)), "Columbus day observed after reload.");
+
+			assertFalse(calendar.isSundayObservable(), "Sunday observable not reloaded.");
+
+			// The following year keeps the reloaded configuration.
+			clock.set(LocalDateTime.of(2025, 1, 2, 0, 0));
+
+			assertFalse(live.isHoliday(LocalDate.of(2025, 10, 13)), "Columbus day observed after rollover.");
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> new LiveHolidayCalendar(null), "Null configuration accepted.");
+	}
+}
@@ -1,11 +1,15 @@
 package org.wrk.date.holiday;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Calendar;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,6 +66,27 @@ public class TestObservedHolidays {
 		}
 	}
 	
+	@Test
+	public void testEpochDay() {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+		
+		assertTrue(holidays.holidayOrdinal(LocalDate.of(2024, 7, 4).toEpochDay()) == -1, "Uninitialized holidays found a holiday.");
+		
+		assertDoesNotThrow(() -> holidays.holidayUnobserved(HolidayEnum.VETERANS_DAY.name()), "Could not mark holiday unobserved.");
+		
+		holidays.init();
+		
+		assertTrue(holidays.holidayOrdinal(LocalDate.of(2024, 7, 4).toEpochDay()) == HolidayEnum.INDEPENDENCE_DAY.ordinal(), "Independence day not observed.");
+		
+		assertTrue(holidays.isHoliday(LocalDate.of(2024, 12, 25).toEpochDay()), "Christmas day not observed.");
+		
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 11, 11).toEpochDay()), "Veterans day observed.");
+		
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 7, 5).toEpochDay()), "Business day observed.");
+		
+		assertTrue(holidays.holidayOrdinal(LocalDate.of(1900, 1, 1).toEpochDay()) == -1, "Holiday outside of range observed.");
+	}
+	
 	@Test
 	public void testIsUnobservedEmpty() {
 		assertFalse(this.getObservedHolidays().isUnobserved("LABOR_DAY"),"Labor day is not observed.");
@@ -211,4 +236,39 @@ public class TestObservedHolidays {
 			e.printStackTrace();
 		}
 	}
-}
\ No newline at end of file
+	
+	@Test
+	public void testUnobservedDays() throws Exception {
+		ObservedHolidays holidays = new ObservedHolidays(2024);
+		
+		holidays.setUnobserved(Set.of(HolidayEnum.LABOR_DAY.name(), HolidayEnum.VETERANS_DAY.name()));
+		
+		assertTrue(holidays.dayUnobserved(HolidayEnum.COLUMBUS_DAY), "Could not mark holiday unobserved.");
+		
+		assertFalse(holidays.dayUnobserved(HolidayEnum.COLUMBUS_DAY), "Holiday unobserved twice.");
+		
+		assertEquals(EnumSet.of(HolidayEnum.COLUMBUS_DAY, HolidayEnum.LABOR_DAY, HolidayEnum.VETERANS_DAY), holidays.getUnobservedDays(), "Unobserved days.");
+		
+		assertTrue(holidays.isUnobserved(HolidayEnum.LABOR_DAY.name()), "Labor day observed.");
+		
+		holidays.init();
+		
+		ObservedHolidays observed = new ObservedHolidays(2024);
+		
+		observed.init();
+		
+		assertEquals(observed.getHolidayListing().size() - 3, holidays.getHolidayListing().size(), "Unobserved holidays listed.");
+		
+		assertFalse(holidays.isHoliday(LocalDate.of(2024, 9, 2)), "Labor day observed.");
+		
+		ObservedHolidays clone = holidays.clone(2025);
+		
+		clone.dayUnobserved(HolidayEnum.CHRISTMAS_DAY);
+		
+		assertFalse(holidays.isDayUnobserved(HolidayEnum.CHRISTMAS_DAY), "Clone shares the unobserved holidays.");
+		
+		assertThrows(IllegalArgumentException.class, () -> holidays.setUnobserved(Set.of("BOXING_DAY")), "Invalid holiday name accepted.");
+		
+		assertTrue(holidays.isDayUnobserved(HolidayEnum.LABOR_DAY), "Invalid configuration replaced the unobserved holidays.");
+	}
+}